@@ -37,12 +37,17 @@ public class BlogPostApiResponses {
 
     @Target(ElementType.METHOD)
     @Retention(RetentionPolicy.RUNTIME)
-    @Operation(summary = "Get published blog posts", description = "Retrieve a list of all published blog posts (public view)")
+    @Operation(summary = "Get published blog posts",
+            description = "Retrieve a list of all published blog posts (public view), gzip-encoded when the client accepts it, with an ETag for conditional requests")
     @ApiResponses({
             @ApiResponse(
                     responseCode = "200",
                     description = "Published posts retrieved successfully",
-                    content = @Content(schema = @Schema(implementation = Response.class))
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = Response.class))
+            ),
+            @ApiResponse(
+                    responseCode = "304",
+                    description = "Published posts unchanged since the ETag in If-None-Match"
             ),
             @ApiResponse(
                     responseCode = "500",
@@ -406,4 +411,21 @@ public class BlogPostApiResponses {
             )
     })
     public @interface RemoveTag {}
+
+    @Target(ElementType.METHOD)
+    @Retention(RetentionPolicy.RUNTIME)
+    @Operation(summary = "Get trending blog posts", description = "Retrieve published blog posts ranked by exponentially time-decayed recent views")
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Trending blog posts retrieved successfully",
+                    content = @Content(schema = @Schema(implementation = Response.class))
+            ),
+            @ApiResponse(
+                    responseCode = "500",
+                    description = "Internal server error",
+                    content = @Content(schema = @Schema(implementation = Response.class))
+            )
+    })
+    public @interface GetTrending {}
 }
@@ -94,6 +94,60 @@ public class BlogPostImageApiResponses {
     })
     public @interface Upload {}
 
+    @Target(ElementType.METHOD)
+    @Retention(RetentionPolicy.RUNTIME)
+    @Operation(summary = "Upload blog post image asynchronously", description = "Stage an image for a blog post and upload it in the background")
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "202",
+                    description = "Upload accepted; poll the upload job for the result",
+                    content = @Content(schema = @Schema(implementation = Response.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid file or request data",
+                    content = @Content(schema = @Schema(implementation = Response.class))
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Blog post not found",
+                    content = @Content(schema = @Schema(implementation = Response.class))
+            ),
+            @ApiResponse(
+                    responseCode = "503",
+                    description = "Upload queue is full",
+                    content = @Content(schema = @Schema(implementation = Response.class))
+            )
+    })
+    public @interface UploadAsync {}
+
+    @Target(ElementType.METHOD)
+    @Retention(RetentionPolicy.RUNTIME)
+    @Operation(summary = "Upload blog post images in a batch", description = "Upload several images for a blog post at once; either every image is added or none is")
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "201",
+                    description = "Images uploaded successfully",
+                    content = @Content(schema = @Schema(implementation = Response.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid files, too many files, or image limit exceeded",
+                    content = @Content(schema = @Schema(implementation = Response.class))
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Blog post not found",
+                    content = @Content(schema = @Schema(implementation = Response.class))
+            ),
+            @ApiResponse(
+                    responseCode = "503",
+                    description = "Upload pool is busy",
+                    content = @Content(schema = @Schema(implementation = Response.class))
+            )
+    })
+    public @interface UploadBatch {}
+
     @Target(ElementType.METHOD)
     @Retention(RetentionPolicy.RUNTIME)
     @Operation(summary = "Update image metadata", description = "Update metadata for an existing image")
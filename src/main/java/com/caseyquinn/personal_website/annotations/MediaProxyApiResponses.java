@@ -0,0 +1,63 @@
+package com.caseyquinn.personal_website.annotations;
+
+import com.caseyquinn.personal_website.dto.response.Response;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Reusable Swagger response annotations for MediaProxyController endpoints.
+ * Each inner interface documents the expected HTTP status codes and response models.
+ */
+public class MediaProxyApiResponses {
+
+    @Target(ElementType.METHOD)
+    @Retention(RetentionPolicy.RUNTIME)
+    @Operation(summary = "Get media",
+            description = "Serve a Cloudinary asset from the local cache with ETag and Range support, fetching it on a miss, or redirect to Cloudinary if it is too large to cache")
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Media file"
+            ),
+            @ApiResponse(
+                    responseCode = "206",
+                    description = "Requested byte range of the media file"
+            ),
+            @ApiResponse(
+                    responseCode = "302",
+                    description = "Redirect to the asset on Cloudinary"
+            ),
+            @ApiResponse(
+                    responseCode = "304",
+                    description = "Media unchanged since the ETag in If-None-Match"
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Media not found",
+                    content = @Content(schema = @Schema(implementation = Response.class))
+            ),
+            @ApiResponse(
+                    responseCode = "416",
+                    description = "Requested range not satisfiable"
+            ),
+            @ApiResponse(
+                    responseCode = "502",
+                    description = "Media could not be fetched from Cloudinary",
+                    content = @Content(schema = @Schema(implementation = Response.class))
+            ),
+            @ApiResponse(
+                    responseCode = "503",
+                    description = "Too many media files are being fetched",
+                    content = @Content(schema = @Schema(implementation = Response.class))
+            )
+    })
+    public @interface Get {}
+}
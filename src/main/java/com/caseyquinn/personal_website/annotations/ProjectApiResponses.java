@@ -20,12 +20,17 @@ public class ProjectApiResponses {
 
     @Target(ElementType.METHOD)
     @Retention(RetentionPolicy.RUNTIME)
-    @Operation(summary = "Get all projects", description = "Retrieve a list of all projects")
+    @Operation(summary = "Get all projects",
+            description = "Retrieve a list of all projects, gzip-encoded when the client accepts it, with an ETag for conditional requests")
     @ApiResponses({
             @ApiResponse(
                     responseCode = "200",
                     description = "Projects retrieved successfully",
-                    content = @Content(schema = @Schema(implementation = Response.class))
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = Response.class))
+            ),
+            @ApiResponse(
+                    responseCode = "304",
+                    description = "Projects unchanged since the ETag in If-None-Match"
             ),
             @ApiResponse(
                     responseCode = "500",
@@ -226,4 +231,21 @@ public class ProjectApiResponses {
             )
     })
     public @interface IncrementViewCount {}
+
+    @Target(ElementType.METHOD)
+    @Retention(RetentionPolicy.RUNTIME)
+    @Operation(summary = "Get trending projects", description = "Retrieve published projects ranked by exponentially time-decayed recent views")
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Trending projects retrieved successfully",
+                    content = @Content(schema = @Schema(implementation = Response.class))
+            ),
+            @ApiResponse(
+                    responseCode = "500",
+                    description = "Internal server error",
+                    content = @Content(schema = @Schema(implementation = Response.class))
+            )
+    })
+    public @interface GetTrending {}
 }
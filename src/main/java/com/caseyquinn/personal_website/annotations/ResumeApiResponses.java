@@ -42,12 +42,31 @@ public class ResumeApiResponses {
 
     @Target(ElementType.METHOD)
     @Retention(RetentionPolicy.RUNTIME)
-    @Operation(summary = "Download resume", description = "Redirect to the resume PDF download URL")
+    @Operation(summary = "Download resume",
+            description = "Serve the resume PDF with ETag and Range support, or redirect to its download URL while it is not cached locally")
     @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Resume PDF",
+                    content = @Content(mediaType = "application/pdf")
+            ),
+            @ApiResponse(
+                    responseCode = "206",
+                    description = "Requested byte range of the resume PDF",
+                    content = @Content(mediaType = "application/pdf")
+            ),
             @ApiResponse(
                     responseCode = "302",
                     description = "Redirect to resume download URL"
             ),
+            @ApiResponse(
+                    responseCode = "304",
+                    description = "Resume unchanged since the ETag in If-None-Match"
+            ),
+            @ApiResponse(
+                    responseCode = "416",
+                    description = "Requested range not satisfiable"
+            ),
             @ApiResponse(
                     responseCode = "404",
                     description = "No active resume found",
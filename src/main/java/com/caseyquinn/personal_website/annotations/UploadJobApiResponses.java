@@ -0,0 +1,37 @@
+package com.caseyquinn.personal_website.annotations;
+
+import com.caseyquinn.personal_website.dto.response.Response;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Reusable Swagger response annotations for UploadJobController endpoints.
+ * Each inner interface documents the expected HTTP status codes and response models.
+ */
+public class UploadJobApiResponses {
+
+    @Target(ElementType.METHOD)
+    @Retention(RetentionPolicy.RUNTIME)
+    @Operation(summary = "Get upload job", description = "Get the status of an asynchronous upload and, once it succeeds, the created image")
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Upload job retrieved successfully",
+                    content = @Content(schema = @Schema(implementation = Response.class))
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Upload job not found or expired",
+                    content = @Content(schema = @Schema(implementation = Response.class))
+            )
+    })
+    public @interface GetById {}
+}
@@ -51,7 +51,8 @@ public class CacheConfig {
                 CACHE_BLOG_POSTS, defaultConfig.entryTtl(Duration.ofMinutes(20)),
                 CACHE_BLOG_CATEGORIES, defaultConfig.entryTtl(Duration.ofMinutes(30)),
                 CACHE_BLOG_TAGS, defaultConfig.entryTtl(Duration.ofMinutes(30)),
-                CACHE_RESUME, defaultConfig.entryTtl(Duration.ofMinutes(60))
+                CACHE_RESUME, defaultConfig.entryTtl(Duration.ofMinutes(60)),
+                CACHE_TRENDING, defaultConfig.entryTtl(Duration.ofMinutes(30))
         );
 
         return RedisCacheManager.builder(connectionFactory)
@@ -0,0 +1,79 @@
+package com.caseyquinn.personal_website.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for the Cloudinary deletion queue and the orphan sweep.
+ * Each poll makes at most one bulk delete call per resource type, which keeps the worker well
+ * inside Cloudinary's hourly Admin API limit.
+ */
+@Component
+@ConfigurationProperties(prefix = "app.cloudinary-deletions")
+@Getter
+@Setter
+public class CloudinaryDeletionProperties {
+
+    /**
+     * Delay between worker runs.
+     */
+    private Duration pollInterval = Duration.ofSeconds(30);
+
+    /**
+     * Maximum assets deleted per bulk call (Cloudinary accepts up to 100).
+     */
+    private int batchSize = 100;
+
+    /**
+     * How long a queued asset waits before its first delete attempt. The transaction that queued
+     * it has finished by then, so if it rolled back the asset is still referenced and is kept.
+     */
+    private Duration initialDelay = Duration.ofSeconds(30);
+
+    /**
+     * How long claimed deletions stay hidden from other workers; covers a crash mid-call.
+     */
+    private Duration lease = Duration.ofMinutes(2);
+
+    /**
+     * Attempts before a deletion is marked FAILED.
+     */
+    private int maxAttempts = 10;
+
+    /**
+     * Delay before the first retry; doubles with every further attempt.
+     */
+    private Duration initialBackoff = Duration.ofMinutes(1);
+
+    /**
+     * Upper bound on the retry delay.
+     */
+    private Duration maxBackoff = Duration.ofHours(6);
+
+    /**
+     * Whether the periodic sweep for orphaned remote assets runs.
+     */
+    private boolean sweepEnabled = true;
+
+    /**
+     * Whether the orphan sweep only logs and counts what it would queue. On by default; turn it
+     * off once the logged orphans have been checked against the site.
+     */
+    private boolean sweepDryRun = true;
+
+    /**
+     * Remote assets younger than this are never treated as orphans, so uploads whose rows are
+     * not saved yet are left alone.
+     */
+    private Duration orphanGracePeriod = Duration.ofDays(1);
+
+    /**
+     * If a sweep finds more orphans than this, nothing is queued and an error is logged instead,
+     * since that points to misconfiguration rather than leaked assets.
+     */
+    private int maxOrphansPerSweep = 200;
+}
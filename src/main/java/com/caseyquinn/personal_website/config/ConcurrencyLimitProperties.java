@@ -0,0 +1,67 @@
+package com.caseyquinn.personal_website.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Configuration properties for the adaptive concurrency limiter in front of the API.
+ */
+@Component
+@ConfigurationProperties(prefix = "app.concurrency-limit")
+@Getter
+@Setter
+public class ConcurrencyLimitProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * Concurrent requests allowed before any latency has been observed.
+     */
+    private int initialLimit = 20;
+
+    /**
+     * The limit never drops below this, so a latency blip cannot starve the API.
+     */
+    private int minLimit = 4;
+
+    /**
+     * The limit never grows above this.
+     */
+    private int maxLimit = 100;
+
+    /**
+     * How far recent latency may rise above the long-term baseline before the limit shrinks.
+     */
+    private double rttTolerance = 2.0;
+
+    /**
+     * Fraction of each computed adjustment applied to the limit; lower values react more slowly.
+     */
+    private double smoothing = 0.2;
+
+    /**
+     * Number of samples the long-term latency baseline averages over.
+     */
+    private int longWindow = 600;
+
+    /**
+     * Share of the limit available to requests that are not priority reads.
+     */
+    private double standardShare = 0.75;
+
+    /**
+     * Retry-After sent with shed requests.
+     */
+    private Duration retryAfter = Duration.ofSeconds(1);
+
+    /**
+     * GET paths served from cache; these may use the full limit.
+     */
+    private List<String> priorityPatterns = new ArrayList<>();
+}
@@ -0,0 +1,65 @@
+package com.caseyquinn.personal_website.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for the contact email outbox and its dispatcher.
+ * Each poll makes at most one batched confirmation call and one owner email, which bounds
+ * the send rate regardless of how fast submissions arrive.
+ */
+@Component
+@ConfigurationProperties(prefix = "app.email-outbox")
+@Getter
+@Setter
+public class EmailOutboxProperties {
+
+    /**
+     * Delay between dispatcher runs.
+     */
+    private Duration pollInterval = Duration.ofSeconds(5);
+
+    /**
+     * Maximum confirmation emails sent per run in one batched call (Resend accepts up to 100).
+     */
+    private int batchSize = 20;
+
+    /**
+     * How long claimed messages stay hidden from other dispatchers; covers a crash mid-send.
+     */
+    private Duration lease = Duration.ofMinutes(2);
+
+    /**
+     * Attempts before a message is marked FAILED.
+     */
+    private int maxAttempts = 8;
+
+    /**
+     * Delay before the first retry; doubles with every further attempt.
+     */
+    private Duration initialBackoff = Duration.ofSeconds(30);
+
+    /**
+     * Upper bound on the retry delay.
+     */
+    private Duration maxBackoff = Duration.ofHours(1);
+
+    /**
+     * Minimum gap between owner notification emails; submissions arriving within it are sent as one digest.
+     */
+    private Duration digestWindow = Duration.ofMinutes(2);
+
+    /**
+     * Maximum submissions listed in one digest.
+     */
+    private int digestMaxItems = 50;
+
+    /**
+     * Sent messages older than this are purged.
+     */
+    private Duration retention = Duration.ofDays(14);
+}
@@ -5,6 +5,8 @@ import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Set;
 
 /**
@@ -19,10 +21,69 @@ public class ImageProperties {
     private int maxPerProject = 20;
     private int maxPerBlogPost = 20;
     private long maxFileSize = 10485760;
+    private int maxFilesPerBatch = 10;
     private Set<String> allowedContentTypes = Set.of(
         "image/jpeg",
         "image/png",
         "image/gif",
         "image/webp"
     );
+
+    /**
+     * Downscaled copies generated at upload time. Variants at least as wide as the original are skipped.
+     */
+    private List<Variant> variants = new ArrayList<>(List.of(
+        new Variant("thumbnail", 320),
+        new Variant("card", 768),
+        new Variant("full", 1600)
+    ));
+
+    /**
+     * Longer edge in pixels of the inline placeholder. Each step up roughly doubles its size in the response.
+     */
+    private int placeholderSize = 16;
+
+    /**
+     * Threads decoding and resizing images. Each holds a fully decoded image, so keep this small.
+     */
+    private int processingThreads = 2;
+
+    /**
+     * Images that may wait for a processing thread; further uploads are rejected with 503.
+     */
+    private int processingQueueCapacity = 20;
+
+    /**
+     * Images larger than this are stored without variants rather than decoded.
+     */
+    private long maxDecodePixels = 40_000_000;
+
+    /**
+     * JPEG quality for variants of opaque images, from 0 to 1.
+     */
+    private float variantJpegQuality = 0.85f;
+
+    /**
+     * Named image variant with the maximum width it is scaled to.
+     */
+    @Getter
+    @Setter
+    public static class Variant {
+        private String name;
+        private int width;
+
+        public Variant() {
+        }
+
+        /**
+         * Constructs a variant with the specified name and width.
+         *
+         * @param name variant name, appended to the original's public ID
+         * @param width maximum width in pixels
+         */
+        public Variant(String name, int width) {
+            this.name = name;
+            this.width = width;
+        }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,72 @@
+package com.caseyquinn.personal_website.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Configuration properties for the caching proxy that serves Cloudinary assets under {@code /media/**}.
+ */
+@Component
+@ConfigurationProperties(prefix = "app.media-proxy")
+@Getter
+@Setter
+public class MediaProxyProperties {
+
+    /**
+     * Whether the {@code /media/**} endpoint is registered.
+     */
+    private boolean enabled = false;
+
+    /**
+     * Base URL assets are fetched from on a cache miss, without a trailing slash.
+     */
+    private String origin;
+
+    /**
+     * Asset path prefixes, relative to the origin, that may be proxied.
+     */
+    private List<String> allowedPrefixes = List.of("image/upload/", "raw/upload/");
+
+    /**
+     * Where cached assets are kept. Emptied at startup.
+     */
+    private Path cacheDirectory = Path.of(System.getProperty("java.io.tmpdir"), "personal-website-media");
+
+    /**
+     * Upper bound on the cached assets; the least recently served are removed first.
+     */
+    private DataSize maxCacheSize = DataSize.ofGigabytes(1);
+
+    /**
+     * Assets larger than this are not cached; requests for them are redirected to the origin.
+     */
+    private DataSize maxEntrySize = DataSize.ofMegabytes(25);
+
+    /**
+     * Time allowed for fetching an asset from the origin.
+     */
+    private Duration fetchTimeout = Duration.ofSeconds(20);
+
+    /**
+     * Upper bound on concurrent origin fetches across all assets.
+     */
+    private int maxConcurrentFetches = 8;
+
+    /**
+     * How long browsers may cache an asset whose URL carries a Cloudinary version, which never
+     * changes content.
+     */
+    private Duration versionedMaxAge = Duration.ofDays(365);
+
+    /**
+     * How long browsers may cache an asset whose URL has no version before revalidating it by ETag.
+     */
+    private Duration unversionedMaxAge = Duration.ofHours(1);
+}
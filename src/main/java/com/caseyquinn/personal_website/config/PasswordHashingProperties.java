@@ -0,0 +1,41 @@
+package com.caseyquinn.personal_website.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for the dedicated password hashing pool.
+ */
+@Component
+@ConfigurationProperties(prefix = "app.password-hashing")
+@Getter
+@Setter
+public class PasswordHashingProperties {
+
+    /**
+     * Share of available processors that password hashing may occupy; at least one thread is always used.
+     */
+    private double cpuShare = 0.25;
+
+    /**
+     * Hash requests allowed to wait for a thread before new ones are rejected.
+     */
+    private int queueCapacity = 16;
+
+    /**
+     * Longest a request thread waits for a queued hash before giving up. Bounds caller latency only:
+     * a hash that has already started runs to completion on its thread.
+     */
+    private Duration timeout = Duration.ofSeconds(5);
+
+    /**
+     * @return number of hashing threads for this machine
+     */
+    public int threadCount() {
+        return Math.max(1, (int) Math.round(Runtime.getRuntime().availableProcessors() * cpuShare));
+    }
+}
@@ -5,9 +5,15 @@ import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
 /**
  * Configuration properties for rate limiting.
- * Configurable per-tier rate limits via application.yml.
+ * Configurable per-tier rate limits and per-route token costs via application.yml.
  */
 @Component
 @ConfigurationProperties(prefix = "rate-limiting")
@@ -19,6 +25,10 @@ public class RateLimitProperties {
     private Tier publicApi = new Tier(60, 1);
     private Tier login = new Tier(5, 1);
     private Tier adminApi = new Tier(30, 1);
+    private int maxBucketsPerTier = 50000;
+    private Duration bucketSweepInterval = Duration.ofMinutes(1);
+    private Distributed distributed = new Distributed();
+    private List<Route> routes = new ArrayList<>();
 
     /**
      * Rate limit tier with configurable request count and duration.
@@ -43,4 +53,32 @@ public class RateLimitProperties {
             this.durationMinutes = durationMinutes;
         }
     }
+
+    /**
+     * Route-specific rate limit rule. Routes are matched in declaration order and the first match wins.
+     * A route without its own limit charges its cost against the request's tier bucket.
+     */
+    @Getter
+    @Setter
+    public static class Route {
+        private String name;
+        private String pattern;
+        private Set<String> methods = new LinkedHashSet<>();
+        private int cost = 1;
+        private Tier limit;
+    }
+
+    /**
+     * Redis-backed limiting shared across application replicas.
+     */
+    @Getter
+    @Setter
+    public static class Distributed {
+        private boolean enabled = false;
+        private String keyPrefix = "rate-limit:";
+        private Duration commandTimeout = Duration.ofMillis(250);
+        private int maxUnsynchronizedTokens = 5;
+        private Duration maxUnsynchronizedTimeout = Duration.ofMillis(500);
+        private Duration fallbackCooldown = Duration.ofSeconds(30);
+    }
 }
@@ -0,0 +1,59 @@
+package com.caseyquinn.personal_website.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Configuration properties for serving the resume download from a local file cache.
+ */
+@Component
+@ConfigurationProperties(prefix = "app.resume.delivery")
+@Getter
+@Setter
+public class ResumeDeliveryProperties {
+
+    /**
+     * How the download endpoint delivers the resume.
+     */
+    private Mode mode = Mode.LOCAL;
+
+    /**
+     * Where cached resume files are kept. Emptied at startup.
+     */
+    private Path cacheDirectory = Path.of(System.getProperty("java.io.tmpdir"), "personal-website-resumes");
+
+    /**
+     * Upper bound on the cached files; the least recently served are removed first.
+     */
+    private DataSize maxCacheSize = DataSize.ofMegabytes(50);
+
+    /**
+     * Time allowed for fetching a resume from Cloudinary into the cache.
+     */
+    private Duration fetchTimeout = Duration.ofSeconds(30);
+
+    /**
+     * How long browsers may reuse a served resume before revalidating it by ETag.
+     */
+    private Duration maxAge = Duration.ofMinutes(10);
+
+    /**
+     * Delivery modes for the resume download endpoint.
+     */
+    public enum Mode {
+        /**
+         * Serve a verified local copy, redirecting to Cloudinary until it is cached.
+         */
+        LOCAL,
+        /**
+         * Always redirect to Cloudinary.
+         */
+        REDIRECT
+    }
+}
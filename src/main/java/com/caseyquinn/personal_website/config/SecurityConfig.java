@@ -1,7 +1,10 @@
 package com.caseyquinn.personal_website.config;
 
+import com.caseyquinn.personal_website.security.BoundedPasswordEncoder;
+import com.caseyquinn.personal_website.security.ConcurrencyLimitFilter;
 import com.caseyquinn.personal_website.security.JwtAuthenticationFilter;
 import com.caseyquinn.personal_website.security.RateLimitFilter;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -37,13 +40,15 @@ public class SecurityConfig {
 
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
     private final RateLimitFilter rateLimitFilter;
+    private final ConcurrencyLimitFilter concurrencyLimitFilter;
     private final UserDetailsService userDetailsService;
 
     /**
      * Configures HTTP security including public/protected endpoints.
      */
     @Bean
-    public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain securityFilterChain(HttpSecurity http,
+                                                   AuthenticationProvider authenticationProvider) throws Exception {
         http
                 .csrf(AbstractHttpConfigurer::disable)
                 .cors(cors -> cors.configurationSource(corsConfigurationSource()))
@@ -64,6 +69,7 @@ public class SecurityConfig {
                         .requestMatchers(HttpMethod.GET, "/api/v1/certifications/**").permitAll()
                         .requestMatchers(HttpMethod.GET, "/api/v1/blog/**").permitAll()
                         .requestMatchers(HttpMethod.GET, "/api/v1/resume/**").permitAll()
+                        .requestMatchers(HttpMethod.GET, "/media/**").permitAll()
 
                         // Contact form - public submission, admin management
                         .requestMatchers(HttpMethod.POST, "/api/v1/contact").permitAll()
@@ -87,13 +93,15 @@ public class SecurityConfig {
                         .requestMatchers(HttpMethod.POST, "/api/v1/resume/**").hasRole("ADMIN")
                         .requestMatchers(HttpMethod.PUT, "/api/v1/resume/**").hasRole("ADMIN")
                         .requestMatchers(HttpMethod.DELETE, "/api/v1/resume/**").hasRole("ADMIN")
+                        .requestMatchers("/api/v1/upload-jobs/**").hasRole("ADMIN")
 
                         // All other requests require authentication
                         .anyRequest().authenticated()
                 )
-                .authenticationProvider(authenticationProvider())
+                .authenticationProvider(authenticationProvider)
                 .addFilterBefore(rateLimitFilter, UsernamePasswordAuthenticationFilter.class)
-                .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
+                .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
+                .addFilterAfter(concurrencyLimitFilter, UsernamePasswordAuthenticationFilter.class);
 
         return http.build();
     }
@@ -121,21 +129,22 @@ public class SecurityConfig {
     }
 
     /**
-     * Password encoder using BCrypt.
+     * Password encoder using BCrypt, run on a dedicated bounded pool so hashing cannot starve request threads.
      */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(PasswordHashingProperties passwordHashingProperties,
+                                           MeterRegistry meterRegistry) {
+        return new BoundedPasswordEncoder(new BCryptPasswordEncoder(), passwordHashingProperties, meterRegistry);
     }
 
     /**
      * Authentication provider for username/password authentication.
      */
     @Bean
-    public AuthenticationProvider authenticationProvider() {
+    public AuthenticationProvider authenticationProvider(PasswordEncoder passwordEncoder) {
         DaoAuthenticationProvider authProvider = new DaoAuthenticationProvider();
         authProvider.setUserDetailsService(userDetailsService);
-        authProvider.setPasswordEncoder(passwordEncoder());
+        authProvider.setPasswordEncoder(passwordEncoder);
         return authProvider;
     }
 
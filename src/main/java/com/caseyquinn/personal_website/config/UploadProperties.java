@@ -0,0 +1,45 @@
+package com.caseyquinn.personal_website.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Configuration properties for staging uploads on local disk and the asynchronous upload job pool.
+ */
+@Component
+@ConfigurationProperties(prefix = "app.uploads")
+@Getter
+@Setter
+public class UploadProperties {
+
+    /**
+     * Where uploads are staged before being sent to Cloudinary. Keep it on the same filesystem as
+     * Tomcat's multipart location so that staging a spooled part is a rename rather than a copy.
+     */
+    private Path stagingDirectory = Path.of(System.getProperty("java.io.tmpdir"), "personal-website-uploads");
+
+    /**
+     * Threads uploading queued jobs to Cloudinary.
+     */
+    private int workerThreads = 2;
+
+    /**
+     * Jobs that may wait for a worker; further submissions are rejected with 503.
+     */
+    private int queueCapacity = 20;
+
+    /**
+     * Files from one batch request uploaded to Cloudinary at the same time.
+     */
+    private int batchParallelism = 4;
+
+    /**
+     * How long finished jobs stay available to the status endpoint.
+     */
+    private Duration jobRetention = Duration.ofHours(1);
+}
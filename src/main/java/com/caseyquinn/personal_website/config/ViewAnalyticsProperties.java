@@ -0,0 +1,59 @@
+package com.caseyquinn.personal_website.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for time-bucketed view analytics and trending scores.
+ */
+@Component
+@ConfigurationProperties(prefix = "app.view-analytics")
+@Getter
+@Setter
+public class ViewAnalyticsProperties {
+
+    /**
+     * How often in-memory hourly buckets are written to the rollup table.
+     */
+    private Duration flushInterval = Duration.ofMinutes(1);
+
+    /**
+     * Maximum number of hourly buckets held in memory between flushes; views for new buckets
+     * are dropped beyond this.
+     */
+    private int maxBufferedBuckets = 20000;
+
+    /**
+     * Hourly buckets older than this are compacted into daily buckets.
+     */
+    private Duration hourlyRetention = Duration.ofDays(7);
+
+    /**
+     * Daily buckets older than this are compacted into monthly buckets.
+     */
+    private Duration dailyRetention = Duration.ofDays(90);
+
+    /**
+     * How far back views contribute to trending scores.
+     */
+    private Duration trendingWindow = Duration.ofDays(14);
+
+    /**
+     * Age at which a view's contribution to the trending score halves.
+     */
+    private Duration trendingHalfLife = Duration.ofHours(48);
+
+    /**
+     * How often trending rankings are recomputed and re-cached.
+     */
+    private Duration trendingRefreshInterval = Duration.ofMinutes(10);
+
+    /**
+     * Maximum number of items kept in each trending list.
+     */
+    private int trendingMaxItems = 20;
+}
@@ -0,0 +1,50 @@
+package com.caseyquinn.personal_website.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for write-behind view count buffering.
+ */
+@Component
+@ConfigurationProperties(prefix = "app.view-counts")
+@Getter
+@Setter
+public class ViewCountProperties {
+
+    /**
+     * How often buffered view deltas are flushed to the database.
+     */
+    private Duration flushInterval = Duration.ofSeconds(5);
+
+    /**
+     * Maximum number of distinct entities buffered per target type between flushes.
+     * Views for new entities beyond this bound are dropped and counted, capping memory use.
+     */
+    private int maxBufferedEntities = 10_000;
+
+    /**
+     * Repeat views of the same content by the same visitor within this window are ignored.
+     */
+    private Duration dedupWindow = Duration.ofMinutes(30);
+
+    /**
+     * Maximum number of (content, visitor) pairs remembered for deduplication.
+     * When full, views are counted without deduplication until expired entries are purged.
+     */
+    private int dedupMaxEntries = 100_000;
+
+    /**
+     * How often unique-visitor sketch estimates are written to the database.
+     */
+    private Duration uniqueVisitorSyncInterval = Duration.ofMinutes(1);
+
+    /**
+     * How long per-day unique-visitor sketches are kept in Redis.
+     */
+    private Duration dailySketchRetention = Duration.ofDays(2);
+}
@@ -19,6 +19,7 @@ public final class CacheConstants {
     public static final String CACHE_BLOG_CATEGORIES = "blog_categories";
     public static final String CACHE_BLOG_TAGS = "blog_tags";
     public static final String CACHE_RESUME = "resume";
+    public static final String CACHE_TRENDING = "trending";
 
     // ── Key Prefixes ─────────────────────────────────────────────────────
 
@@ -2,7 +2,7 @@ package com.caseyquinn.personal_website.constants;
 
 /**
  * Constants for Cloudinary API parameter keys and response keys.
- * Scoped to Cloudinary integration — used by CloudinaryService.
+ * Scoped to Cloudinary integration — used by CloudinaryService and the deletion queue and orphan sweep.
  */
 public final class CloudinaryConstants {
 
@@ -18,6 +18,12 @@ public final class CloudinaryConstants {
     public static final String PARAM_PUBLIC_ID = "public_id";
     public static final String PARAM_OVERWRITE = "overwrite";
 
+    // Admin API parameter keys
+    public static final String PARAM_TYPE = "type";
+    public static final String PARAM_PREFIX = "prefix";
+    public static final String PARAM_MAX_RESULTS = "max_results";
+    public static final String PARAM_NEXT_CURSOR = "next_cursor";
+
     // Response keys
     public static final String RESPONSE_URL = "url";
     public static final String RESPONSE_SECURE_URL = "secure_url";
@@ -26,13 +32,26 @@ public final class CloudinaryConstants {
     public static final String RESPONSE_BYTES = "bytes";
     public static final String RESPONSE_WIDTH = "width";
     public static final String RESPONSE_HEIGHT = "height";
-    public static final String RESPONSE_RESULT = "result";
+    public static final String RESPONSE_DELETED = "deleted";
+    public static final String RESPONSE_RESOURCES = "resources";
+    public static final String RESPONSE_NEXT_CURSOR = "next_cursor";
+    public static final String RESPONSE_CREATED_AT = "created_at";
+
+    // Per-asset results of a bulk delete
+    public static final String DELETE_RESULT_DELETED = "deleted";
+    public static final String DELETE_RESULT_NOT_FOUND = "not_found";
 
-    // Delete result values
-    public static final String DELETE_OK = "ok";
-    public static final String DELETE_NOT_FOUND = "not found";
+    // Admin API limits: public IDs per bulk delete, resources per listing page
+    public static final int MAX_DELETE_BATCH_SIZE = 100;
+    public static final int MAX_LIST_RESULTS = 500;
 
     // Resource type values
     public static final String RESOURCE_TYPE_IMAGE = "image";
     public static final String RESOURCE_TYPE_RAW = "raw";
+
+    // Delivery type of every asset this application uploads
+    public static final String DELIVERY_TYPE_UPLOAD = "upload";
+
+    // Appended to an image's public ID, followed by the variant name
+    public static final String VARIANT_SEPARATOR = "_";
 }
@@ -14,6 +14,7 @@ public final class EmailConstants {
 
     public static final String TEMPLATE_CONTACT_CONFIRMATION = "contact-confirmation";
     public static final String TEMPLATE_CONTACT_NOTIFICATION = "contact-notification";
+    public static final String TEMPLATE_CONTACT_DIGEST = "contact-digest";
 
     // ── Template Variable Keys ───────────────────────────────────────────
 
@@ -24,9 +25,15 @@ public final class EmailConstants {
     public static final String VAR_INQUIRY_TYPE = "inquiryType";
     public static final String VAR_IP_ADDRESS = "ipAddress";
     public static final String VAR_SUBMITTED_AT = "submittedAt";
+    public static final String VAR_SUBMISSIONS = "submissions";
 
     // ── Email Subjects ───────────────────────────────────────────────────
 
     public static final String SUBJECT_CONTACT_CONFIRMATION = "Thank you for reaching out!";
     public static final String SUBJECT_NEW_CONTACT_PREFIX = "New Contact Submission: ";
+    public static final String SUBJECT_CONTACT_DIGEST_FORMAT = "%d New Contact Submissions";
+
+    // ── Sending Limits ───────────────────────────────────────────────────
+
+    public static final int MAX_BATCH_SIZE = 100;
 }
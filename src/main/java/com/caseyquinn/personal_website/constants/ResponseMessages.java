@@ -13,6 +13,7 @@ public final class ResponseMessages {
     // ── Auth ──────────────────────────────────────────────────────────────
 
     public static final String LOGIN_SUCCESSFUL = "Login successful";
+    public static final String TOKEN_REFRESHED = "Token refreshed successfully";
 
     // ── Projects ─────────────────────────────────────────────────────────
 
@@ -22,10 +23,12 @@ public final class ResponseMessages {
     public static final String PROJECT_UPDATED = "Project updated successfully";
     public static final String PROJECT_DELETED = "Project deleted successfully";
     public static final String FEATURED_PROJECTS_RETRIEVED = "Featured projects retrieved successfully";
+    public static final String TRENDING_PROJECTS_RETRIEVED = "Trending projects retrieved successfully";
 
     // ── Project Images ───────────────────────────────────────────────────
 
     public static final String IMAGE_UPLOADED = "Image uploaded successfully";
+    public static final String IMAGES_UPLOADED = "Images uploaded successfully";
     public static final String IMAGES_RETRIEVED = "Images retrieved successfully";
     public static final String IMAGE_RETRIEVED = "Image retrieved successfully";
     public static final String IMAGE_METADATA_UPDATED = "Image metadata updated successfully";
@@ -66,6 +69,7 @@ public final class ResponseMessages {
 
     public static final String BLOG_POSTS_RETRIEVED = "Blog posts retrieved successfully";
     public static final String PUBLISHED_BLOG_POSTS_RETRIEVED = "Published blog posts retrieved successfully";
+    public static final String TRENDING_BLOG_POSTS_RETRIEVED = "Trending blog posts retrieved successfully";
     public static final String BLOG_POST_RETRIEVED = "Blog post retrieved successfully";
     public static final String BLOG_POST_CREATED = "Blog post created successfully";
     public static final String BLOG_POST_UPDATED = "Blog post updated successfully";
@@ -98,6 +102,7 @@ public final class ResponseMessages {
     // ── Blog Post Images ─────────────────────────────────────────────────
 
     public static final String BLOG_IMAGE_UPLOADED = "Blog post image uploaded successfully";
+    public static final String BLOG_IMAGES_UPLOADED = "Blog post images uploaded successfully";
     public static final String BLOG_IMAGES_RETRIEVED = "Blog post images retrieved successfully";
     public static final String BLOG_IMAGE_RETRIEVED = "Blog post image retrieved successfully";
     public static final String BLOG_IMAGE_UPDATED = "Blog post image updated successfully";
@@ -111,6 +116,7 @@ public final class ResponseMessages {
     public static final String SUBMISSION_RETRIEVED = "Submission retrieved successfully";
     public static final String SUBMISSION_STATUS_UPDATED = "Submission status updated successfully";
     public static final String SUBMISSION_DELETED = "Submission deleted successfully";
+    public static final String SUBMISSIONS_PAGE_RETRIEVED = "Submissions page retrieved successfully";
 
     // ── Resume ───────────────────────────────────────────────────────────
 
@@ -118,6 +124,11 @@ public final class ResponseMessages {
     public static final String RESUME_UPLOADED = "Resume uploaded successfully";
     public static final String RESUME_DELETED = "Resume deleted successfully";
 
+    // ── Upload Jobs ──────────────────────────────────────────────────────
+
+    public static final String UPLOAD_JOB_ACCEPTED = "Upload accepted for processing";
+    public static final String UPLOAD_JOB_RETRIEVED = "Upload job retrieved successfully";
+
     // ── Operations ───────────────────────────────────────────────────────
 
     public static final String SERVICE_HEALTHY = "Service is healthy";
@@ -14,6 +14,8 @@ public final class SecurityConstants {
     public static final String HEADER_AUTHORIZATION = "Authorization";
     public static final String BEARER_PREFIX = "Bearer ";
     public static final int BEARER_PREFIX_LENGTH = 7;
+    public static final String CLAIM_USER_ID = "uid";
+    public static final String CLAIM_ROLES = "roles";
 
     // ── Rate Limit Tiers ─────────────────────────────────────────────────
 
@@ -4,6 +4,7 @@ import static com.caseyquinn.personal_website.constants.ResponseMessages.*;
 
 import com.caseyquinn.personal_website.annotations.AuthApiResponses;
 import com.caseyquinn.personal_website.dto.request.LoginRequest;
+import com.caseyquinn.personal_website.dto.request.RefreshTokenRequest;
 import com.caseyquinn.personal_website.dto.response.AuthResponse;
 import com.caseyquinn.personal_website.dto.response.Response;
 import com.caseyquinn.personal_website.service.AuthService;
@@ -44,4 +45,18 @@ public class AuthController {
         AuthResponse authResponse = authService.login(request);
         return ResponseEntity.ok(Response.success(authResponse, LOGIN_SUCCESSFUL));
     }
+
+    /**
+     * Exchanges a refresh token for a new access token and a rotated refresh token.
+     *
+     * @param request the current refresh token
+     * @return response containing new tokens and user details
+     */
+    @AuthApiResponses.Refresh
+    @PostMapping("/refresh")
+    public ResponseEntity<Response<AuthResponse>> refresh(@Valid @RequestBody RefreshTokenRequest request) {
+        log.info("Processing token refresh request");
+        AuthResponse authResponse = authService.refresh(request);
+        return ResponseEntity.ok(Response.success(authResponse, TOKEN_REFRESHED));
+    }
 }
@@ -6,10 +6,15 @@ import com.caseyquinn.personal_website.dto.request.UpdateBlogPostRequest;
 import com.caseyquinn.personal_website.dto.response.BlogPostResponse;
 import com.caseyquinn.personal_website.dto.response.Response;
 import com.caseyquinn.personal_website.service.BlogPostService;
+import com.caseyquinn.personal_website.service.CompressedResponseCache;
+import com.caseyquinn.personal_website.service.TrendingService;
+import static com.caseyquinn.personal_website.constants.CacheConstants.CACHE_BLOG_POSTS;
 import static com.caseyquinn.personal_website.constants.ResponseMessages.*;
+import static com.caseyquinn.personal_website.util.HttpRequestUtils.visitorFingerprint;
 
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -42,7 +47,11 @@ import java.util.List;
 @Tag(name = "Blog Posts", description = "Blog post management APIs")
 public class BlogPostController {
 
+    private static final String PAYLOAD_KEY_PUBLISHED = "published";
+
     private final BlogPostService blogPostService;
+    private final TrendingService trendingService;
+    private final CompressedResponseCache compressedResponseCache;
 
     /**
      * Retrieves all blog posts (admin view).
@@ -58,16 +67,18 @@ public class BlogPostController {
     }
 
     /**
-     * Retrieves all published blog posts (public view).
+     * Retrieves all published blog posts (public view), from a body serialized and compressed
+     * once per cache fill.
      *
-     * @return response entity containing list of published posts
+     * @param request the HTTP request, whose Accept-Encoding and If-None-Match headers are honoured
+     * @return response entity containing the JSON list of published posts, gzipped if accepted
      */
     @BlogPostApiResponses.GetPublished
     @GetMapping("/published")
-    public ResponseEntity<Response<List<BlogPostResponse>>> getPublishedPosts() {
+    public ResponseEntity<byte[]> getPublishedPosts(HttpServletRequest request) {
         log.info("Fetching published blog posts");
-        List<BlogPostResponse> posts = blogPostService.getPublishedPosts();
-        return ResponseEntity.ok(Response.success(posts, PUBLISHED_BLOG_POSTS_RETRIEVED));
+        return compressedResponseCache.respond(request, CACHE_BLOG_POSTS, PAYLOAD_KEY_PUBLISHED,
+                () -> Response.success(blogPostService.getPublishedPosts(), PUBLISHED_BLOG_POSTS_RETRIEVED));
     }
 
     /**
@@ -85,6 +96,21 @@ public class BlogPostController {
         return ResponseEntity.ok(Response.success(posts, PUBLISHED_BLOG_POSTS_RETRIEVED));
     }
 
+    /**
+     * Retrieves published blog posts ranked by recent, time-decayed views (public view).
+     *
+     * @param limit maximum number of posts to return
+     * @return response entity containing list of trending posts
+     */
+    @BlogPostApiResponses.GetTrending
+    @GetMapping("/trending")
+    public ResponseEntity<Response<List<BlogPostResponse>>> getTrendingPosts(
+            @Parameter(description = "Maximum number of posts") @RequestParam(defaultValue = "10") int limit) {
+        log.info("Fetching trending blog posts, limit: {}", limit);
+        List<BlogPostResponse> posts = trendingService.getTrendingPosts(limit);
+        return ResponseEntity.ok(Response.success(posts, TRENDING_BLOG_POSTS_RETRIEVED));
+    }
+
     /**
      * Retrieves a specific blog post by its ID.
      *
@@ -101,17 +127,21 @@ public class BlogPostController {
     }
 
     /**
-     * Retrieves a blog post by its URL slug (public view, increments view count).
+     * Retrieves a blog post by its URL slug (public view, records a view).
+     * The post itself is served from cache; the view is counted in the background.
      *
      * @param slug the post slug
+     * @param httpRequest the HTTP request used to fingerprint the visitor
      * @return response entity containing the post
      */
     @BlogPostApiResponses.GetBySlug
     @GetMapping("/slug/{slug}")
     public ResponseEntity<Response<BlogPostResponse>> getPostBySlug(
-            @Parameter(description = "Post slug") @PathVariable String slug) {
+            @Parameter(description = "Post slug") @PathVariable String slug,
+            HttpServletRequest httpRequest) {
         log.info("Fetching blog post with slug: {}", slug);
         BlogPostResponse post = blogPostService.getPostBySlug(slug);
+        blogPostService.recordPostView(post.getId(), visitorFingerprint(httpRequest));
         return ResponseEntity.ok(Response.success(post, BLOG_POST_RETRIEVED));
     }
 
@@ -5,7 +5,10 @@ import com.caseyquinn.personal_website.dto.request.CreateBlogPostImageRequest;
 import com.caseyquinn.personal_website.dto.request.UpdateBlogPostImageRequest;
 import com.caseyquinn.personal_website.dto.response.BlogPostImageResponse;
 import com.caseyquinn.personal_website.dto.response.Response;
+import com.caseyquinn.personal_website.dto.response.UploadJobResponse;
+import com.caseyquinn.personal_website.service.BatchImageUploadService;
 import com.caseyquinn.personal_website.service.BlogPostImageService;
+import com.caseyquinn.personal_website.service.ImageUploadJobService;
 import static com.caseyquinn.personal_website.constants.ResponseMessages.*;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -28,6 +31,7 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.net.URI;
 import java.util.List;
 
 /**
@@ -41,7 +45,11 @@ import java.util.List;
 @Tag(name = "Blog Post Images", description = "Blog post image management APIs")
 public class BlogPostImageController {
 
+    private static final String UPLOAD_JOBS_PATH = "/api/v1/upload-jobs/";
+
     private final BlogPostImageService blogPostImageService;
+    private final ImageUploadJobService imageUploadJobService;
+    private final BatchImageUploadService batchImageUploadService;
 
     /**
      * Uploads a new image for a blog post.
@@ -64,6 +72,49 @@ public class BlogPostImageController {
                 .body(Response.success(response, BLOG_IMAGE_UPLOADED));
     }
 
+    /**
+     * Accepts an image for a blog post and uploads it in the background.
+     *
+     * @param postId the blog post ID
+     * @param file the image file to upload
+     * @param request the image metadata
+     * @return response entity containing the queued job with HTTP 202 status and its status URL
+     */
+    @BlogPostImageApiResponses.UploadAsync
+    @PostMapping(value = "/async", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<Response<UploadJobResponse>> uploadImageAsync(
+            @Parameter(description = "Blog post ID") @PathVariable Long postId,
+            @Parameter(description = "Image file to upload") @RequestParam("file") MultipartFile file,
+            @Parameter(description = "Image metadata") @Valid @ModelAttribute CreateBlogPostImageRequest request) {
+
+        log.info("Queueing image upload for blog post id: {}", postId);
+        UploadJobResponse job = imageUploadJobService.submitBlogPostImage(postId, file, request);
+        return ResponseEntity.accepted()
+                .location(URI.create(UPLOAD_JOBS_PATH + job.getJobId()))
+                .body(Response.success(job, UPLOAD_JOB_ACCEPTED));
+    }
+
+    /**
+     * Uploads several images for a blog post at once; either all of them are added or none is.
+     *
+     * @param postId the blog post ID
+     * @param files the image files to upload, in display order
+     * @param request the metadata shared by every image
+     * @return response entity containing the uploaded images with HTTP 201 status
+     */
+    @BlogPostImageApiResponses.UploadBatch
+    @PostMapping(value = "/batch", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<Response<List<BlogPostImageResponse>>> uploadImages(
+            @Parameter(description = "Blog post ID") @PathVariable Long postId,
+            @Parameter(description = "Image files to upload") @RequestParam("files") List<MultipartFile> files,
+            @Parameter(description = "Image metadata") @Valid @ModelAttribute CreateBlogPostImageRequest request) {
+
+        log.info("Uploading {} images for blog post id: {}", files.size(), postId);
+        List<BlogPostImageResponse> response = batchImageUploadService.uploadBlogPostImages(postId, files, request);
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(Response.success(response, BLOG_IMAGES_UPLOADED));
+    }
+
     /**
      * Retrieves all images for a blog post.
      *
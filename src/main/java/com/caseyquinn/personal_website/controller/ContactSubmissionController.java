@@ -1,31 +1,43 @@
 package com.caseyquinn.personal_website.controller;
 
 import com.caseyquinn.personal_website.annotations.ContactSubmissionApiResponses;
+import com.caseyquinn.personal_website.dto.request.ContactSubmissionFilterRequest;
 import com.caseyquinn.personal_website.dto.request.ContactSubmissionRequest;
 import com.caseyquinn.personal_website.dto.request.UpdateContactStatusRequest;
 import com.caseyquinn.personal_website.dto.response.ContactSubmissionResponse;
+import com.caseyquinn.personal_website.dto.response.ContactSubmissionSummaryResponse;
+import com.caseyquinn.personal_website.dto.response.KeysetPageResponse;
 import com.caseyquinn.personal_website.dto.response.Response;
+import com.caseyquinn.personal_website.entity.enums.ExportFormat;
 import com.caseyquinn.personal_website.entity.enums.InquiryType;
 import com.caseyquinn.personal_website.entity.enums.SubmissionStatus;
 import com.caseyquinn.personal_website.service.ContactSubmissionService;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.ModelAttribute;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
 import java.util.List;
 
 import static com.caseyquinn.personal_website.constants.ResponseMessages.*;
@@ -81,6 +93,45 @@ public class ContactSubmissionController {
         return ResponseEntity.ok(Response.success(submissions, SUBMISSIONS_RETRIEVED));
     }
 
+    /**
+     * Retrieves a keyset-paginated, filtered page of submission summaries (admin only).
+     *
+     * @param filter the optional filters, cursor and page size
+     * @return response entity containing the page of summaries and the next cursor
+     */
+    @ContactSubmissionApiResponses.GetPaginated
+    @GetMapping("/paginated")
+    public ResponseEntity<Response<KeysetPageResponse<ContactSubmissionSummaryResponse>>> getSubmissionsPaginated(
+            @Valid @ModelAttribute ContactSubmissionFilterRequest filter) {
+        log.info("Fetching contact submissions page: {}", filter);
+        KeysetPageResponse<ContactSubmissionSummaryResponse> page = contactSubmissionService.getSubmissionsPage(filter);
+        return ResponseEntity.ok(Response.success(page, SUBMISSIONS_PAGE_RETRIEVED));
+    }
+
+    /**
+     * Streams all submissions matching the filter as a CSV or NDJSON download (admin only).
+     * Written on the request thread so the export runs inside the caller's security context.
+     *
+     * @param filter the optional filters; cursor and limit are ignored
+     * @param format the export format
+     * @param response the HTTP response the export is written to
+     * @throws IOException if writing to the response fails
+     */
+    @ContactSubmissionApiResponses.Export
+    @GetMapping("/export")
+    public void exportSubmissions(
+            @Valid @ModelAttribute ContactSubmissionFilterRequest filter,
+            @Parameter(description = "Export format: CSV or NDJSON") @RequestParam(defaultValue = "CSV") ExportFormat format,
+            HttpServletResponse response) throws IOException {
+        log.info("Exporting contact submissions as {}: {}", format, filter);
+        String filename = "contact-submissions-" + LocalDate.now() + "." + format.getFileExtension();
+        response.setContentType(format.getContentType());
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                ContentDisposition.attachment().filename(filename).build().toString());
+        contactSubmissionService.exportSubmissions(filter, format, response.getOutputStream());
+    }
+
     /**
      * Retrieves a specific contact submission by ID (admin only).
      *
@@ -0,0 +1,47 @@
+package com.caseyquinn.personal_website.controller;
+
+import com.caseyquinn.personal_website.annotations.MediaProxyApiResponses;
+import com.caseyquinn.personal_website.service.MediaProxyService;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+
+/**
+ * REST controller serving Cloudinary assets through the local caching proxy.
+ */
+@RestController
+@RequestMapping(MediaProxyController.BASE_PATH)
+@ConditionalOnProperty(prefix = "app.media-proxy", name = "enabled", havingValue = "true")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Media", description = "Cached Cloudinary media APIs")
+public class MediaProxyController {
+
+    static final String BASE_PATH = "/media";
+
+    private final MediaProxyService mediaProxyService;
+
+    /**
+     * Serves the asset at the path below {@code /media/}, mirroring its Cloudinary delivery path.
+     *
+     * @param request the HTTP request, whose conditional and Range headers are honoured
+     * @param response the HTTP response the file is written to
+     * @throws IOException if writing to the response fails
+     */
+    @MediaProxyApiResponses.Get
+    @GetMapping("/**")
+    public void getMedia(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        String path = StringUtils.removeStart(request.getRequestURI(), request.getContextPath() + BASE_PATH + "/");
+        log.debug("Serving media: {}", path);
+        mediaProxyService.deliver(path, request, response);
+    }
+}
@@ -5,11 +5,16 @@ import com.caseyquinn.personal_website.dto.request.CreateProjectRequest;
 import com.caseyquinn.personal_website.dto.request.UpdateProjectRequest;
 import com.caseyquinn.personal_website.dto.response.ProjectResponse;
 import com.caseyquinn.personal_website.dto.response.Response;
+import com.caseyquinn.personal_website.service.CompressedResponseCache;
 import com.caseyquinn.personal_website.service.ProjectService;
+import com.caseyquinn.personal_website.service.TrendingService;
 
+import static com.caseyquinn.personal_website.constants.CacheConstants.CACHE_PROJECTS;
 import static com.caseyquinn.personal_website.constants.ResponseMessages.*;
+import static com.caseyquinn.personal_website.util.HttpRequestUtils.visitorFingerprint;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -34,19 +39,25 @@ import java.util.List;
 @Tag(name = "Projects", description = "Project management APIs")
 public class ProjectController {
 
+    private static final String PAYLOAD_KEY_ALL = "all";
+
     private final ProjectService projectService;
+    private final CompressedResponseCache compressedResponseCache;
+    private final TrendingService trendingService;
 
     /**
-     * Retrieves all projects without pagination.
+     * Retrieves all projects without pagination, from a body serialized and compressed once per
+     * cache fill.
      *
-     * @return response entity containing list of all projects
+     * @param request the HTTP request, whose Accept-Encoding and If-None-Match headers are honoured
+     * @return response entity containing the JSON list of all projects, gzipped if accepted
      */
     @ProjectApiResponses.GetAll
     @GetMapping("/projects")
-    public ResponseEntity<Response<List<ProjectResponse>>> getAllProjects() {
+    public ResponseEntity<byte[]> getAllProjects(HttpServletRequest request) {
         log.info("Fetching all projects");
-        List<ProjectResponse> projects = projectService.getAllProjects();
-        return ResponseEntity.ok(Response.success(projects, PROJECTS_RETRIEVED));
+        return compressedResponseCache.respond(request, CACHE_PROJECTS, PAYLOAD_KEY_ALL,
+                () -> Response.success(projectService.getAllProjects(), PROJECTS_RETRIEVED));
     }
     
     /**
@@ -78,6 +89,21 @@ public class ProjectController {
         return ResponseEntity.ok(Response.success(projects, FEATURED_PROJECTS_RETRIEVED));
     }
 
+    /**
+     * Retrieves published projects ranked by recent, time-decayed views.
+     *
+     * @param limit maximum number of projects to return
+     * @return response entity containing list of trending projects
+     */
+    @ProjectApiResponses.GetTrending
+    @GetMapping("/projects/trending")
+    public ResponseEntity<Response<List<ProjectResponse>>> getTrendingProjects(
+            @Parameter(description = "Maximum number of projects") @RequestParam(defaultValue = "10") int limit) {
+        log.info("Fetching trending projects, limit: {}", limit);
+        List<ProjectResponse> projects = trendingService.getTrendingProjects(limit);
+        return ResponseEntity.ok(Response.success(projects, TRENDING_PROJECTS_RETRIEVED));
+    }
+
     /**
      * Retrieves a specific project by its ID.
      *
@@ -160,14 +186,16 @@ public class ProjectController {
      * Increments the view count for a project.
      *
      * @param id the project ID
+     * @param httpRequest the HTTP request used to fingerprint the visitor
      * @return response entity with no content
      */
     @ProjectApiResponses.IncrementViewCount
     @PutMapping("/projects/{id}/views")
     public ResponseEntity<Void> incrementViewCount(
-            @Parameter(description = "Project ID") @PathVariable Long id) {
+            @Parameter(description = "Project ID") @PathVariable Long id,
+            HttpServletRequest httpRequest) {
         log.info("Incrementing view count for project with id: {}", id);
-        projectService.incrementProjectViewCount(id);
+        projectService.incrementProjectViewCount(id, visitorFingerprint(httpRequest));
         return ResponseEntity.noContent().build();
     }
 
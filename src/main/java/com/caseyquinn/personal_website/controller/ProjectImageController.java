@@ -5,6 +5,9 @@ import com.caseyquinn.personal_website.dto.request.CreateProjectImageRequest;
 import com.caseyquinn.personal_website.dto.request.UpdateProjectImageRequest;
 import com.caseyquinn.personal_website.dto.response.ProjectImageResponse;
 import com.caseyquinn.personal_website.dto.response.Response;
+import com.caseyquinn.personal_website.dto.response.UploadJobResponse;
+import com.caseyquinn.personal_website.service.BatchImageUploadService;
+import com.caseyquinn.personal_website.service.ImageUploadJobService;
 import com.caseyquinn.personal_website.service.ProjectImageService;
 
 import static com.caseyquinn.personal_website.constants.ResponseMessages.*;
@@ -20,6 +23,7 @@ import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.net.URI;
 import java.util.List;
 
 /**
@@ -33,7 +37,11 @@ import java.util.List;
 @Tag(name = "Project Images", description = "Project image management APIs")
 public class ProjectImageController {
 
+    private static final String UPLOAD_JOBS_PATH = "/api/v1/upload-jobs/";
+
     private final ProjectImageService projectImageService;
+    private final ImageUploadJobService imageUploadJobService;
+    private final BatchImageUploadService batchImageUploadService;
 
     /**
      * Uploads a new image for a project.
@@ -56,6 +64,49 @@ public class ProjectImageController {
             .body(Response.success(response, IMAGE_UPLOADED));
     }
 
+    /**
+     * Accepts an image for a project and uploads it in the background.
+     *
+     * @param projectId the project ID
+     * @param file the image file to upload
+     * @param request the image metadata
+     * @return response entity containing the queued job with HTTP 202 status and its status URL
+     */
+    @ProjectImageApiResponses.UploadAsync
+    @PostMapping(value = "/projects/{projectId}/images/async", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<Response<UploadJobResponse>> uploadImageAsync(
+            @Parameter(description = "Project ID") @PathVariable Long projectId,
+            @Parameter(description = "Image file to upload") @RequestParam("file") MultipartFile file,
+            @Parameter(description = "Image metadata") @Valid @ModelAttribute CreateProjectImageRequest request) {
+
+        log.info("Queueing image upload for projectId: {}", projectId);
+        UploadJobResponse job = imageUploadJobService.submitProjectImage(projectId, file, request);
+        return ResponseEntity.accepted()
+            .location(URI.create(UPLOAD_JOBS_PATH + job.getJobId()))
+            .body(Response.success(job, UPLOAD_JOB_ACCEPTED));
+    }
+
+    /**
+     * Uploads several images for a project at once; either all of them are added or none is.
+     *
+     * @param projectId the project ID
+     * @param files the image files to upload, in display order
+     * @param request the metadata shared by every image
+     * @return response entity containing the uploaded images with HTTP 201 status
+     */
+    @ProjectImageApiResponses.UploadBatch
+    @PostMapping(value = "/projects/{projectId}/images/batch", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<Response<List<ProjectImageResponse>>> uploadImages(
+            @Parameter(description = "Project ID") @PathVariable Long projectId,
+            @Parameter(description = "Image files to upload") @RequestParam("files") List<MultipartFile> files,
+            @Parameter(description = "Image metadata") @Valid @ModelAttribute CreateProjectImageRequest request) {
+
+        log.info("Uploading {} images for projectId: {}", files.size(), projectId);
+        List<ProjectImageResponse> response = batchImageUploadService.uploadProjectImages(projectId, files, request);
+        return ResponseEntity.status(HttpStatus.CREATED)
+            .body(Response.success(response, IMAGES_UPLOADED));
+    }
+
     /**
      * Retrieves all images for a specific project.
      *
@@ -5,11 +5,13 @@ import static com.caseyquinn.personal_website.constants.ResponseMessages.*;
 import com.caseyquinn.personal_website.annotations.ResumeApiResponses;
 import com.caseyquinn.personal_website.dto.response.ResumeResponse;
 import com.caseyquinn.personal_website.dto.response.Response;
+import com.caseyquinn.personal_website.service.ResumeDeliveryService;
 import com.caseyquinn.personal_website.service.ResumeService;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
@@ -21,6 +23,8 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
+
 /**
  * REST controller for managing resume uploads and downloads.
  */
@@ -33,6 +37,7 @@ import org.springframework.web.multipart.MultipartFile;
 public class ResumeController {
 
     private final ResumeService resumeService;
+    private final ResumeDeliveryService resumeDeliveryService;
 
     /**
      * Retrieves metadata for the currently active resume.
@@ -48,18 +53,17 @@ public class ResumeController {
     }
 
     /**
-     * Redirects to the resume PDF download URL on Cloudinary.
+     * Serves the resume PDF from the local cache, or redirects to it on Cloudinary if it is not cached.
      *
-     * @return redirect response to the resume URL
+     * @param request the HTTP request, whose conditional and Range headers are honoured
+     * @param response the HTTP response the file is written to
+     * @throws IOException if writing to the response fails
      */
     @ResumeApiResponses.Download
     @GetMapping("/download")
-    public ResponseEntity<Void> downloadResume() {
-        log.info("Redirecting to resume download");
-        String downloadUrl = resumeService.getResumeDownloadUrl();
-        return ResponseEntity.status(HttpStatus.FOUND)
-                .header(HttpHeaders.LOCATION, downloadUrl)
-                .build();
+    public void downloadResume(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        log.info("Serving resume download");
+        resumeDeliveryService.deliver(request, response);
     }
 
     /**
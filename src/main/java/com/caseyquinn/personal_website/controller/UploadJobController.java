@@ -0,0 +1,48 @@
+package com.caseyquinn.personal_website.controller;
+
+import com.caseyquinn.personal_website.annotations.UploadJobApiResponses;
+import com.caseyquinn.personal_website.dto.response.Response;
+import com.caseyquinn.personal_website.dto.response.UploadJobResponse;
+import com.caseyquinn.personal_website.service.ImageUploadJobService;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.UUID;
+
+import static com.caseyquinn.personal_website.constants.ResponseMessages.UPLOAD_JOB_RETRIEVED;
+
+/**
+ * REST controller for polling asynchronous upload jobs.
+ */
+@RestController
+@RequestMapping("/api/v1/upload-jobs")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Upload Jobs", description = "Asynchronous upload status APIs")
+public class UploadJobController {
+
+    private final ImageUploadJobService imageUploadJobService;
+
+    /**
+     * Retrieves the status of an upload job.
+     *
+     * @param jobId the job ID returned when the upload was accepted
+     * @return response entity containing the job status
+     */
+    @UploadJobApiResponses.GetById
+    @GetMapping("/{jobId}")
+    public ResponseEntity<Response<UploadJobResponse>> getJob(
+            @Parameter(description = "Upload job ID") @PathVariable UUID jobId) {
+
+        log.info("Fetching upload job: {}", jobId);
+        UploadJobResponse job = imageUploadJobService.getJob(jobId);
+        return ResponseEntity.ok(Response.success(job, UPLOAD_JOB_RETRIEVED));
+    }
+}
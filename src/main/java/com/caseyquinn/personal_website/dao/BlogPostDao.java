@@ -145,6 +145,24 @@ public interface BlogPostDao {
      */
     void incrementViewCount(Long id);
 
+    /**
+     * Adds buffered view deltas to multiple blog posts in a single statement.
+     *
+     * @param ids the blog post IDs
+     * @param deltas the view deltas, positionally matching {@code ids}
+     * @return number of rows updated
+     */
+    int incrementViewCounts(Long[] ids, Long[] deltas);
+
+    /**
+     * Raises the lifetime unique visitor estimates of multiple blog posts in a single statement.
+     *
+     * @param ids the blog post IDs
+     * @param visitors the estimated visitor counts, positionally matching {@code ids}
+     * @return number of rows updated
+     */
+    int updateUniqueVisitorCounts(Long[] ids, Long[] visitors);
+
     /**
      * Counts total blog posts.
      *
@@ -61,6 +61,14 @@ public interface BlogPostImageDao {
      */
     BlogPostImage save(BlogPostImage image);
 
+    /**
+     * Saves several images in the current transaction.
+     *
+     * @param images the images to save
+     * @return the saved images
+     */
+    List<BlogPostImage> saveAll(List<BlogPostImage> images);
+
     /**
      * Deletes an image by ID.
      *
@@ -0,0 +1,79 @@
+package com.caseyquinn.personal_website.dao;
+
+import com.caseyquinn.personal_website.entity.CloudinaryDeletion;
+import com.caseyquinn.personal_website.entity.enums.MediaResourceType;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Data Access Object for CloudinaryDeletion operations.
+ * Provides abstraction layer over CloudinaryDeletionRepository with exception translation.
+ */
+public interface CloudinaryDeletionDao {
+
+    /**
+     * Queues an asset for deletion unless it is already queued.
+     *
+     * @param publicId the Cloudinary public ID
+     * @param resourceType the resource type
+     * @param notBefore the earliest time the asset may be deleted
+     * @return true if the asset was queued, false if it already was
+     */
+    boolean enqueue(String publicId, MediaResourceType resourceType, LocalDateTime notBefore);
+
+    /**
+     * Leases up to {@code limit} due deletions of one resource type for this worker.
+     *
+     * @param resourceType the resource type to claim
+     * @param now the current time
+     * @param leaseUntil when the lease expires if the worker dies mid-run
+     * @param limit the maximum number of deletions to claim
+     * @return the claimed deletions in claim order
+     */
+    List<CloudinaryDeletion> claimDue(MediaResourceType resourceType, LocalDateTime now,
+                                      LocalDateTime leaseUntil, int limit);
+
+    /**
+     * Removes completed deletions from the queue.
+     *
+     * @param ids the deletion IDs
+     */
+    void complete(Collection<Long> ids);
+
+    /**
+     * Releases a deletion's lease and schedules another attempt.
+     *
+     * @param id the deletion ID
+     * @param nextAttemptAt when the deletion becomes due again
+     * @param error the failure description
+     */
+    void reschedule(Long id, LocalDateTime nextAttemptAt, String error);
+
+    /**
+     * Marks a deletion as permanently failed.
+     *
+     * @param id the deletion ID
+     * @param error the failure description
+     */
+    void markFailed(Long id, String error);
+
+    /**
+     * Counts deletions still waiting to be processed.
+     *
+     * @return number of pending deletions
+     */
+    long countPending();
+
+    /**
+     * Finds which of the given public IDs are still in use. An ID counts as in use if an image,
+     * resume or media asset row stores it, or stores the original image it is a variant of, or if
+     * any stored URL, variant list or blog post body contains it.
+     *
+     * @param publicIds the Cloudinary public IDs to check
+     * @return the subset of {@code publicIds} still in use
+     */
+    Set<String> findReferenced(Collection<String> publicIds);
+}
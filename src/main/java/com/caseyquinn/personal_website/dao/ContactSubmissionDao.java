@@ -1,11 +1,17 @@
 package com.caseyquinn.personal_website.dao;
 
+import com.caseyquinn.personal_website.dto.request.ContactSubmissionFilterRequest;
+import com.caseyquinn.personal_website.dto.response.ContactSubmissionResponse;
+import com.caseyquinn.personal_website.dto.response.ContactSubmissionSummaryResponse;
 import com.caseyquinn.personal_website.entity.ContactSubmission;
 import com.caseyquinn.personal_website.entity.enums.InquiryType;
 import com.caseyquinn.personal_website.entity.enums.SubmissionStatus;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Data Access Object for ContactSubmission operations.
@@ -28,6 +34,14 @@ public interface ContactSubmissionDao {
      */
     Optional<ContactSubmission> findById(Long id);
 
+    /**
+     * Finds the contact submissions with the given IDs; missing IDs are skipped.
+     *
+     * @param ids the submission IDs
+     * @return the submissions found, in no particular order
+     */
+    List<ContactSubmission> findAllById(Collection<Long> ids);
+
     /**
      * Finds a contact submission by ID or throws NotFoundException.
      *
@@ -60,6 +74,30 @@ public interface ContactSubmissionDao {
      */
     List<ContactSubmission> findByEmail(String email);
 
+    /**
+     * Finds a keyset page of submission summaries matching the filter, newest first.
+     *
+     * @param filter the optional filters
+     * @param afterCreatedAt creation timestamp of the previous page's last row, or null for the first page
+     * @param afterId ID of the previous page's last row, or null for the first page
+     * @param limit maximum number of rows to return
+     * @return list of matching summaries
+     */
+    List<ContactSubmissionSummaryResponse> findSummaries(ContactSubmissionFilterRequest filter,
+                                                         LocalDateTime afterCreatedAt,
+                                                         Long afterId,
+                                                         int limit);
+
+    /**
+     * Streams all submissions matching the filter through a database cursor, newest first.
+     * Must be consumed inside a transaction and closed by the caller.
+     *
+     * @param filter the optional filters
+     * @param fetchSize number of rows fetched per database round trip
+     * @return stream of matching submissions
+     */
+    Stream<ContactSubmissionResponse> streamAll(ContactSubmissionFilterRequest filter, int fetchSize);
+
     /**
      * Saves or updates a contact submission.
      *
@@ -0,0 +1,51 @@
+package com.caseyquinn.personal_website.dao;
+
+import com.caseyquinn.personal_website.entity.enums.ViewTargetType;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Data Access Object for ContentViewRollup operations.
+ * Provides abstraction layer over ContentViewRollupRepository with exception translation.
+ */
+public interface ContentViewRollupDao {
+
+    /**
+     * Adds view counts to one hourly bucket for multiple entities of one type.
+     *
+     * @param targetType the kind of content
+     * @param bucketStart start of the hour bucket
+     * @param ids the entity IDs
+     * @param views the view counts, positionally matching {@code ids}
+     * @return number of rows inserted or updated
+     */
+    int addHourlyViews(ViewTargetType targetType, LocalDateTime bucketStart, Long[] ids, Long[] views);
+
+    /**
+     * Folds hourly buckets older than the cutoff into daily buckets.
+     *
+     * @param cutoff buckets starting before this are compacted
+     * @return number of daily rows inserted or updated
+     */
+    int compactHoursIntoDays(LocalDateTime cutoff);
+
+    /**
+     * Folds daily buckets older than the cutoff into monthly buckets.
+     *
+     * @param cutoff buckets starting before this are compacted
+     * @return number of monthly rows inserted or updated
+     */
+    int compactDaysIntoMonths(LocalDateTime cutoff);
+
+    /**
+     * Finds the highest-scoring entities of one type by exponentially decayed recent views.
+     *
+     * @param targetType the kind of content
+     * @param since only buckets starting at or after this are scored
+     * @param halfLifeHours hours after which a view's weight halves
+     * @param limit maximum number of results
+     * @return list of entity ID and score pairs, highest score first
+     */
+    List<Object[]> findTrendingScores(ViewTargetType targetType, LocalDateTime since, double halfLifeHours, int limit);
+}
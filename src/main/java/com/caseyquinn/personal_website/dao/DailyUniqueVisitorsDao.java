@@ -0,0 +1,23 @@
+package com.caseyquinn.personal_website.dao;
+
+import com.caseyquinn.personal_website.entity.enums.ViewTargetType;
+
+import java.time.LocalDate;
+
+/**
+ * Data Access Object for DailyUniqueVisitors operations.
+ * Provides abstraction layer over DailyUniqueVisitorsRepository with exception translation.
+ */
+public interface DailyUniqueVisitorsDao {
+
+    /**
+     * Inserts or raises the daily unique visitor estimates for multiple entities of one type.
+     *
+     * @param targetType the kind of content
+     * @param visitDate the day the estimates cover
+     * @param ids the entity IDs
+     * @param visitors the estimated visitor counts, positionally matching {@code ids}
+     * @return number of rows inserted or updated
+     */
+    int upsertDailyVisitors(ViewTargetType targetType, LocalDate visitDate, Long[] ids, Long[] visitors);
+}
@@ -0,0 +1,75 @@
+package com.caseyquinn.personal_website.dao;
+
+import com.caseyquinn.personal_website.entity.EmailOutboxMessage;
+import com.caseyquinn.personal_website.entity.enums.EmailType;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Data Access Object for EmailOutboxMessage operations.
+ * Provides abstraction layer over EmailOutboxRepository with exception translation.
+ */
+public interface EmailOutboxDao {
+
+    /**
+     * Queues an email; joins the caller's transaction if there is one.
+     *
+     * @param message the outbox message to save
+     * @return the saved message
+     */
+    EmailOutboxMessage save(EmailOutboxMessage message);
+
+    /**
+     * Leases up to {@code limit} due messages of one type, incrementing their attempt counts.
+     * Leased messages are invisible to other dispatchers until the lease expires.
+     *
+     * @param emailType the type of email to claim
+     * @param now the current time
+     * @param leaseUntil when the lease lapses if the messages are never resolved
+     * @param limit maximum number of messages to claim
+     * @return the claimed messages, oldest first
+     */
+    List<EmailOutboxMessage> claimDue(EmailType emailType, LocalDateTime now, LocalDateTime leaseUntil, int limit);
+
+    /**
+     * Marks messages as sent and releases their lease.
+     *
+     * @param ids the message IDs
+     * @param now the send time
+     */
+    void markSent(Collection<Long> ids, LocalDateTime now);
+
+    /**
+     * Releases a message's lease and schedules another attempt.
+     *
+     * @param id the message ID
+     * @param nextAttemptAt when the message becomes due again
+     * @param error the failure description
+     */
+    void reschedule(Long id, LocalDateTime nextAttemptAt, String error);
+
+    /**
+     * Marks a message as permanently failed.
+     *
+     * @param id the message ID
+     * @param error the failure description
+     */
+    void markFailed(Long id, String error);
+
+    /**
+     * Counts messages still waiting to be sent.
+     *
+     * @return number of pending messages
+     */
+    long countPending();
+
+    /**
+     * Deletes sent messages older than the cutoff.
+     *
+     * @param cutoff the cutoff time
+     * @return number of messages deleted
+     */
+    int deleteSentBefore(LocalDateTime cutoff);
+}
@@ -0,0 +1,53 @@
+package com.caseyquinn.personal_website.dao;
+
+import com.caseyquinn.personal_website.entity.MediaAsset;
+import com.caseyquinn.personal_website.entity.enums.MediaResourceType;
+
+import java.util.Optional;
+
+/**
+ * Data Access Object for MediaAsset operations.
+ * Provides abstraction layer over MediaAssetRepository with exception translation.
+ */
+public interface MediaAssetDao {
+
+    /**
+     * Blocks until no other transaction is registering the same content, and holds that lock
+     * until the current transaction ends. Requires a transaction.
+     *
+     * @param contentHash the SHA-256 hex digest of the content
+     */
+    void lockContentHash(String contentHash);
+
+    /**
+     * Finds and row-locks the asset holding the given content.
+     *
+     * @param contentHash the SHA-256 hex digest of the content
+     * @param resourceType the resource type
+     * @return the asset if the content is already stored
+     */
+    Optional<MediaAsset> findByContentHashForUpdate(String contentHash, MediaResourceType resourceType);
+
+    /**
+     * Finds and row-locks an asset by its Cloudinary public ID.
+     *
+     * @param cloudinaryPublicId the Cloudinary public ID
+     * @return the asset if it is tracked
+     */
+    Optional<MediaAsset> findByPublicIdForUpdate(String cloudinaryPublicId);
+
+    /**
+     * Saves an asset.
+     *
+     * @param asset the asset to save
+     * @return the saved asset
+     */
+    MediaAsset save(MediaAsset asset);
+
+    /**
+     * Deletes an asset record.
+     *
+     * @param asset the asset to delete
+     */
+    void delete(MediaAsset asset);
+}
@@ -102,6 +102,13 @@ public interface ProjectDao {
      */
     boolean existsById(Long id);
 
+    /**
+     * Retrieves the IDs of all projects.
+     *
+     * @return list of project IDs
+     */
+    List<Long> findAllIds();
+
     /**
      * Finds projects associated with a technology by name.
      *
@@ -207,6 +214,24 @@ public interface ProjectDao {
      */
     void incrementViewCount(Long id);
 
+    /**
+     * Adds buffered view deltas to multiple projects in a single statement.
+     *
+     * @param ids the project IDs
+     * @param deltas the view deltas, positionally matching {@code ids}
+     * @return number of rows updated
+     */
+    int incrementViewCounts(Long[] ids, Long[] deltas);
+
+    /**
+     * Raises the lifetime unique visitor estimates of multiple projects in a single statement.
+     *
+     * @param ids the project IDs
+     * @param visitors the estimated visitor counts, positionally matching {@code ids}
+     * @return number of rows updated
+     */
+    int updateUniqueVisitorCounts(Long[] ids, Long[] visitors);
+
     /**
      * Counts total projects.
      *
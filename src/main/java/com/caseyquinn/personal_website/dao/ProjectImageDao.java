@@ -16,6 +16,11 @@ public interface ProjectImageDao {
      */
     ProjectImage save(ProjectImage image);
 
+    /**
+     * Save several project images in the current transaction
+     */
+    List<ProjectImage> saveAll(List<ProjectImage> images);
+
     /**
      * Find a project image by ID
      */
@@ -0,0 +1,55 @@
+package com.caseyquinn.personal_website.dao;
+
+import com.caseyquinn.personal_website.entity.RefreshToken;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Data Access Object for RefreshToken operations.
+ * Provides abstraction layer over RefreshTokenRepository with exception translation.
+ */
+public interface RefreshTokenDao {
+
+    /**
+     * Saves a refresh token record.
+     *
+     * @param refreshToken the token record to save
+     * @return the saved record
+     */
+    RefreshToken save(RefreshToken refreshToken);
+
+    /**
+     * Finds a refresh token record by the hash of its token value.
+     *
+     * @param tokenHash hex-encoded SHA-256 of the token
+     * @return the record if found
+     */
+    Optional<RefreshToken> findByTokenHash(String tokenHash);
+
+    /**
+     * Marks a token as consumed if it has not been already.
+     *
+     * @param id the record ID
+     * @param now the consumption time
+     * @return true if this call consumed the token
+     */
+    boolean markConsumed(Long id, LocalDateTime now);
+
+    /**
+     * Deletes every token in a family.
+     *
+     * @param familyId the family ID
+     * @return number of tokens deleted
+     */
+    int deleteFamily(UUID familyId);
+
+    /**
+     * Deletes tokens that expired before the cutoff.
+     *
+     * @param cutoff the cutoff time
+     * @return number of tokens deleted
+     */
+    int deleteExpiredBefore(LocalDateTime cutoff);
+}
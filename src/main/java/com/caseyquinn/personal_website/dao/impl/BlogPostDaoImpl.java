@@ -133,6 +133,18 @@ public class BlogPostDaoImpl implements BlogPostDao {
         blogPostRepository.incrementViewCount(id);
     }
 
+    @Override
+    public int incrementViewCounts(Long[] ids, Long[] deltas) {
+        log.info("DAO: Flushing view counts for {} blog post(s)", ids.length);
+        return blogPostRepository.incrementViewCounts(ids, deltas);
+    }
+
+    @Override
+    public int updateUniqueVisitorCounts(Long[] ids, Long[] visitors) {
+        log.info("DAO: Updating unique visitor counts for {} blog post(s)", ids.length);
+        return blogPostRepository.updateUniqueVisitorCounts(ids, visitors);
+    }
+
     @Override
     public long count() {
         log.info("DAO: Counting total blog posts");
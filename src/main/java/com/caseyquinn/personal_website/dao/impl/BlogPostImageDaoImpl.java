@@ -62,6 +62,12 @@ public class BlogPostImageDaoImpl implements BlogPostImageDao {
         return saved;
     }
 
+    @Override
+    public List<BlogPostImage> saveAll(List<BlogPostImage> images) {
+        log.info("DAO: Saving {} blog post images", images.size());
+        return blogPostImageRepository.saveAll(images);
+    }
+
     @Override
     public void deleteById(Long id) {
         log.info("DAO: Deleting blog post image with id: {}", id);
@@ -0,0 +1,121 @@
+package com.caseyquinn.personal_website.dao.impl;
+
+import com.caseyquinn.personal_website.dao.CloudinaryDeletionDao;
+import com.caseyquinn.personal_website.entity.CloudinaryDeletion;
+import com.caseyquinn.personal_website.entity.enums.DeletionStatus;
+import com.caseyquinn.personal_website.entity.enums.MediaResourceType;
+import com.caseyquinn.personal_website.exception.data.RetryableDataAccess;
+import com.caseyquinn.personal_website.repository.CloudinaryDeletionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static com.caseyquinn.personal_website.constants.CloudinaryConstants.VARIANT_SEPARATOR;
+import static org.apache.commons.lang3.StringUtils.abbreviate;
+
+/**
+ * Implementation of CloudinaryDeletionDao with automatic retry on transient data access failures.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+@RetryableDataAccess
+public class CloudinaryDeletionDaoImpl implements CloudinaryDeletionDao {
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private final CloudinaryDeletionRepository cloudinaryDeletionRepository;
+
+    @Override
+    public boolean enqueue(String publicId, MediaResourceType resourceType, LocalDateTime notBefore) {
+        log.info("DAO: Queueing {} deletion: {}", resourceType, publicId);
+        return cloudinaryDeletionRepository.enqueue(publicId, resourceType.name(), notBefore, LocalDateTime.now()) > 0;
+    }
+
+    @Override
+    public List<CloudinaryDeletion> claimDue(MediaResourceType resourceType, LocalDateTime now,
+                                             LocalDateTime leaseUntil, int limit) {
+        // Tag the leased rows with a fresh claim ID so they can be read back after the update commits
+        UUID claimId = UUID.randomUUID();
+        int claimed = cloudinaryDeletionRepository.claimDue(resourceType.name(), now, leaseUntil, claimId, limit);
+        if (claimed == 0) {
+            return List.of();
+        }
+        log.info("DAO: Claimed {} {} deletion(s)", claimed, resourceType);
+        return cloudinaryDeletionRepository.findByClaimIdOrderById(claimId);
+    }
+
+    @Override
+    public void complete(Collection<Long> ids) {
+        log.info("DAO: Removing {} completed deletion(s)", ids.size());
+        cloudinaryDeletionRepository.deleteByIds(ids);
+    }
+
+    @Override
+    public void reschedule(Long id, LocalDateTime nextAttemptAt, String error) {
+        log.info("DAO: Rescheduling deletion {} for {}", id, nextAttemptAt);
+        cloudinaryDeletionRepository.recordFailure(id, DeletionStatus.PENDING, nextAttemptAt,
+                abbreviate(error, MAX_ERROR_LENGTH));
+    }
+
+    @Override
+    public void markFailed(Long id, String error) {
+        log.info("DAO: Marking deletion {} failed", id);
+        cloudinaryDeletionRepository.recordFailure(id, DeletionStatus.FAILED, LocalDateTime.now(),
+                abbreviate(error, MAX_ERROR_LENGTH));
+    }
+
+    @Override
+    public long countPending() {
+        return cloudinaryDeletionRepository.countByStatus(DeletionStatus.PENDING);
+    }
+
+    @Override
+    public Set<String> findReferenced(Collection<String> publicIds) {
+        if (publicIds.isEmpty()) {
+            return Set.of();
+        }
+        Set<String> candidates = new HashSet<>();
+        publicIds.forEach(publicId -> candidates.addAll(selfAndOriginals(publicId)));
+        Set<String> stored = new HashSet<>(cloudinaryDeletionRepository.findReferencedPublicIds(candidates));
+
+        Set<String> referenced = new HashSet<>();
+        List<String> unmatched = new ArrayList<>();
+        for (String publicId : publicIds) {
+            if (selfAndOriginals(publicId).stream().anyMatch(stored::contains)) {
+                referenced.add(publicId);
+            } else {
+                unmatched.add(publicId);
+            }
+        }
+        if (!unmatched.isEmpty()) {
+            // Matching on the path segment is loose on purpose: an original whose variant URL contains it
+            // is kept too, which errs on the safe side
+            referenced.addAll(cloudinaryDeletionRepository.findLinkedByUrl(unmatched.toArray(String[]::new)));
+        }
+        return referenced;
+    }
+
+    /**
+     * Returns the public ID itself and every original it could be a variant of. Variant names may
+     * contain the separator too, so each prefix ending before a separator is a candidate.
+     */
+    private static List<String> selfAndOriginals(String publicId) {
+        List<String> candidates = new ArrayList<>();
+        candidates.add(publicId);
+        int end = publicId.indexOf(VARIANT_SEPARATOR);
+        while (end > 0) {
+            candidates.add(publicId.substring(0, end));
+            end = publicId.indexOf(VARIANT_SEPARATOR, end + 1);
+        }
+        return candidates;
+    }
+}
@@ -1,6 +1,9 @@
 package com.caseyquinn.personal_website.dao.impl;
 
 import com.caseyquinn.personal_website.dao.ContactSubmissionDao;
+import com.caseyquinn.personal_website.dto.request.ContactSubmissionFilterRequest;
+import com.caseyquinn.personal_website.dto.response.ContactSubmissionResponse;
+import com.caseyquinn.personal_website.dto.response.ContactSubmissionSummaryResponse;
 import com.caseyquinn.personal_website.entity.ContactSubmission;
 import com.caseyquinn.personal_website.entity.enums.InquiryType;
 import com.caseyquinn.personal_website.entity.enums.SubmissionStatus;
@@ -11,8 +14,11 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Implementation of ContactSubmissionDao with automatic retry on transient data access failures.
@@ -37,6 +43,12 @@ public class ContactSubmissionDaoImpl implements ContactSubmissionDao {
         return contactSubmissionRepository.findById(id);
     }
 
+    @Override
+    public List<ContactSubmission> findAllById(Collection<Long> ids) {
+        log.info("DAO: Fetching {} contact submission(s) by id", ids.size());
+        return contactSubmissionRepository.findAllById(ids);
+    }
+
     @Override
     public ContactSubmission findByIdOrThrow(Long id) {
         return findById(id)
@@ -61,6 +73,21 @@ public class ContactSubmissionDaoImpl implements ContactSubmissionDao {
         return contactSubmissionRepository.findByEmailOrderByCreatedAtDesc(email);
     }
 
+    @Override
+    public List<ContactSubmissionSummaryResponse> findSummaries(ContactSubmissionFilterRequest filter,
+                                                                LocalDateTime afterCreatedAt,
+                                                                Long afterId,
+                                                                int limit) {
+        log.info("DAO: Fetching contact submission page: filter={}, afterId={}, limit={}", filter, afterId, limit);
+        return contactSubmissionRepository.findSummaries(filter, afterCreatedAt, afterId, limit);
+    }
+
+    @Override
+    public Stream<ContactSubmissionResponse> streamAll(ContactSubmissionFilterRequest filter, int fetchSize) {
+        log.info("DAO: Streaming contact submissions: filter={}", filter);
+        return contactSubmissionRepository.streamAll(filter, fetchSize);
+    }
+
     @Override
     public ContactSubmission save(ContactSubmission submission) {
         log.info("DAO: Saving contact submission from: {}", submission.getEmail());
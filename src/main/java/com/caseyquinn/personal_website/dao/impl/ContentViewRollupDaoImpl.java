@@ -0,0 +1,49 @@
+package com.caseyquinn.personal_website.dao.impl;
+
+import com.caseyquinn.personal_website.dao.ContentViewRollupDao;
+import com.caseyquinn.personal_website.entity.enums.ViewTargetType;
+import com.caseyquinn.personal_website.exception.data.RetryableDataAccess;
+import com.caseyquinn.personal_website.repository.ContentViewRollupRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Implementation of ContentViewRollupDao with automatic retry on transient data access failures.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+@RetryableDataAccess
+public class ContentViewRollupDaoImpl implements ContentViewRollupDao {
+
+    private final ContentViewRollupRepository contentViewRollupRepository;
+
+    @Override
+    public int addHourlyViews(ViewTargetType targetType, LocalDateTime bucketStart, Long[] ids, Long[] views) {
+        log.info("DAO: Adding hourly views for {} {}(s) at {}", ids.length, targetType, bucketStart);
+        return contentViewRollupRepository.addHourlyViews(targetType.name(), bucketStart, ids, views);
+    }
+
+    @Override
+    public int compactHoursIntoDays(LocalDateTime cutoff) {
+        log.info("DAO: Compacting hourly view rollups before {}", cutoff);
+        return contentViewRollupRepository.compactHoursIntoDays(cutoff);
+    }
+
+    @Override
+    public int compactDaysIntoMonths(LocalDateTime cutoff) {
+        log.info("DAO: Compacting daily view rollups before {}", cutoff);
+        return contentViewRollupRepository.compactDaysIntoMonths(cutoff);
+    }
+
+    @Override
+    public List<Object[]> findTrendingScores(ViewTargetType targetType, LocalDateTime since,
+                                             double halfLifeHours, int limit) {
+        log.info("DAO: Fetching trending {} scores since {}", targetType, since);
+        return contentViewRollupRepository.findTrendingScores(targetType.name(), since, halfLifeHours, limit);
+    }
+}
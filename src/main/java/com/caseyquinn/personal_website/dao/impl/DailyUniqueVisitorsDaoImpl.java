@@ -0,0 +1,29 @@
+package com.caseyquinn.personal_website.dao.impl;
+
+import com.caseyquinn.personal_website.dao.DailyUniqueVisitorsDao;
+import com.caseyquinn.personal_website.entity.enums.ViewTargetType;
+import com.caseyquinn.personal_website.exception.data.RetryableDataAccess;
+import com.caseyquinn.personal_website.repository.DailyUniqueVisitorsRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+
+/**
+ * Implementation of DailyUniqueVisitorsDao with automatic retry on transient data access failures.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+@RetryableDataAccess
+public class DailyUniqueVisitorsDaoImpl implements DailyUniqueVisitorsDao {
+
+    private final DailyUniqueVisitorsRepository dailyUniqueVisitorsRepository;
+
+    @Override
+    public int upsertDailyVisitors(ViewTargetType targetType, LocalDate visitDate, Long[] ids, Long[] visitors) {
+        log.info("DAO: Upserting {} daily unique visitor row(s) for {} on {}", ids.length, targetType, visitDate);
+        return dailyUniqueVisitorsRepository.upsertDailyVisitors(targetType.name(), visitDate, ids, visitors);
+    }
+}
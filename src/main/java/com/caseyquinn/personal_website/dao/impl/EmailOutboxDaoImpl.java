@@ -0,0 +1,81 @@
+package com.caseyquinn.personal_website.dao.impl;
+
+import com.caseyquinn.personal_website.dao.EmailOutboxDao;
+import com.caseyquinn.personal_website.entity.EmailOutboxMessage;
+import com.caseyquinn.personal_website.entity.enums.EmailType;
+import com.caseyquinn.personal_website.entity.enums.OutboxStatus;
+import com.caseyquinn.personal_website.exception.data.RetryableDataAccess;
+import com.caseyquinn.personal_website.repository.EmailOutboxRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+import static org.apache.commons.lang3.StringUtils.abbreviate;
+
+/**
+ * Implementation of EmailOutboxDao with automatic retry on transient data access failures.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+@RetryableDataAccess
+public class EmailOutboxDaoImpl implements EmailOutboxDao {
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private final EmailOutboxRepository emailOutboxRepository;
+
+    @Override
+    public EmailOutboxMessage save(EmailOutboxMessage message) {
+        log.info("DAO: Queueing {} email for contact submission ID: {}",
+                message.getEmailType(), message.getContactSubmissionId());
+        return emailOutboxRepository.save(message);
+    }
+
+    @Override
+    public List<EmailOutboxMessage> claimDue(EmailType emailType, LocalDateTime now, LocalDateTime leaseUntil, int limit) {
+        // Tag the leased rows with a fresh claim ID so they can be read back after the update commits
+        UUID claimId = UUID.randomUUID();
+        int claimed = emailOutboxRepository.claimDue(emailType.name(), now, leaseUntil, claimId, limit);
+        if (claimed == 0) {
+            return List.of();
+        }
+        log.info("DAO: Claimed {} {} outbox message(s)", claimed, emailType);
+        return emailOutboxRepository.findByClaimIdOrderById(claimId);
+    }
+
+    @Override
+    public void markSent(Collection<Long> ids, LocalDateTime now) {
+        log.info("DAO: Marking {} outbox message(s) sent", ids.size());
+        emailOutboxRepository.markSent(ids, now, OutboxStatus.SENT);
+    }
+
+    @Override
+    public void reschedule(Long id, LocalDateTime nextAttemptAt, String error) {
+        log.info("DAO: Rescheduling outbox message {} for {}", id, nextAttemptAt);
+        emailOutboxRepository.recordFailure(id, OutboxStatus.PENDING, nextAttemptAt, abbreviate(error, MAX_ERROR_LENGTH));
+    }
+
+    @Override
+    public void markFailed(Long id, String error) {
+        log.info("DAO: Marking outbox message {} failed", id);
+        emailOutboxRepository.recordFailure(id, OutboxStatus.FAILED, LocalDateTime.now(),
+                abbreviate(error, MAX_ERROR_LENGTH));
+    }
+
+    @Override
+    public long countPending() {
+        return emailOutboxRepository.countByStatus(OutboxStatus.PENDING);
+    }
+
+    @Override
+    public int deleteSentBefore(LocalDateTime cutoff) {
+        log.info("DAO: Deleting outbox messages sent before: {}", cutoff);
+        return emailOutboxRepository.deleteSentBefore(cutoff, OutboxStatus.SENT);
+    }
+}
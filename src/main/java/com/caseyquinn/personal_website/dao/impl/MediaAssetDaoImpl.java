@@ -0,0 +1,58 @@
+package com.caseyquinn.personal_website.dao.impl;
+
+import com.caseyquinn.personal_website.dao.MediaAssetDao;
+import com.caseyquinn.personal_website.entity.MediaAsset;
+import com.caseyquinn.personal_website.entity.enums.MediaResourceType;
+import com.caseyquinn.personal_website.exception.data.RetryableDataAccess;
+import com.caseyquinn.personal_website.repository.MediaAssetRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.HexFormat;
+import java.util.Optional;
+
+/**
+ * Implementation of MediaAssetDao with automatic retry on transient data access failures.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+@RetryableDataAccess
+public class MediaAssetDaoImpl implements MediaAssetDao {
+
+    private static final int LOCK_KEY_HEX_DIGITS = 16;
+
+    private final MediaAssetRepository mediaAssetRepository;
+
+    @Override
+    public void lockContentHash(String contentHash) {
+        // The first 64 bits of a SHA-256 digest are as good a lock key as the whole digest
+        long key = HexFormat.fromHexDigitsToLong(contentHash, 0, LOCK_KEY_HEX_DIGITS);
+        mediaAssetRepository.lockContentKey(key);
+    }
+
+    @Override
+    public Optional<MediaAsset> findByContentHashForUpdate(String contentHash, MediaResourceType resourceType) {
+        log.info("DAO: Finding {} media asset by content hash: {}", resourceType, contentHash);
+        return mediaAssetRepository.findByContentHashAndResourceType(contentHash, resourceType);
+    }
+
+    @Override
+    public Optional<MediaAsset> findByPublicIdForUpdate(String cloudinaryPublicId) {
+        log.info("DAO: Finding media asset by public ID: {}", cloudinaryPublicId);
+        return mediaAssetRepository.findByCloudinaryPublicId(cloudinaryPublicId);
+    }
+
+    @Override
+    public MediaAsset save(MediaAsset asset) {
+        log.info("DAO: Saving media asset: {}", asset.getCloudinaryPublicId());
+        return mediaAssetRepository.save(asset);
+    }
+
+    @Override
+    public void delete(MediaAsset asset) {
+        log.info("DAO: Deleting media asset: {}", asset.getCloudinaryPublicId());
+        mediaAssetRepository.delete(asset);
+    }
+}
@@ -88,6 +88,12 @@ public class ProjectDaoImpl implements ProjectDao {
         return projectRepository.existsById(id);
     }
 
+    @Override
+    public List<Long> findAllIds() {
+        log.debug("DAO: Fetching all project ids");
+        return projectRepository.findAllIds();
+    }
+
     @Override
     public Optional<Project> findBySlug(String slug) {
         log.info("DAO: Fetching project with slug: {}", slug);
@@ -184,6 +190,18 @@ public class ProjectDaoImpl implements ProjectDao {
         projectRepository.incrementViewCount(id);
     }
 
+    @Override
+    public int incrementViewCounts(Long[] ids, Long[] deltas) {
+        log.info("DAO: Flushing view counts for {} project(s)", ids.length);
+        return projectRepository.incrementViewCounts(ids, deltas);
+    }
+
+    @Override
+    public int updateUniqueVisitorCounts(Long[] ids, Long[] visitors) {
+        log.info("DAO: Updating unique visitor counts for {} project(s)", ids.length);
+        return projectRepository.updateUniqueVisitorCounts(ids, visitors);
+    }
+
     @Override
     public long count() {
         log.info("DAO: Counting total projects");
@@ -29,6 +29,12 @@ public class ProjectImageDaoImpl implements ProjectImageDao {
         return projectImageRepository.save(image);
     }
 
+    @Override
+    public List<ProjectImage> saveAll(List<ProjectImage> images) {
+        log.info("DAO: Saving {} project images", images.size());
+        return projectImageRepository.saveAll(images);
+    }
+
     @Override
     public Optional<ProjectImage> findById(Long id) {
         log.info("DAO: Finding project image by id: {}", id);
@@ -0,0 +1,55 @@
+package com.caseyquinn.personal_website.dao.impl;
+
+import com.caseyquinn.personal_website.dao.RefreshTokenDao;
+import com.caseyquinn.personal_website.entity.RefreshToken;
+import com.caseyquinn.personal_website.exception.data.RetryableDataAccess;
+import com.caseyquinn.personal_website.repository.RefreshTokenRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Implementation of RefreshTokenDao with automatic retry on transient data access failures.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+@RetryableDataAccess
+public class RefreshTokenDaoImpl implements RefreshTokenDao {
+
+    private final RefreshTokenRepository refreshTokenRepository;
+
+    @Override
+    public RefreshToken save(RefreshToken refreshToken) {
+        log.info("DAO: Saving refresh token for user ID: {}", refreshToken.getUserId());
+        return refreshTokenRepository.save(refreshToken);
+    }
+
+    @Override
+    public Optional<RefreshToken> findByTokenHash(String tokenHash) {
+        log.info("DAO: Finding refresh token by hash");
+        return refreshTokenRepository.findByTokenHash(tokenHash);
+    }
+
+    @Override
+    public boolean markConsumed(Long id, LocalDateTime now) {
+        log.info("DAO: Marking refresh token consumed: {}", id);
+        return refreshTokenRepository.markConsumed(id, now) == 1;
+    }
+
+    @Override
+    public int deleteFamily(UUID familyId) {
+        log.info("DAO: Deleting refresh token family: {}", familyId);
+        return refreshTokenRepository.deleteByFamilyId(familyId);
+    }
+
+    @Override
+    public int deleteExpiredBefore(LocalDateTime cutoff) {
+        log.info("DAO: Deleting refresh tokens expired before: {}", cutoff);
+        return refreshTokenRepository.deleteExpiredBefore(cutoff);
+    }
+}
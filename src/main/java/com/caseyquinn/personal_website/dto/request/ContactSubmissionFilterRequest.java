@@ -0,0 +1,47 @@
+package com.caseyquinn.personal_website.dto.request;
+
+import com.caseyquinn.personal_website.entity.enums.InquiryType;
+import com.caseyquinn.personal_website.entity.enums.SubmissionStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.Data;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDateTime;
+
+/**
+ * Query parameters for filtering and keyset-paginating contact submissions.
+ * All filters are optional and combined with AND semantics.
+ */
+@Data
+@Schema(description = "Contact submission filter and keyset pagination parameters")
+public class ContactSubmissionFilterRequest {
+
+    @Schema(description = "Filter by submission status", example = "NEW")
+    private SubmissionStatus status;
+
+    @Schema(description = "Filter by inquiry type", example = "HIRING")
+    private InquiryType inquiryType;
+
+    @Email(message = "Email filter must be a valid email address")
+    @Schema(description = "Filter by exact sender email", example = "john@example.com")
+    private String email;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    @Schema(description = "Only include submissions created at or after this timestamp", example = "2025-01-01T00:00:00")
+    private LocalDateTime from;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    @Schema(description = "Only include submissions created before this timestamp", example = "2025-02-01T00:00:00")
+    private LocalDateTime to;
+
+    @Schema(description = "Opaque cursor returned as nextCursor by the previous page")
+    private String cursor;
+
+    @Min(value = 1, message = "Limit must be at least 1")
+    @Max(value = 100, message = "Limit cannot exceed 100")
+    @Schema(description = "Maximum number of submissions to return", example = "20")
+    private Integer limit = 20;
+}
@@ -0,0 +1,17 @@
+package com.caseyquinn.personal_website.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import lombok.Data;
+
+/**
+ * Refresh token exchange request DTO.
+ */
+@Data
+@Schema(description = "Refresh token exchange request")
+public class RefreshTokenRequest {
+
+    @NotBlank(message = "Refresh token is required")
+    @Schema(description = "Refresh token from the last login or refresh", requiredMode = Schema.RequiredMode.REQUIRED)
+    private String refreshToken;
+}
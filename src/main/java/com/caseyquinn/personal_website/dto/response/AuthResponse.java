@@ -28,6 +28,12 @@ public class AuthResponse {
     @Schema(description = "Token expiration time in milliseconds", example = "86400000")
     private Long expiresIn;
 
+    @Schema(description = "Single-use refresh token; exchange it at /api/v1/auth/refresh for a new access token")
+    private String refreshToken;
+
+    @Schema(description = "Milliseconds until the refresh token expires; rotation does not extend it", example = "604800000")
+    private Long refreshExpiresIn;
+
     @Schema(description = "Username", example = "admin")
     private String username;
 
@@ -8,6 +8,7 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 /**
  * Response DTO for blog post image data.
@@ -28,6 +29,21 @@ public class BlogPostImageResponse {
     @Schema(description = "Cloudinary public ID for image management")
     private String cloudinaryPublicId;
 
+    @Schema(description = "Original width in pixels", example = "2560")
+    private Integer width;
+
+    @Schema(description = "Original height in pixels", example = "1440")
+    private Integer height;
+
+    @Schema(description = "Available sizes, narrowest first, for building an img srcset; the widest entry is the original")
+    private List<ImageVariantResponse> srcset;
+
+    @Schema(description = "Tiny PNG data URI to show blurred while the image loads", example = "data:image/png;base64,iVBORw0KGgo...")
+    private String placeholder;
+
+    @Schema(description = "Most common color, for a solid background before the placeholder is decoded", example = "#1f2937")
+    private String dominantColor;
+
     @Schema(description = "Alt text for accessibility", example = "Spring Boot architecture diagram")
     private String altText;
 
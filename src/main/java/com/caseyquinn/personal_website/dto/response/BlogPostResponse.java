@@ -43,6 +43,9 @@ public class BlogPostResponse {
     @Schema(description = "Number of times the post has been viewed", example = "150")
     private Integer viewCount;
 
+    @Schema(description = "Estimated number of distinct visitors", example = "90")
+    private Long uniqueVisitorCount;
+
     @Schema(description = "Estimated read time in minutes", example = "5")
     private Integer readTimeMinutes;
 
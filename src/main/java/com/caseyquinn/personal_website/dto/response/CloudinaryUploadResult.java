@@ -1,10 +1,13 @@
 package com.caseyquinn.personal_website.dto.response;
 
+import com.caseyquinn.personal_website.entity.ImageVariant;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.util.List;
+
 @Data
 @Builder
 @NoArgsConstructor
@@ -17,4 +20,8 @@ public class CloudinaryUploadResult {
     private Long bytes;
     private Integer width;
     private Integer height;
+    private List<ImageVariant> variants;
+    private String placeholder;
+    private String dominantColor;
+    private String contentHash;
 }
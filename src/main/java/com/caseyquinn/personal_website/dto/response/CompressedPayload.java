@@ -0,0 +1,32 @@
+package com.caseyquinn.personal_website.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A serialized JSON response body cached together with its gzip encoding, so neither
+ * serialization nor compression runs per request.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CompressedPayload {
+
+    /**
+     * The JSON body, uncompressed.
+     */
+    private byte[] identity;
+
+    /**
+     * The same body, gzip-encoded.
+     */
+    private byte[] gzip;
+
+    /**
+     * SHA-256 hex digest of the uncompressed body, from which the ETags are derived.
+     */
+    private String contentHash;
+}
@@ -0,0 +1,47 @@
+package com.caseyquinn.personal_website.dto.response;
+
+import com.caseyquinn.personal_website.entity.enums.InquiryType;
+import com.caseyquinn.personal_website.entity.enums.SubmissionStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Lightweight contact submission view for admin listings.
+ * Omits the TEXT message and user agent columns, which are only loaded for the detail view.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Contact submission summary for listings")
+public class ContactSubmissionSummaryResponse {
+
+    @Schema(description = "Submission ID", example = "1")
+    private Long id;
+
+    @Schema(description = "Sender's name", example = "John Doe")
+    private String name;
+
+    @Schema(description = "Sender's email address", example = "john@example.com")
+    private String email;
+
+    @Schema(description = "Message subject", example = "Project Collaboration Inquiry")
+    private String subject;
+
+    @Schema(description = "Type of inquiry", example = "GENERAL")
+    private InquiryType inquiryType;
+
+    @Schema(description = "Submission status", example = "NEW")
+    private SubmissionStatus status;
+
+    @Schema(description = "Submission timestamp")
+    private LocalDateTime createdAt;
+
+    @Schema(description = "Response timestamp")
+    private LocalDateTime respondedAt;
+}
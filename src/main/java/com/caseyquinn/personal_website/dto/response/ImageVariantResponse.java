@@ -0,0 +1,27 @@
+package com.caseyquinn.personal_website.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "One size of an image for a srcset")
+public class ImageVariantResponse {
+
+    @Schema(description = "Variant name", example = "card")
+    private String name;
+
+    @Schema(description = "Variant URL (Cloudinary CDN)", example = "https://res.cloudinary.com/...")
+    private String url;
+
+    @Schema(description = "Width in pixels, used as the srcset width descriptor", example = "768")
+    private Integer width;
+
+    @Schema(description = "Height in pixels", example = "432")
+    private Integer height;
+}
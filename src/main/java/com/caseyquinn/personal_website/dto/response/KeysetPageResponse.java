@@ -0,0 +1,35 @@
+package com.caseyquinn.personal_website.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Keyset (cursor) paginated result. Unlike offset pages, no total count is computed,
+ * so the cost of fetching a page is independent of how deep the client has scrolled.
+ *
+ * @param <T> the item type
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Cursor-paginated result")
+public class KeysetPageResponse<T> {
+
+    @Schema(description = "Items in this page")
+    private List<T> items;
+
+    @Schema(description = "Cursor to pass as 'cursor' to fetch the next page; absent on the last page")
+    private String nextCursor;
+
+    @Schema(description = "Whether more items exist after this page", example = "true")
+    private boolean hasMore;
+
+    @Schema(description = "Requested page size", example = "20")
+    private int limit;
+}
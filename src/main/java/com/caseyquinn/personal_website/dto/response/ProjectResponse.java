@@ -64,6 +64,9 @@ public class ProjectResponse {
     @Schema(description = "Number of views", example = "150")
     private Long viewCount;
     
+    @Schema(description = "Estimated number of distinct visitors", example = "90")
+    private Long uniqueVisitorCount;
+    
     @Schema(description = "Technologies used in this project")
     private List<TechnologyResponse> technologies;
 
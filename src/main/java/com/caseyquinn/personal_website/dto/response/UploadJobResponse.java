@@ -0,0 +1,44 @@
+package com.caseyquinn.personal_website.dto.response;
+
+import com.caseyquinn.personal_website.entity.enums.UploadJobStatus;
+import com.caseyquinn.personal_website.entity.enums.UploadTarget;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Data
+@Builder(toBuilder = true)
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Asynchronous upload job status")
+public class UploadJobResponse {
+
+    @Schema(description = "Job ID", example = "3f6c2a1e-8a8e-4c1b-9d7e-2b1f0c9a4e55")
+    private UUID jobId;
+
+    @Schema(description = "Current job status", example = "UPLOADING")
+    private UploadJobStatus status;
+
+    @Schema(description = "What the job creates", example = "PROJECT_IMAGE")
+    private UploadTarget target;
+
+    @Schema(description = "ID of the project or blog post the image belongs to", example = "1")
+    private Long targetId;
+
+    @Schema(description = "The created image once the job has succeeded")
+    private Object result;
+
+    @Schema(description = "Failure reason once the job has failed", example = "Failed to upload image: timeout")
+    private String error;
+
+    @Schema(description = "When the job was accepted")
+    private LocalDateTime createdAt;
+
+    @Schema(description = "When the job status last changed")
+    private LocalDateTime updatedAt;
+}
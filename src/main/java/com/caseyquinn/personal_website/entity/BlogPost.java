@@ -63,6 +63,10 @@ public class BlogPost {
     @Column(name = "view_count")
     @Builder.Default
     private Integer viewCount = 0;
+
+    @Column(name = "unique_visitor_count")
+    @Builder.Default
+    private Long uniqueVisitorCount = 0L;
     
     @Column(name = "read_time_minutes")
     private Integer readTimeMinutes;
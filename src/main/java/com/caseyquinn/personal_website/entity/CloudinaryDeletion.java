@@ -0,0 +1,70 @@
+package com.caseyquinn.personal_website.entity;
+
+import com.caseyquinn.personal_website.entity.enums.DeletionStatus;
+import com.caseyquinn.personal_website.entity.enums.MediaResourceType;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.JdbcType;
+import org.hibernate.dialect.PostgreSQLEnumJdbcType;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Cloudinary asset waiting to be deleted by the background deletion worker.
+ * Rows are inserted by native query so duplicates are skipped, and removed once the asset is gone.
+ */
+@Entity
+@Table(name = "cloudinary_deletions")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CloudinaryDeletion {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "public_id", nullable = false, length = 500)
+    private String publicId;
+
+    @Enumerated
+    @JdbcType(PostgreSQLEnumJdbcType.class)
+    @Column(name = "resource_type", nullable = false, columnDefinition = "media_resource_type")
+    private MediaResourceType resourceType;
+
+    @Enumerated
+    @JdbcType(PostgreSQLEnumJdbcType.class)
+    @Column(nullable = false, columnDefinition = "deletion_status")
+    @Builder.Default
+    private DeletionStatus status = DeletionStatus.PENDING;
+
+    @Column(nullable = false)
+    @Builder.Default
+    private Integer attempts = 0;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "claim_id")
+    private UUID claimId;
+
+    @Column(name = "lease_expires_at")
+    private LocalDateTime leaseExpiresAt;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+}
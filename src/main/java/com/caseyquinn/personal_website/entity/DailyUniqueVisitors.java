@@ -0,0 +1,54 @@
+package com.caseyquinn.personal_website.entity;
+
+import com.caseyquinn.personal_website.entity.enums.ViewTargetType;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.JdbcType;
+import org.hibernate.dialect.PostgreSQLEnumJdbcType;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Estimated distinct visitors for a project or blog post on a single day.
+ * Populated from HyperLogLog sketches by the unique-visitor sync job.
+ */
+@Entity
+@Table(name = "daily_unique_visitors")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DailyUniqueVisitors {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated
+    @JdbcType(PostgreSQLEnumJdbcType.class)
+    @Column(name = "target_type", nullable = false, columnDefinition = "view_target_type")
+    private ViewTargetType targetType;
+
+    @Column(name = "target_id", nullable = false)
+    private Long targetId;
+
+    @Column(name = "visit_date", nullable = false)
+    private LocalDate visitDate;
+
+    @Column(name = "unique_visitors", nullable = false)
+    @Builder.Default
+    private Long uniqueVisitors = 0L;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,23 @@
+package com.caseyquinn.personal_website.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One size of an uploaded image, stored as JSON on the image row.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImageVariant {
+
+    public static final String ORIGINAL = "original";
+
+    private String name;
+    private String url;
+    private Integer width;
+    private Integer height;
+}
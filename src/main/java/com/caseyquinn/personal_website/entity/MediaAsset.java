@@ -0,0 +1,94 @@
+package com.caseyquinn.personal_website.entity;
+
+import com.caseyquinn.personal_website.entity.enums.MediaResourceType;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.JdbcType;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.dialect.PostgreSQLEnumJdbcType;
+import org.hibernate.type.SqlTypes;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * A file stored in Cloudinary, indexed by content hash and shared by every row that uploaded the same bytes.
+ */
+@Entity
+@Table(name = "media_assets")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MediaAsset {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "content_hash", nullable = false, length = 64)
+    @JdbcTypeCode(SqlTypes.CHAR)
+    private String contentHash;
+
+    @Enumerated
+    @JdbcType(PostgreSQLEnumJdbcType.class)
+    @Column(name = "resource_type", nullable = false, columnDefinition = "media_resource_type")
+    private MediaResourceType resourceType;
+
+    @Column(name = "cloudinary_public_id", nullable = false, length = 500)
+    private String cloudinaryPublicId;
+
+    @Column(nullable = false, length = 1000)
+    private String url;
+
+    @Column(length = 20)
+    private String format;
+
+    private Long bytes;
+
+    private Integer width;
+
+    private Integer height;
+
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(columnDefinition = "jsonb")
+    private List<ImageVariant> variants;
+
+    @Column(columnDefinition = "text")
+    private String placeholder;
+
+    @Column(name = "dominant_color", length = 7)
+    private String dominantColor;
+
+    @Column(name = "reference_count", nullable = false)
+    @Builder.Default
+    private Integer referenceCount = 1;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+        updatedAt = createdAt;
+    }
+
+    @PreUpdate
+    protected void onUpdate() {
+        updatedAt = LocalDateTime.now();
+    }
+}
@@ -97,6 +97,10 @@ public class Project {
     @Builder.Default
     private Long viewCount = 0L;
     
+    @Column(name = "unique_visitor_count")
+    @Builder.Default
+    private Long uniqueVisitorCount = 0L;
+    
     // Metadata
     @Column(name = "created_at")
     private LocalDateTime createdAt;
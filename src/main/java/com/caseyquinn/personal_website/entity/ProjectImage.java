@@ -19,9 +19,12 @@ import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
 import lombok.ToString;
 import org.hibernate.annotations.JdbcType;
+import org.hibernate.annotations.JdbcTypeCode;
 import org.hibernate.dialect.PostgreSQLEnumJdbcType;
+import org.hibernate.type.SqlTypes;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 @Entity
 @Table(name = "project_images")
@@ -47,6 +50,20 @@ public class ProjectImage {
     @Column(name = "cloudinary_public_id", length = 500)
     private String cloudinaryPublicId;
 
+    private Integer width;
+
+    private Integer height;
+
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(columnDefinition = "jsonb")
+    private List<ImageVariant> variants;
+
+    @Column(columnDefinition = "text")
+    private String placeholder;
+
+    @Column(name = "dominant_color", length = 7)
+    private String dominantColor;
+
     @Column(name = "alt_text")
     private String altText;
     
@@ -12,6 +12,8 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
 
 import java.time.LocalDateTime;
 
@@ -51,6 +53,10 @@ public class Resume {
     @Builder.Default
     private Boolean active = true;
 
+    @Column(name = "content_hash", length = 64)
+    @JdbcTypeCode(SqlTypes.CHAR)
+    private String contentHash;
+
     @Column(name = "uploaded_at", nullable = false)
     private LocalDateTime uploadedAt;
 
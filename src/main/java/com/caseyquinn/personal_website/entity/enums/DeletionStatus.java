@@ -0,0 +1,9 @@
+package com.caseyquinn.personal_website.entity.enums;
+
+/**
+ * State of a queued Cloudinary deletion.
+ */
+public enum DeletionStatus {
+    PENDING,
+    FAILED
+}
@@ -0,0 +1,9 @@
+package com.caseyquinn.personal_website.entity.enums;
+
+/**
+ * Kind of email queued in the outbox.
+ */
+public enum EmailType {
+    CONTACT_CONFIRMATION,
+    CONTACT_NOTIFICATION
+}
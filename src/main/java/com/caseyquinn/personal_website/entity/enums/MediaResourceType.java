@@ -0,0 +1,18 @@
+package com.caseyquinn.personal_website.entity.enums;
+
+import java.util.Locale;
+
+/**
+ * Cloudinary resource type of a stored media asset.
+ */
+public enum MediaResourceType {
+    IMAGE,
+    RAW;
+
+    /**
+     * @return the resource type as Cloudinary's API names it
+     */
+    public String cloudinaryName() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+}
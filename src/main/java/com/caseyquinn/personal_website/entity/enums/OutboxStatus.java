@@ -0,0 +1,10 @@
+package com.caseyquinn.personal_website.entity.enums;
+
+/**
+ * Delivery state of an outbox email.
+ */
+public enum OutboxStatus {
+    PENDING,
+    SENT,
+    FAILED
+}
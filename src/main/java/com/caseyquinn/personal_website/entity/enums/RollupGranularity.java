@@ -0,0 +1,10 @@
+package com.caseyquinn.personal_website.entity.enums;
+
+/**
+ * Size of a view analytics rollup bucket.
+ */
+public enum RollupGranularity {
+    HOUR,
+    DAY,
+    MONTH
+}
@@ -0,0 +1,12 @@
+package com.caseyquinn.personal_website.entity.enums;
+
+/**
+ * Progress of an asynchronous upload job.
+ */
+public enum UploadJobStatus {
+    QUEUED,
+    UPLOADING,
+    SAVING,
+    SUCCEEDED,
+    FAILED
+}
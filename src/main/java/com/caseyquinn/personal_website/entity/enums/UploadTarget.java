@@ -0,0 +1,9 @@
+package com.caseyquinn.personal_website.entity.enums;
+
+/**
+ * What an asynchronous upload job creates once the file is uploaded.
+ */
+public enum UploadTarget {
+    PROJECT_IMAGE,
+    BLOG_POST_IMAGE
+}
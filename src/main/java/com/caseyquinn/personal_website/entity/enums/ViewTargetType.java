@@ -0,0 +1,9 @@
+package com.caseyquinn.personal_website.entity.enums;
+
+/**
+ * Kinds of public content whose views are counted.
+ */
+public enum ViewTargetType {
+    PROJECT,
+    BLOG_POST
+}
@@ -0,0 +1,14 @@
+package com.caseyquinn.personal_website.event;
+
+import com.caseyquinn.personal_website.entity.enums.ViewTargetType;
+
+/**
+ * Published whenever a public project or blog post is viewed.
+ * Consumers aggregate these off the read path, so publishing never waits on the database.
+ *
+ * @param type the kind of content viewed
+ * @param id the content ID
+ * @param visitorId anonymous visitor fingerprint, or null when unavailable
+ */
+public record ContentViewedEvent(ViewTargetType type, Long id, String visitorId) {
+}
@@ -21,6 +21,7 @@ public enum ErrorCode {
     INVALID_FILE_TYPE("INVALID_FILE", "Invalid file type"),
     MAX_IMAGES_EXCEEDED("MAX_IMAGES", "Maximum number of images per project reached"),
     CLOUDINARY_ERROR("CLOUDINARY_ERROR", "Cloud storage service error"),
+    MEDIA_ORIGIN_ERROR("MEDIA_ORIGIN_ERROR", "Media could not be fetched from its origin"),
 
     DUPLICATE_RESOURCE("DUPLICATE_RESOURCE", "A resource with that value already exists"),
     VALIDATION_FAILED("VALIDATION_FAILED", "Validation failed"),
@@ -40,6 +41,7 @@ public enum ErrorCode {
     FORBIDDEN("FORBIDDEN", "Access denied"),
 
     RATE_LIMIT_EXCEEDED("RATE_LIMIT", "Too many requests"),
+    SERVICE_OVERLOADED("SERVICE_OVERLOADED", "Service is temporarily overloaded. Please try again shortly."),
 
     INTERNAL_ERROR("INTERNAL_ERROR", "An unexpected error occurred");
 
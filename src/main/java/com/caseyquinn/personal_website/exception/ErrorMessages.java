@@ -10,6 +10,10 @@ public final class ErrorMessages {
         throw new UnsupportedOperationException("Utility class cannot be instantiated");
     }
 
+    // Auth Messages
+    public static final String INVALID_REFRESH_TOKEN = "Refresh token is invalid or expired";
+    public static final String PASSWORD_HASHING_BUSY = "Too many sign-in attempts are being processed. Please try again shortly.";
+
     // File Upload Messages
     public static final String FILE_EMPTY = "File is empty";
     public static final String FILE_SIZE_EXCEEDED_FORMAT = "File size (%d bytes) exceeds maximum allowed (%d bytes)";
@@ -17,9 +21,14 @@ public final class ErrorMessages {
     public static final String FILE_CONTENT_MISMATCH = "File content does not match declared content type";
     public static final String FILE_READ_ERROR = "Failed to read file: %s";
     public static final String IMAGE_UPLOAD_FAILED = "Failed to upload image: %s";
+    public static final String BATCH_FILES_REQUIRED = "At least one file is required";
+    public static final String BATCH_SIZE_EXCEEDED_FORMAT = "Batch contains %d files; at most %d may be uploaded at once";
+    public static final String UPLOAD_QUEUE_FULL = "Too many uploads are being processed. Please try again shortly.";
+    public static final String IMAGE_PROCESSING_BUSY = "Too many images are being resized. Please try again shortly.";
 
     // Project Image Messages
     public static final String MAX_IMAGES_EXCEEDED_FORMAT = "Project already has maximum allowed images (%d)";
+    public static final String BATCH_IMAGES_EXCEEDED_FORMAT = "Adding %d images would exceed the project's maximum of %d";
     public static final String IMAGE_OWNERSHIP_MISMATCH = "Image does not belong to specified project";
 
     // Project Link Messages
@@ -54,12 +63,22 @@ public final class ErrorMessages {
     // Blog Image Messages
     public static final String BLOG_IMAGE_OWNERSHIP_MISMATCH = "Image does not belong to specified blog post";
     public static final String MAX_BLOG_IMAGES_EXCEEDED_FORMAT = "Blog post already has maximum allowed images (%d)";
+    public static final String BATCH_BLOG_IMAGES_EXCEEDED_FORMAT = "Adding %d images would exceed the blog post's maximum of %d";
+
+    // Contact Submission Messages
+    public static final String INVALID_PAGINATION_CURSOR = "Pagination cursor is invalid or malformed";
 
     // Resume Messages
     public static final String RESUME_UPLOAD_FAILED = "Failed to upload resume: %s";
     public static final String INVALID_PDF_FILE = "File must be a valid PDF document";
     public static final String NO_ACTIVE_RESUME = "No active resume found";
 
+    // Media Proxy Messages
+    public static final String MEDIA_NOT_FOUND = "Media not found";
+    public static final String MEDIA_ORIGIN_FAILED_FORMAT = "Media origin returned HTTP %d";
+    public static final String MEDIA_ORIGIN_UNREACHABLE = "Media origin could not be reached";
+    public static final String MEDIA_PROXY_BUSY = "Too many media files are being fetched. Please try again shortly.";
+
     // Global Exception Handler Messages
     public static final String MAX_UPLOAD_SIZE_EXCEEDED = "File size exceeds the maximum allowed upload size";
     public static final String MALFORMED_REQUEST_BODY = "Malformed request body";
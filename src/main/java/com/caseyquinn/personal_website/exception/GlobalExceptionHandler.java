@@ -18,6 +18,7 @@ import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.MissingServletRequestParameterException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 import org.springframework.web.multipart.MaxUploadSizeExceededException;
 import org.springframework.web.multipart.support.MissingServletRequestPartException;
 import org.springframework.web.servlet.resource.NoResourceFoundException;
@@ -38,6 +39,7 @@ import static com.caseyquinn.personal_website.util.HttpRequestUtils.HEADER_RETRY
 public class GlobalExceptionHandler {
 
     private static final String RETRY_AFTER_SECONDS = "60";
+    private static final String OVERLOADED_RETRY_AFTER_SECONDS = "5";
 
     @ExceptionHandler(NotFoundException.class)
     public ResponseEntity<Response<Void>> handleNotFoundException(NotFoundException ex) {
@@ -76,6 +78,24 @@ public class GlobalExceptionHandler {
                 .body(Response.error(ex.getErrorCode().getCode(), ex.getMessage()));
     }
 
+    /**
+     * Handles work shed because a bounded pool is saturated, with a short Retry-After.
+     */
+    @ExceptionHandler(ServiceOverloadedException.class)
+    public ResponseEntity<Response<Void>> handleServiceOverloaded(ServiceOverloadedException ex) {
+        log.warn("[{}] {}", ex.getErrorCode().getCode(), ex.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HEADER_RETRY_AFTER, OVERLOADED_RETRY_AFTER_SECONDS)
+                .body(Response.error(ex.getErrorCode().getCode(), ex.getMessage()));
+    }
+
+    @ExceptionHandler(MediaOriginException.class)
+    public ResponseEntity<Response<Void>> handleMediaOriginException(MediaOriginException ex) {
+        log.warn("[{}] {}", ex.getErrorCode().getCode(), ex.getMessage());
+        return ResponseEntity.status(HttpStatus.BAD_GATEWAY)
+                .body(Response.error(ex.getErrorCode().getCode(), ex.getMessage()));
+    }
+
     /**
      * Handles malformed request bodies including invalid JSON, unrecognized enum values,
      * and type mismatches during deserialization.
@@ -160,6 +180,25 @@ public class GlobalExceptionHandler {
                 .body(Response.error(ErrorCode.VALIDATION_FAILED.getCode(), message));
     }
 
+    /**
+     * Handles query and path parameters that cannot be converted (e.g., ?format=xml for an enum parameter).
+     */
+    @ExceptionHandler(MethodArgumentTypeMismatchException.class)
+    public ResponseEntity<Response<Void>> handleMethodArgumentTypeMismatch(MethodArgumentTypeMismatchException ex) {
+        log.warn("[{}] Invalid parameter '{}': {}", ErrorCode.VALIDATION_FAILED.getCode(), ex.getName(), ex.getValue());
+        Class<?> requiredType = ex.getRequiredType();
+        String message;
+        if (requiredType != null && requiredType.isEnum()) {
+            String acceptedValues = Arrays.toString(requiredType.getEnumConstants());
+            message = String.format(INVALID_ENUM_VALUE_FORMAT, ex.getValue(), ex.getName(), acceptedValues);
+        } else {
+            String typeName = requiredType != null ? requiredType.getSimpleName() : "unknown";
+            message = String.format(INVALID_FIELD_TYPE_FORMAT, ex.getName(), typeName);
+        }
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .body(Response.error(ErrorCode.VALIDATION_FAILED.getCode(), message));
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<Response<ValidationErrorResponse>> handleValidationErrors(
             MethodArgumentNotValidException ex) {
@@ -0,0 +1,26 @@
+package com.caseyquinn.personal_website.exception;
+
+/**
+ * Exception thrown when the media proxy cannot fetch an asset from its origin.
+ */
+public class MediaOriginException extends BaseException {
+
+    /**
+     * Constructs a media origin exception with a detail message.
+     *
+     * @param message the detail message
+     */
+    public MediaOriginException(String message) {
+        super(ErrorCode.MEDIA_ORIGIN_ERROR, message);
+    }
+
+    /**
+     * Constructs a media origin exception with a detail message and cause.
+     *
+     * @param message the detail message
+     * @param cause the cause
+     */
+    public MediaOriginException(String message, Throwable cause) {
+        super(ErrorCode.MEDIA_ORIGIN_ERROR, message, cause);
+    }
+}
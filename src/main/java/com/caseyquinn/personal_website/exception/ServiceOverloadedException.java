@@ -0,0 +1,16 @@
+package com.caseyquinn.personal_website.exception;
+
+/**
+ * Exception thrown when a capacity-limited operation is shed because its pool or queue is full.
+ */
+public class ServiceOverloadedException extends BaseException {
+
+    /**
+     * Constructs a service overloaded exception with a detail message.
+     *
+     * @param message the detail message
+     */
+    public ServiceOverloadedException(String message) {
+        super(ErrorCode.SERVICE_OVERLOADED, message);
+    }
+}
@@ -20,12 +20,18 @@ import java.util.List;
 )
 public interface BlogPostImageMapper {
 
+    @Mapping(target = "srcset", source = "variants")
     BlogPostImageResponse toResponse(BlogPostImage image);
 
     List<BlogPostImageResponse> toResponseList(List<BlogPostImage> images);
 
     @Mapping(target = "id", ignore = true)
     @Mapping(target = "blogPost", ignore = true)
+    @Mapping(target = "width", ignore = true)
+    @Mapping(target = "height", ignore = true)
+    @Mapping(target = "variants", ignore = true)
+    @Mapping(target = "placeholder", ignore = true)
+    @Mapping(target = "dominantColor", ignore = true)
     @Mapping(target = "createdAt", ignore = true)
     BlogPostImage toEntity(CreateBlogPostImageRequest request);
 
@@ -33,6 +39,11 @@ public interface BlogPostImageMapper {
     @Mapping(target = "blogPost", ignore = true)
     @Mapping(target = "url", ignore = true)
     @Mapping(target = "cloudinaryPublicId", ignore = true)
+    @Mapping(target = "width", ignore = true)
+    @Mapping(target = "height", ignore = true)
+    @Mapping(target = "variants", ignore = true)
+    @Mapping(target = "placeholder", ignore = true)
+    @Mapping(target = "dominantColor", ignore = true)
     @Mapping(target = "createdAt", ignore = true)
     void updateEntityFromRequest(UpdateBlogPostImageRequest request, @MappingTarget BlogPostImage image);
 }
@@ -32,6 +32,7 @@ public interface BlogPostMapper {
     @Mapping(target = "slug", ignore = true)
     @Mapping(target = "publishedAt", ignore = true)
     @Mapping(target = "viewCount", ignore = true)
+    @Mapping(target = "uniqueVisitorCount", ignore = true)
     @Mapping(target = "createdAt", ignore = true)
     @Mapping(target = "updatedAt", ignore = true)
     @Mapping(target = "categories", ignore = true)
@@ -44,6 +45,7 @@ public interface BlogPostMapper {
     @Mapping(target = "published", ignore = true)
     @Mapping(target = "publishedAt", ignore = true)
     @Mapping(target = "viewCount", ignore = true)
+    @Mapping(target = "uniqueVisitorCount", ignore = true)
     @Mapping(target = "createdAt", ignore = true)
     @Mapping(target = "updatedAt", ignore = true)
     @Mapping(target = "categories", ignore = true)
@@ -19,6 +19,7 @@ public interface ProjectImageMapper {
 
     @Mapping(target = "projectId", source = "project.id")
     @Mapping(target = "projectName", source = "project.name")
+    @Mapping(target = "srcset", source = "variants")
     ProjectImageResponse toResponse(ProjectImage image);
 
     List<ProjectImageResponse> toResponseList(List<ProjectImage> images);
@@ -27,6 +28,11 @@ public interface ProjectImageMapper {
     @Mapping(target = "project", ignore = true)
     @Mapping(target = "url", ignore = true)
     @Mapping(target = "cloudinaryPublicId", ignore = true)
+    @Mapping(target = "width", ignore = true)
+    @Mapping(target = "height", ignore = true)
+    @Mapping(target = "variants", ignore = true)
+    @Mapping(target = "placeholder", ignore = true)
+    @Mapping(target = "dominantColor", ignore = true)
     @Mapping(target = "createdAt", ignore = true)
     ProjectImage toEntity(CreateProjectImageRequest request);
 
@@ -34,6 +40,11 @@ public interface ProjectImageMapper {
     @Mapping(target = "project", ignore = true)
     @Mapping(target = "url", ignore = true)
     @Mapping(target = "cloudinaryPublicId", ignore = true)
+    @Mapping(target = "width", ignore = true)
+    @Mapping(target = "height", ignore = true)
+    @Mapping(target = "variants", ignore = true)
+    @Mapping(target = "placeholder", ignore = true)
+    @Mapping(target = "dominantColor", ignore = true)
     @Mapping(target = "createdAt", ignore = true)
     void updateEntityFromRequest(UpdateProjectImageRequest request, @MappingTarget ProjectImage image);
 }
@@ -31,6 +31,7 @@ public interface ProjectMapper {
     @Mapping(target = "id", ignore = true)
     @Mapping(target = "slug", ignore = true) // Auto-generated via @PrePersist
     @Mapping(target = "viewCount", ignore = true)
+    @Mapping(target = "uniqueVisitorCount", ignore = true)
     @Mapping(target = "createdAt", ignore = true)
     @Mapping(target = "updatedAt", ignore = true)
     @Mapping(target = "technologies", ignore = true) // Handled manually
@@ -38,6 +39,7 @@ public interface ProjectMapper {
     
     @Mapping(target = "id", ignore = true)
     @Mapping(target = "viewCount", ignore = true)
+    @Mapping(target = "uniqueVisitorCount", ignore = true)
     @Mapping(target = "createdAt", ignore = true)
     @Mapping(target = "updatedAt", ignore = true)
     @Mapping(target = "technologies", ignore = true) // Handled manually
@@ -45,6 +47,7 @@ public interface ProjectMapper {
     
     @Mapping(target = "id", ignore = true)
     @Mapping(target = "viewCount", ignore = true)
+    @Mapping(target = "uniqueVisitorCount", ignore = true)
     @Mapping(target = "createdAt", ignore = true)
     @Mapping(target = "updatedAt", ignore = true)
     @Mapping(target = "technologies", ignore = true) // Handled manually
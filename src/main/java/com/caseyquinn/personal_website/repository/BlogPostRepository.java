@@ -8,6 +8,7 @@ import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
@@ -51,5 +52,25 @@ public interface BlogPostRepository extends JpaRepository<BlogPost, Long> {
     @Query("UPDATE BlogPost p SET p.viewCount = p.viewCount + 1 WHERE p.id = :id")
     void incrementViewCount(@Param("id") Long id);
 
+    // Apply buffered view deltas in one statement; ids[i] receives deltas[i]
+    @Transactional
+    @Modifying
+    @Query(value = """
+            UPDATE blog_posts t SET view_count = t.view_count + d.delta
+            FROM unnest(CAST(:ids AS bigint[]), CAST(:deltas AS bigint[])) AS d(id, delta)
+            WHERE t.id = d.id
+            """, nativeQuery = true)
+    int incrementViewCounts(@Param("ids") Long[] ids, @Param("deltas") Long[] deltas);
+
+    // Lifetime sketch estimates never decrease; GREATEST guards against a reset sketch
+    @Transactional
+    @Modifying
+    @Query(value = """
+            UPDATE blog_posts t SET unique_visitor_count = GREATEST(t.unique_visitor_count, d.visitors)
+            FROM unnest(CAST(:ids AS bigint[]), CAST(:visitors AS bigint[])) AS d(id, visitors)
+            WHERE t.id = d.id
+            """, nativeQuery = true)
+    int updateUniqueVisitorCounts(@Param("ids") Long[] ids, @Param("visitors") Long[] visitors);
+
     long countByPublishedTrue();
 }
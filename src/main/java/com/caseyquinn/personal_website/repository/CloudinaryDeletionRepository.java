@@ -0,0 +1,123 @@
+package com.caseyquinn.personal_website.repository;
+
+import com.caseyquinn.personal_website.entity.CloudinaryDeletion;
+import com.caseyquinn.personal_website.entity.enums.DeletionStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Spring Data JPA repository for CloudinaryDeletion entities.
+ */
+@Repository
+public interface CloudinaryDeletionRepository extends JpaRepository<CloudinaryDeletion, Long> {
+
+    @Transactional
+    @Modifying
+    @Query(value = """
+            INSERT INTO cloudinary_deletions (public_id, resource_type, next_attempt_at, created_at)
+            VALUES (:publicId, CAST(:resourceType AS media_resource_type), :notBefore, :now)
+            ON CONFLICT (public_id, resource_type) WHERE status = 'PENDING' DO NOTHING
+            """, nativeQuery = true)
+    int enqueue(@Param("publicId") String publicId,
+                @Param("resourceType") String resourceType,
+                @Param("notBefore") LocalDateTime notBefore,
+                @Param("now") LocalDateTime now);
+
+    // Lease due rows of one type; SKIP LOCKED lets concurrent workers take disjoint batches
+    @Transactional
+    @Modifying
+    @Query(value = """
+            UPDATE cloudinary_deletions
+            SET claim_id = :claimId, lease_expires_at = :leaseUntil, attempts = attempts + 1
+            WHERE id IN (
+                SELECT id FROM cloudinary_deletions
+                WHERE status = 'PENDING'
+                  AND resource_type = CAST(:resourceType AS media_resource_type)
+                  AND next_attempt_at <= :now
+                  AND (lease_expires_at IS NULL OR lease_expires_at <= :now)
+                ORDER BY next_attempt_at, id
+                LIMIT :limit
+                FOR UPDATE SKIP LOCKED
+            )
+            """, nativeQuery = true)
+    int claimDue(@Param("resourceType") String resourceType,
+                 @Param("now") LocalDateTime now,
+                 @Param("leaseUntil") LocalDateTime leaseUntil,
+                 @Param("claimId") UUID claimId,
+                 @Param("limit") int limit);
+
+    List<CloudinaryDeletion> findByClaimIdOrderById(UUID claimId);
+
+    long countByStatus(DeletionStatus status);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM CloudinaryDeletion d WHERE d.id IN :ids")
+    int deleteByIds(@Param("ids") Collection<Long> ids);
+
+    @Transactional
+    @Modifying
+    @Query("""
+            UPDATE CloudinaryDeletion d
+            SET d.status = :status, d.nextAttemptAt = :nextAttemptAt, d.lastError = :error,
+                d.claimId = NULL, d.leaseExpiresAt = NULL
+            WHERE d.id = :id
+            """)
+    int recordFailure(@Param("id") Long id,
+                      @Param("status") DeletionStatus status,
+                      @Param("nextAttemptAt") LocalDateTime nextAttemptAt,
+                      @Param("error") String error);
+
+    // Every table that stores a Cloudinary public ID; an asset named here is still in use
+    @Query(value = """
+            SELECT cloudinary_public_id FROM project_images WHERE cloudinary_public_id IN (:publicIds)
+            UNION
+            SELECT cloudinary_public_id FROM blog_post_images WHERE cloudinary_public_id IN (:publicIds)
+            UNION
+            SELECT cloudinary_public_id FROM resumes WHERE cloudinary_public_id IN (:publicIds)
+            UNION
+            SELECT cloudinary_public_id FROM media_assets WHERE cloudinary_public_id IN (:publicIds)
+            """, nativeQuery = true)
+    List<String> findReferencedPublicIds(@Param("publicIds") Collection<String> publicIds);
+
+    // The candidates that appear as a path segment in any column that may hold a Cloudinary delivery
+    // URL, including rows saved before public IDs were stored and assets only linked by URL. The
+    // stored text is read once per call and never leaves the database; strpos avoids LIKE treating
+    // underscores in public IDs as wildcards.
+    @Query(value = """
+            WITH stored(value) AS MATERIALIZED (
+                SELECT url FROM project_images
+                UNION ALL
+                SELECT CAST(variants AS TEXT) FROM project_images WHERE variants IS NOT NULL
+                UNION ALL
+                SELECT url FROM blog_post_images
+                UNION ALL
+                SELECT CAST(variants AS TEXT) FROM blog_post_images WHERE variants IS NOT NULL
+                UNION ALL
+                SELECT file_url FROM resumes
+                UNION ALL
+                SELECT url FROM media_assets
+                UNION ALL
+                SELECT CAST(variants AS TEXT) FROM media_assets WHERE variants IS NOT NULL
+                UNION ALL
+                SELECT badge_url FROM certifications WHERE badge_url IS NOT NULL
+                UNION ALL
+                SELECT icon_url FROM technologies WHERE icon_url IS NOT NULL
+                UNION ALL
+                SELECT content FROM blog_posts WHERE content IS NOT NULL
+            )
+            SELECT c.public_id
+            FROM unnest(CAST(:publicIds AS text[])) AS c(public_id)
+            WHERE EXISTS (SELECT 1 FROM stored s WHERE strpos(s.value, '/' || c.public_id) > 0)
+            """, nativeQuery = true)
+    List<String> findLinkedByUrl(@Param("publicIds") String[] publicIds);
+}
@@ -12,7 +12,8 @@ import java.util.List;
  * Spring Data JPA repository for ContactSubmission entities.
  */
 @Repository
-public interface ContactSubmissionRepository extends JpaRepository<ContactSubmission, Long> {
+public interface ContactSubmissionRepository extends JpaRepository<ContactSubmission, Long>,
+        ContactSubmissionRepositoryCustom {
 
     List<ContactSubmission> findByStatusOrderByCreatedAtDesc(SubmissionStatus status);
 
@@ -0,0 +1,41 @@
+package com.caseyquinn.personal_website.repository;
+
+import com.caseyquinn.personal_website.dto.request.ContactSubmissionFilterRequest;
+import com.caseyquinn.personal_website.dto.response.ContactSubmissionResponse;
+import com.caseyquinn.personal_website.dto.response.ContactSubmissionSummaryResponse;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Custom query fragment for ContactSubmissionRepository supporting dynamic filters,
+ * keyset pagination, and cursor-based streaming.
+ */
+public interface ContactSubmissionRepositoryCustom {
+
+    /**
+     * Finds submission summaries matching the filter, ordered by creation date and ID descending,
+     * starting strictly after the given keyset position.
+     *
+     * @param filter the optional filters
+     * @param afterCreatedAt creation timestamp of the last row of the previous page, or null for the first page
+     * @param afterId ID of the last row of the previous page, or null for the first page
+     * @param limit maximum number of rows to return
+     * @return list of matching summaries
+     */
+    List<ContactSubmissionSummaryResponse> findSummaries(ContactSubmissionFilterRequest filter,
+                                                         LocalDateTime afterCreatedAt,
+                                                         Long afterId,
+                                                         int limit);
+
+    /**
+     * Streams full submission rows matching the filter using a server-side database cursor.
+     * Must be consumed inside a transaction and closed by the caller.
+     *
+     * @param filter the optional filters
+     * @param fetchSize number of rows fetched per database round trip
+     * @return stream of matching submissions
+     */
+    Stream<ContactSubmissionResponse> streamAll(ContactSubmissionFilterRequest filter, int fetchSize);
+}
@@ -0,0 +1,151 @@
+package com.caseyquinn.personal_website.repository;
+
+import com.caseyquinn.personal_website.dto.request.ContactSubmissionFilterRequest;
+import com.caseyquinn.personal_website.dto.response.ContactSubmissionResponse;
+import com.caseyquinn.personal_website.dto.response.ContactSubmissionSummaryResponse;
+import com.caseyquinn.personal_website.entity.ContactSubmission;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.jpa.HibernateHints;
+import org.hibernate.query.sqm.NodeBuilder;
+import org.hibernate.query.sqm.tree.expression.SqmExpression;
+import org.hibernate.query.sqm.tree.expression.SqmTuple;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static java.util.Objects.nonNull;
+import static org.apache.commons.lang3.StringUtils.isNotBlank;
+
+/**
+ * Criteria-based implementation of ContactSubmissionRepositoryCustom.
+ * Selects directly into DTOs so rows are never attached to the persistence context.
+ */
+public class ContactSubmissionRepositoryCustomImpl implements ContactSubmissionRepositoryCustom {
+
+    private static final String ID = "id";
+    private static final String NAME = "name";
+    private static final String EMAIL = "email";
+    private static final String SUBJECT = "subject";
+    private static final String MESSAGE = "message";
+    private static final String INQUIRY_TYPE = "inquiryType";
+    private static final String STATUS = "status";
+    private static final String IP_ADDRESS = "ipAddress";
+    private static final String USER_AGENT = "userAgent";
+    private static final String CREATED_AT = "createdAt";
+    private static final String RESPONDED_AT = "respondedAt";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<ContactSubmissionSummaryResponse> findSummaries(ContactSubmissionFilterRequest filter,
+                                                                LocalDateTime afterCreatedAt,
+                                                                Long afterId,
+                                                                int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<ContactSubmissionSummaryResponse> query = cb.createQuery(ContactSubmissionSummaryResponse.class);
+        Root<ContactSubmission> root = query.from(ContactSubmission.class);
+
+        List<Predicate> predicates = buildFilterPredicates(cb, root, filter);
+        if (nonNull(afterCreatedAt) && nonNull(afterId)) {
+            predicates.add(before(cb, root, afterCreatedAt, afterId));
+        }
+
+        query.select(cb.construct(ContactSubmissionSummaryResponse.class,
+                        root.get(ID),
+                        root.get(NAME),
+                        root.get(EMAIL),
+                        root.get(SUBJECT),
+                        root.get(INQUIRY_TYPE),
+                        root.get(STATUS),
+                        root.get(CREATED_AT),
+                        root.get(RESPONDED_AT)))
+                .where(predicates.toArray(Predicate[]::new))
+                .orderBy(cb.desc(root.get(CREATED_AT)), cb.desc(root.get(ID)));
+
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    @Override
+    public Stream<ContactSubmissionResponse> streamAll(ContactSubmissionFilterRequest filter, int fetchSize) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<ContactSubmissionResponse> query = cb.createQuery(ContactSubmissionResponse.class);
+        Root<ContactSubmission> root = query.from(ContactSubmission.class);
+
+        query.select(cb.construct(ContactSubmissionResponse.class,
+                        root.get(ID),
+                        root.get(NAME),
+                        root.get(EMAIL),
+                        root.get(SUBJECT),
+                        root.get(MESSAGE),
+                        root.get(INQUIRY_TYPE),
+                        root.get(STATUS),
+                        root.get(IP_ADDRESS),
+                        root.get(USER_AGENT),
+                        root.get(CREATED_AT),
+                        root.get(RESPONDED_AT)))
+                .where(buildFilterPredicates(cb, root, filter).toArray(Predicate[]::new))
+                .orderBy(cb.desc(root.get(CREATED_AT)), cb.desc(root.get(ID)));
+
+        return entityManager.createQuery(query)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream();
+    }
+
+    /**
+     * Keyset predicate {@code (created_at, id) < (?, ?)}. Postgres answers the row-value form with a
+     * single range scan of the {@code (created_at DESC, id DESC)} indexes, which the equivalent OR of
+     * two comparisons does not reliably get. Criteria has no row-value syntax, so the tuples come
+     * from Hibernate's query tree; their type argument only satisfies {@code lessThan}.
+     */
+    private static Predicate before(CriteriaBuilder cb, Root<ContactSubmission> root,
+                                    LocalDateTime afterCreatedAt, Long afterId) {
+        NodeBuilder nodeBuilder = (NodeBuilder) cb;
+        SqmTuple<LocalDateTime> key = new SqmTuple<>(nodeBuilder,
+                (SqmExpression<?>) root.get(CREATED_AT), (SqmExpression<?>) root.get(ID));
+        SqmTuple<LocalDateTime> cursor = new SqmTuple<>(nodeBuilder,
+                (SqmExpression<?>) nodeBuilder.value(afterCreatedAt), (SqmExpression<?>) nodeBuilder.value(afterId));
+        return cb.lessThan(key, cursor);
+    }
+
+    /**
+     * Builds AND-combined predicates for every filter field that is set.
+     *
+     * @param cb the criteria builder
+     * @param root the query root
+     * @param filter the filter parameters
+     * @return mutable list of predicates
+     */
+    private List<Predicate> buildFilterPredicates(CriteriaBuilder cb, Root<ContactSubmission> root,
+                                                  ContactSubmissionFilterRequest filter) {
+        List<Predicate> predicates = new ArrayList<>();
+
+        if (nonNull(filter.getStatus())) {
+            predicates.add(cb.equal(root.get(STATUS), filter.getStatus()));
+        }
+        if (nonNull(filter.getInquiryType())) {
+            predicates.add(cb.equal(root.get(INQUIRY_TYPE), filter.getInquiryType()));
+        }
+        if (isNotBlank(filter.getEmail())) {
+            predicates.add(cb.equal(root.get(EMAIL), filter.getEmail().trim()));
+        }
+        if (nonNull(filter.getFrom())) {
+            predicates.add(cb.greaterThanOrEqualTo(root.get(CREATED_AT), filter.getFrom()));
+        }
+        if (nonNull(filter.getTo())) {
+            predicates.add(cb.lessThan(root.get(CREATED_AT), filter.getTo()));
+        }
+
+        return predicates;
+    }
+}
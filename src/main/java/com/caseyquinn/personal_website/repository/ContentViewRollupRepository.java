@@ -0,0 +1,87 @@
+package com.caseyquinn.personal_website.repository;
+
+import com.caseyquinn.personal_website.entity.ContentViewRollup;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Spring Data JPA repository for ContentViewRollup entities.
+ */
+@Repository
+public interface ContentViewRollupRepository extends JpaRepository<ContentViewRollup, Long> {
+
+    // Add one hour bucket's views for many targets; ids[i] receives views[i]
+    @Transactional
+    @Modifying
+    @Query(value = """
+            INSERT INTO content_view_rollups (target_type, target_id, granularity, bucket_start, views)
+            SELECT CAST(:targetType AS view_target_type), d.id, 'HOUR', :bucketStart, d.views
+            FROM unnest(CAST(:ids AS bigint[]), CAST(:views AS bigint[])) AS d(id, views)
+            ON CONFLICT (target_type, granularity, bucket_start, target_id) DO UPDATE
+            SET views = content_view_rollups.views + EXCLUDED.views
+            """, nativeQuery = true)
+    int addHourlyViews(@Param("targetType") String targetType,
+                       @Param("bucketStart") LocalDateTime bucketStart,
+                       @Param("ids") Long[] ids,
+                       @Param("views") Long[] views);
+
+    // Move buckets older than the cutoff into the coarser granularity in one atomic statement
+    @Transactional
+    @Modifying
+    @Query(value = """
+            WITH moved AS (
+                DELETE FROM content_view_rollups
+                WHERE granularity = 'HOUR' AND bucket_start < :cutoff
+                RETURNING target_type, target_id, bucket_start, views
+            )
+            INSERT INTO content_view_rollups (target_type, target_id, granularity, bucket_start, views)
+            SELECT target_type, target_id, 'DAY', date_trunc('day', bucket_start), SUM(views)
+            FROM moved
+            GROUP BY target_type, target_id, date_trunc('day', bucket_start)
+            ON CONFLICT (target_type, granularity, bucket_start, target_id) DO UPDATE
+            SET views = content_view_rollups.views + EXCLUDED.views
+            """, nativeQuery = true)
+    int compactHoursIntoDays(@Param("cutoff") LocalDateTime cutoff);
+
+    @Transactional
+    @Modifying
+    @Query(value = """
+            WITH moved AS (
+                DELETE FROM content_view_rollups
+                WHERE granularity = 'DAY' AND bucket_start < :cutoff
+                RETURNING target_type, target_id, bucket_start, views
+            )
+            INSERT INTO content_view_rollups (target_type, target_id, granularity, bucket_start, views)
+            SELECT target_type, target_id, 'MONTH', date_trunc('month', bucket_start), SUM(views)
+            FROM moved
+            GROUP BY target_type, target_id, date_trunc('month', bucket_start)
+            ON CONFLICT (target_type, granularity, bucket_start, target_id) DO UPDATE
+            SET views = content_view_rollups.views + EXCLUDED.views
+            """, nativeQuery = true)
+    int compactDaysIntoMonths(@Param("cutoff") LocalDateTime cutoff);
+
+    // Exponentially decayed score: each bucket's views halve in weight every halfLifeHours
+    @Query(value = """
+            SELECT target_id,
+                   SUM(views * EXP(-LN(2) * EXTRACT(EPOCH FROM (CURRENT_TIMESTAMP - bucket_start)) / 3600.0
+                                   / :halfLifeHours)) AS score
+            FROM content_view_rollups
+            WHERE target_type = CAST(:targetType AS view_target_type)
+              AND granularity IN ('HOUR', 'DAY')
+              AND bucket_start >= :since
+            GROUP BY target_id
+            ORDER BY score DESC
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<Object[]> findTrendingScores(@Param("targetType") String targetType,
+                                      @Param("since") LocalDateTime since,
+                                      @Param("halfLifeHours") double halfLifeHours,
+                                      @Param("limit") int limit);
+}
@@ -0,0 +1,34 @@
+package com.caseyquinn.personal_website.repository;
+
+import com.caseyquinn.personal_website.entity.DailyUniqueVisitors;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+
+/**
+ * Spring Data JPA repository for DailyUniqueVisitors entities.
+ */
+@Repository
+public interface DailyUniqueVisitorsRepository extends JpaRepository<DailyUniqueVisitors, Long> {
+
+    // Sketch estimates only grow within a day, so keep the larger value if Redis was reset
+    @Transactional
+    @Modifying
+    @Query(value = """
+            INSERT INTO daily_unique_visitors (target_type, target_id, visit_date, unique_visitors, updated_at)
+            SELECT CAST(:targetType AS view_target_type), d.id, :visitDate, d.visitors, CURRENT_TIMESTAMP
+            FROM unnest(CAST(:ids AS bigint[]), CAST(:visitors AS bigint[])) AS d(id, visitors)
+            ON CONFLICT (target_type, target_id, visit_date) DO UPDATE
+            SET unique_visitors = GREATEST(daily_unique_visitors.unique_visitors, EXCLUDED.unique_visitors),
+                updated_at = CURRENT_TIMESTAMP
+            """, nativeQuery = true)
+    int upsertDailyVisitors(@Param("targetType") String targetType,
+                            @Param("visitDate") LocalDate visitDate,
+                            @Param("ids") Long[] ids,
+                            @Param("visitors") Long[] visitors);
+}
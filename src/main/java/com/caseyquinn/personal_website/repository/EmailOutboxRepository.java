@@ -0,0 +1,78 @@
+package com.caseyquinn.personal_website.repository;
+
+import com.caseyquinn.personal_website.entity.EmailOutboxMessage;
+import com.caseyquinn.personal_website.entity.enums.OutboxStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Spring Data JPA repository for EmailOutboxMessage entities.
+ */
+@Repository
+public interface EmailOutboxRepository extends JpaRepository<EmailOutboxMessage, Long> {
+
+    // Lease due rows of one type; SKIP LOCKED lets concurrent dispatchers take disjoint batches
+    @Transactional
+    @Modifying
+    @Query(value = """
+            UPDATE email_outbox
+            SET claim_id = :claimId, lease_expires_at = :leaseUntil, attempts = attempts + 1
+            WHERE id IN (
+                SELECT id FROM email_outbox
+                WHERE status = 'PENDING'
+                  AND email_type = CAST(:emailType AS email_type)
+                  AND next_attempt_at <= :now
+                  AND (lease_expires_at IS NULL OR lease_expires_at <= :now)
+                ORDER BY next_attempt_at, id
+                LIMIT :limit
+                FOR UPDATE SKIP LOCKED
+            )
+            """, nativeQuery = true)
+    int claimDue(@Param("emailType") String emailType,
+                 @Param("now") LocalDateTime now,
+                 @Param("leaseUntil") LocalDateTime leaseUntil,
+                 @Param("claimId") UUID claimId,
+                 @Param("limit") int limit);
+
+    List<EmailOutboxMessage> findByClaimIdOrderById(UUID claimId);
+
+    long countByStatus(OutboxStatus status);
+
+    @Transactional
+    @Modifying
+    @Query("""
+            UPDATE EmailOutboxMessage m
+            SET m.status = :status, m.sentAt = :now, m.claimId = NULL, m.leaseExpiresAt = NULL, m.lastError = NULL
+            WHERE m.id IN :ids
+            """)
+    int markSent(@Param("ids") Collection<Long> ids,
+                 @Param("now") LocalDateTime now,
+                 @Param("status") OutboxStatus status);
+
+    @Transactional
+    @Modifying
+    @Query("""
+            UPDATE EmailOutboxMessage m
+            SET m.status = :status, m.nextAttemptAt = :nextAttemptAt, m.lastError = :error,
+                m.claimId = NULL, m.leaseExpiresAt = NULL
+            WHERE m.id = :id
+            """)
+    int recordFailure(@Param("id") Long id,
+                      @Param("status") OutboxStatus status,
+                      @Param("nextAttemptAt") LocalDateTime nextAttemptAt,
+                      @Param("error") String error);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM EmailOutboxMessage m WHERE m.status = :status AND m.sentAt < :cutoff")
+    int deleteSentBefore(@Param("cutoff") LocalDateTime cutoff, @Param("status") OutboxStatus status);
+}
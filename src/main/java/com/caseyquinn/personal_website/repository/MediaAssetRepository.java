@@ -0,0 +1,30 @@
+package com.caseyquinn.personal_website.repository;
+
+import com.caseyquinn.personal_website.entity.MediaAsset;
+import com.caseyquinn.personal_website.entity.enums.MediaResourceType;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+/**
+ * Spring Data JPA repository for MediaAsset entities.
+ */
+@Repository
+public interface MediaAssetRepository extends JpaRepository<MediaAsset, Long> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<MediaAsset> findByContentHashAndResourceType(String contentHash, MediaResourceType resourceType);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<MediaAsset> findByCloudinaryPublicId(String cloudinaryPublicId);
+
+    // Row locks cannot cover a hash that has no row yet, so first-time uploads of the same bytes
+    // serialize on an advisory lock held until the transaction ends
+    @Query(value = "SELECT 1 FROM pg_advisory_xact_lock(:key)", nativeQuery = true)
+    Integer lockContentKey(@Param("key") long key);
+}
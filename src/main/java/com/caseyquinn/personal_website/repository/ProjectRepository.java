@@ -11,6 +11,7 @@ import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
@@ -56,6 +57,9 @@ public interface ProjectRepository extends JpaRepository<Project, Long> {
     List<Project> findPublishedByProjectTypeOrderByDisplayOrder(@Param("projectType") ProjectType projectType);
     
     // Analytics queries
+    @Query("SELECT p.id FROM Project p")
+    List<Long> findAllIds();
+    
     @Query("SELECT COUNT(p) FROM Project p WHERE p.published = true")
     long countPublishedProjects();
     
@@ -69,4 +73,24 @@ public interface ProjectRepository extends JpaRepository<Project, Long> {
     @Modifying
     @Query("UPDATE Project p SET p.viewCount = p.viewCount + 1 WHERE p.id = :id")
     void incrementViewCount(@Param("id") Long id);
+
+    // Apply buffered view deltas in one statement; ids[i] receives deltas[i]
+    @Transactional
+    @Modifying
+    @Query(value = """
+            UPDATE projects t SET view_count = t.view_count + d.delta
+            FROM unnest(CAST(:ids AS bigint[]), CAST(:deltas AS bigint[])) AS d(id, delta)
+            WHERE t.id = d.id
+            """, nativeQuery = true)
+    int incrementViewCounts(@Param("ids") Long[] ids, @Param("deltas") Long[] deltas);
+
+    // Lifetime sketch estimates never decrease; GREATEST guards against a reset sketch
+    @Transactional
+    @Modifying
+    @Query(value = """
+            UPDATE projects t SET unique_visitor_count = GREATEST(t.unique_visitor_count, d.visitors)
+            FROM unnest(CAST(:ids AS bigint[]), CAST(:visitors AS bigint[])) AS d(id, visitors)
+            WHERE t.id = d.id
+            """, nativeQuery = true)
+    int updateUniqueVisitorCounts(@Param("ids") Long[] ids, @Param("visitors") Long[] visitors);
 }
\ No newline at end of file
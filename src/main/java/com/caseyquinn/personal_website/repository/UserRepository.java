@@ -2,6 +2,8 @@ package com.caseyquinn.personal_website.repository;
 
 import com.caseyquinn.personal_website.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -43,4 +45,13 @@ public interface UserRepository extends JpaRepository<User, Long> {
      * @return true if exists
      */
     boolean existsByEmail(String email);
+
+    /**
+     * Reads only the enabled flag for a user.
+     *
+     * @param id the user ID
+     * @return Optional containing the enabled flag if the user exists
+     */
+    @Query("SELECT u.enabled FROM User u WHERE u.id = :id")
+    Optional<Boolean> findEnabledById(@Param("id") Long id);
 }
@@ -0,0 +1,139 @@
+package com.caseyquinn.personal_website.security;
+
+import com.caseyquinn.personal_website.config.ConcurrencyLimitProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.util.Objects.isNull;
+
+/**
+ * Gradient-based adaptive concurrency limit.
+ *
+ * <p>Each completed request feeds its latency into a short-term and a long-term moving average.
+ * While recent latency stays within {@code rttTolerance} of the baseline the limit grows by roughly
+ * the square root of itself; once requests start queueing (for example on the connection pool)
+ * recent latency climbs and the limit shrinks in proportion. Standard requests may only use part
+ * of the limit, leaving headroom for cached priority reads.</p>
+ */
+@Component
+public class AdaptiveConcurrencyLimit {
+
+    private static final double SHORT_WINDOW_WEIGHT = 0.1;
+    private static final double MIN_GRADIENT = 0.5;
+    private static final double BASELINE_DRIFT_RATIO = 2.0;
+    private static final double BASELINE_DRIFT_DECAY = 0.95;
+
+    private final ConcurrencyLimitProperties properties;
+    private final AtomicInteger inflight = new AtomicInteger();
+    private final Counter priorityRejections;
+    private final Counter standardRejections;
+
+    private volatile int limit;
+    private double estimatedLimit;
+    private double shortRttNanos;
+    private double longRttNanos;
+
+    public AdaptiveConcurrencyLimit(ConcurrencyLimitProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.estimatedLimit = properties.getInitialLimit();
+        this.limit = properties.getInitialLimit();
+
+        Gauge.builder("concurrency.limit", this, AdaptiveConcurrencyLimit::getLimit)
+                .description("Current adaptive concurrency limit")
+                .register(meterRegistry);
+        Gauge.builder("concurrency.inflight", inflight, AtomicInteger::get)
+                .description("Requests currently admitted by the concurrency limiter")
+                .register(meterRegistry);
+        this.priorityRejections = Counter.builder("concurrency.rejected")
+                .description("Requests shed by the concurrency limiter")
+                .tag("priority", "true")
+                .register(meterRegistry);
+        this.standardRejections = Counter.builder("concurrency.rejected")
+                .description("Requests shed by the concurrency limiter")
+                .tag("priority", "false")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Admits a request if there is room under the limit for its priority.
+     *
+     * @param priority true for cached reads that may use the full limit
+     * @return a permit to release when the request completes, or null if the request should be shed
+     */
+    public Permit tryAcquire(boolean priority) {
+        int current = limit;
+        int allowed = priority ? current : Math.max(1, (int) (current * properties.getStandardShare()));
+        while (true) {
+            int active = inflight.get();
+            if (active >= allowed) {
+                (priority ? priorityRejections : standardRejections).increment();
+                return null;
+            }
+            if (inflight.compareAndSet(active, active + 1)) {
+                return new Permit(System.nanoTime(), active + 1);
+            }
+        }
+    }
+
+    /**
+     * Releases a permit and feeds the request's latency into the limit.
+     *
+     * @param permit the permit returned by {@link #tryAcquire(boolean)}
+     */
+    public void release(Permit permit) {
+        if (isNull(permit)) {
+            return;
+        }
+        inflight.decrementAndGet();
+        onSample(System.nanoTime() - permit.startNanos(), permit.inflight());
+    }
+
+    /**
+     * @return the current concurrency limit
+     */
+    public int getLimit() {
+        return limit;
+    }
+
+    private synchronized void onSample(long rttNanos, int inflightAtStart) {
+        if (longRttNanos == 0) {
+            shortRttNanos = rttNanos;
+            longRttNanos = rttNanos;
+            return;
+        }
+
+        shortRttNanos += (rttNanos - shortRttNanos) * SHORT_WINDOW_WEIGHT;
+        longRttNanos += (rttNanos - longRttNanos) / properties.getLongWindow();
+
+        // After a sustained overload the baseline itself is inflated; let it fall back toward recent latency
+        if (longRttNanos / shortRttNanos > BASELINE_DRIFT_RATIO) {
+            longRttNanos *= BASELINE_DRIFT_DECAY;
+        }
+
+        double gradient = Math.clamp(properties.getRttTolerance() * longRttNanos / shortRttNanos, MIN_GRADIENT, 1.0);
+        double target = estimatedLimit * gradient + Math.sqrt(estimatedLimit);
+
+        // Don't grow the limit on samples that never came close to using it
+        if (target > estimatedLimit && inflightAtStart < estimatedLimit / 2) {
+            return;
+        }
+
+        double smoothing = properties.getSmoothing();
+        estimatedLimit = Math.clamp(estimatedLimit * (1 - smoothing) + target * smoothing,
+                properties.getMinLimit(), properties.getMaxLimit());
+        limit = (int) estimatedLimit;
+    }
+
+    /**
+     * Admission ticket for one request.
+     *
+     * @param startNanos when the request was admitted
+     * @param inflight requests in flight including this one at admission
+     */
+    public record Permit(long startNanos, int inflight) {
+    }
+}
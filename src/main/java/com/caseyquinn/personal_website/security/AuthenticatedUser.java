@@ -0,0 +1,17 @@
+package com.caseyquinn.personal_website.security;
+
+import java.security.Principal;
+
+/**
+ * Principal built from verified access token claims, without loading the user entity.
+ *
+ * @param id the user ID
+ * @param username the username
+ */
+public record AuthenticatedUser(Long id, String username) implements Principal {
+
+    @Override
+    public String getName() {
+        return username;
+    }
+}
@@ -0,0 +1,123 @@
+package com.caseyquinn.personal_website.security;
+
+import com.caseyquinn.personal_website.config.ConcurrencyLimitProperties;
+import com.caseyquinn.personal_website.dto.response.Response;
+import com.caseyquinn.personal_website.exception.ErrorCode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.PathContainer;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.io.IOException;
+import java.util.List;
+
+import static com.caseyquinn.personal_website.util.HttpRequestUtils.HEADER_RETRY_AFTER;
+import static java.util.Objects.isNull;
+
+/**
+ * Sheds API requests with 503 once the adaptive concurrency limit is reached, so a traffic spike
+ * fails fast instead of queueing on the database connection pool until every request times out.
+ * GET requests matching the configured priority patterns are cached reads and may use the full limit.
+ */
+@Component
+@Slf4j
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    private static final String API_PREFIX = "/api/";
+    private static final String HEALTH_PATH = "/api/v1/health";
+
+    private final ConcurrencyLimitProperties properties;
+    private final AdaptiveConcurrencyLimit concurrencyLimit;
+    private final ObjectMapper objectMapper;
+    private final List<PathPattern> priorityPatterns;
+
+    public ConcurrencyLimitFilter(ConcurrencyLimitProperties properties,
+                                  AdaptiveConcurrencyLimit concurrencyLimit,
+                                  ObjectMapper objectMapper) {
+        this.properties = properties;
+        this.concurrencyLimit = concurrencyLimit;
+        this.objectMapper = objectMapper;
+        this.priorityPatterns = properties.getPriorityPatterns().stream()
+                .map(PathPatternParser.defaultInstance::parse)
+                .toList();
+    }
+
+    @Override
+    protected void doFilterInternal(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain
+    ) throws ServletException, IOException {
+        AdaptiveConcurrencyLimit.Permit permit = concurrencyLimit.tryAcquire(isPriority(request));
+        if (isNull(permit)) {
+            log.warn("Shedding request to {} at concurrency limit {}",
+                    request.getRequestURI(), concurrencyLimit.getLimit());
+            writeOverloadedResponse(response);
+            return;
+        }
+
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            concurrencyLimit.release(permit);
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        String path = request.getRequestURI();
+        return !properties.isEnabled()
+                || !path.startsWith(API_PREFIX)
+                || path.equals(HEALTH_PATH)
+                || HttpMethod.OPTIONS.matches(request.getMethod());
+    }
+
+    /**
+     * Determines whether the request is a cached public read.
+     *
+     * @param request the HTTP request
+     * @return true if the request is a GET matching a priority pattern
+     */
+    private boolean isPriority(HttpServletRequest request) {
+        if (!HttpMethod.GET.matches(request.getMethod())) {
+            return false;
+        }
+        PathContainer path = PathContainer.parsePath(request.getRequestURI());
+        for (PathPattern pattern : priorityPatterns) {
+            if (pattern.matches(path)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Writes a 503 Service Unavailable response with Retry-After header.
+     *
+     * @param response the HTTP response
+     * @throws IOException if writing the response fails
+     */
+    private void writeOverloadedResponse(HttpServletResponse response) throws IOException {
+        response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        response.setHeader(HEADER_RETRY_AFTER, String.valueOf(properties.getRetryAfter().toSeconds()));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+
+        Response<Void> errorResponse = Response.error(
+                ErrorCode.SERVICE_OVERLOADED.getCode(),
+                ErrorCode.SERVICE_OVERLOADED.getDefaultMessage()
+        );
+
+        response.getWriter().write(objectMapper.writeValueAsString(errorResponse));
+    }
+}
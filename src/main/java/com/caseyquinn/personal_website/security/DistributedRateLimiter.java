@@ -0,0 +1,180 @@
+package com.caseyquinn.personal_website.security;
+
+import com.caseyquinn.personal_website.config.RateLimitProperties;
+import io.github.bucket4j.BucketConfiguration;
+import io.github.bucket4j.ConsumptionProbe;
+import io.github.bucket4j.distributed.ExpirationAfterWriteStrategy;
+import io.github.bucket4j.distributed.proxy.ProxyManager;
+import io.github.bucket4j.distributed.proxy.RemoteBucketBuilder;
+import io.github.bucket4j.distributed.proxy.optimization.DelayParameters;
+import io.github.bucket4j.distributed.proxy.optimization.Optimizations;
+import io.github.bucket4j.redis.lettuce.cas.LettuceBasedProxyManager;
+import io.lettuce.core.AbstractRedisClient;
+import io.lettuce.core.RedisClient;
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.codec.ByteArrayCodec;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+/**
+ * Redis-backed rate limiting shared by every application replica.
+ *
+ * <p>Buckets live in Redis through Bucket4j's Lettuce proxy manager. Each bucket proxy holds a
+ * small local token allowance and only synchronizes with Redis once it is spent or stale, so most
+ * requests never make a Redis round trip. If Redis is unreachable, callers are told to fall back
+ * to local limiting and Redis is not retried until the cooldown passes.</p>
+ *
+ * <p>The connection is opened from the auto-configured Lettuce client, so it honours every
+ * {@code spring.data.redis} setting (URL, SSL, credentials, database) and shares its event loops.</p>
+ */
+@Component
+@ConditionalOnProperty(prefix = "rate-limiting.distributed", name = "enabled", havingValue = "true")
+@Slf4j
+public class DistributedRateLimiter {
+
+    private static final Duration KEEP_AFTER_REFILL = Duration.ofSeconds(10);
+    private static final int UNSYNCHRONIZED_TOKEN_DIVISOR = 10;
+
+    private final RateLimitProperties.Distributed properties;
+    private final LettuceConnectionFactory connectionFactory;
+    private final Map<String, RateLimitBucketStore> stores;
+    private final Counter fallbackCounter;
+    private final ReentrantLock connectLock = new ReentrantLock();
+
+    private volatile StatefulRedisConnection<byte[], byte[]> connection;
+    private volatile ProxyManager<byte[]> proxyManager;
+    private volatile long retryAtNanos;
+
+    public DistributedRateLimiter(RateLimitProperties rateLimitProperties,
+                                  RateLimitRouteTable routeTable,
+                                  LettuceConnectionFactory connectionFactory,
+                                  MeterRegistry meterRegistry) {
+        this.properties = rateLimitProperties.getDistributed();
+        this.connectionFactory = connectionFactory;
+        this.retryAtNanos = System.nanoTime();
+        int maxBuckets = rateLimitProperties.getMaxBucketsPerTier();
+        Map<String, RateLimitBucketStore> bucketStores = new HashMap<>();
+        routeTable.limits().forEach((bucket, limit) ->
+                bucketStores.put(bucket, createStore(bucket, limit, maxBuckets, meterRegistry)));
+        this.stores = Map.copyOf(bucketStores);
+        this.fallbackCounter = Counter.builder("rate_limit.distributed.fallbacks")
+                .description("Requests limited locally because Redis was unavailable")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Charges the rule's cost against the client's shared bucket.
+     *
+     * @param rule the matched bucket and token cost
+     * @param clientIp the client IP address
+     * @return the consumption result, or empty if Redis is unavailable and the caller should limit locally
+     */
+    public Optional<ConsumptionProbe> tryConsume(RateLimitRouteTable.Rule rule, String clientIp) {
+        if (System.nanoTime() - retryAtNanos < 0) {
+            fallbackCounter.increment();
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(stores.get(rule.bucket()).resolve(clientIp).tryConsumeAndReturnRemaining(rule.cost()));
+        } catch (RuntimeException e) {
+            retryAtNanos = System.nanoTime() + properties.getFallbackCooldown().toNanos();
+            fallbackCounter.increment();
+            log.warn("Distributed rate limiting unavailable, falling back to local limits for {}: {}",
+                    properties.getFallbackCooldown(), e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Expires bucket proxies idle for their tier's refill window; Redis expires the shared state itself.
+     */
+    public void evictIdleBuckets() {
+        stores.values().forEach(RateLimitBucketStore::evictIdle);
+    }
+
+    /**
+     * Closes the Redis connection. The client belongs to the connection factory and is shut down with it.
+     */
+    @PreDestroy
+    public void shutdown() {
+        if (nonNull(connection)) {
+            connection.close();
+        }
+    }
+
+    /**
+     * Creates the proxy store for a bucket. The local allowance is capped at a tenth of the bucket's
+     * capacity so that small limits such as login stay effectively exact across replicas.
+     */
+    private RateLimitBucketStore createStore(String bucket, RateLimitProperties.Tier config, int maxBuckets,
+                                             MeterRegistry meterRegistry) {
+        BucketConfiguration configuration = BucketConfiguration.builder()
+                .addLimit(RateLimitFilter.bandwidthFor(config))
+                .build();
+        long unsynchronizedTokens = Math.min(properties.getMaxUnsynchronizedTokens(),
+                config.getRequests() / UNSYNCHRONIZED_TOKEN_DIVISOR);
+        String keyPrefix = properties.getKeyPrefix() + bucket + ":";
+
+        RateLimitBucketStore store = new RateLimitBucketStore(clientIp -> {
+            RemoteBucketBuilder<byte[]> builder = proxyManager().builder();
+            if (unsynchronizedTokens > 0) {
+                builder = builder.withOptimization(Optimizations.delaying(
+                        new DelayParameters(unsynchronizedTokens, properties.getMaxUnsynchronizedTimeout())));
+            }
+            return builder.build((keyPrefix + clientIp).getBytes(StandardCharsets.UTF_8), () -> configuration);
+        }, maxBuckets, Duration.ofMinutes(config.getDurationMinutes()).toNanos());
+        store.registerMetrics(meterRegistry, bucket, "distributed");
+        return store;
+    }
+
+    /**
+     * Connects to Redis on first use, so an unreachable Redis at startup degrades to local limiting
+     * instead of failing the application.
+     */
+    private ProxyManager<byte[]> proxyManager() {
+        ProxyManager<byte[]> current = proxyManager;
+        if (nonNull(current)) {
+            return current;
+        }
+        // A lock rather than synchronized: connecting blocks on I/O and would pin a virtual thread
+        connectLock.lock();
+        try {
+            if (isNull(proxyManager)) {
+                connection = redisClient().connect(ByteArrayCodec.INSTANCE);
+                connection.setTimeout(properties.getCommandTimeout());
+                proxyManager = LettuceBasedProxyManager.builderFor(connection)
+                        .withExpirationStrategy(
+                                ExpirationAfterWriteStrategy.basedOnTimeForRefillingBucketUpToMax(KEEP_AFTER_REFILL))
+                        .build();
+                log.info("Connected distributed rate limiting to Redis");
+            }
+            return proxyManager;
+        } finally {
+            connectLock.unlock();
+        }
+    }
+
+    private RedisClient redisClient() {
+        AbstractRedisClient client = connectionFactory.getRequiredNativeClient();
+        if (!(client instanceof RedisClient redisClient)) {
+            throw new IllegalStateException("Distributed rate limiting requires a standalone Redis connection, got "
+                    + client.getClass().getSimpleName());
+        }
+        return redisClient;
+    }
+}
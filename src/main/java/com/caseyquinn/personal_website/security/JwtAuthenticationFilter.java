@@ -17,12 +17,15 @@ import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.Optional;
 
 import static com.caseyquinn.personal_website.constants.SecurityConstants.*;
+import static java.util.Objects.nonNull;
 import static org.apache.commons.lang3.StringUtils.isNotBlank;
 
 /**
  * JWT authentication filter that validates JWT tokens on each request.
+ * Authorities come from the token's signed claims, so authenticated requests need no user lookup.
  */
 @Component
 @RequiredArgsConstructor
@@ -31,6 +34,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtTokenProvider tokenProvider;
     private final UserDetailsService userDetailsService;
+    private final UserStatusCache userStatusCache;
 
     @Override
     protected void doFilterInternal(
@@ -41,20 +45,14 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         try {
             String jwt = getJwtFromRequest(request);
 
-            if (isNotBlank(jwt) && tokenProvider.validateToken(jwt)) {
-                String username = tokenProvider.getUsernameFromToken(jwt);
-
-                UserDetails userDetails = userDetailsService.loadUserByUsername(username);
-                UsernamePasswordAuthenticationToken authentication =
-                        new UsernamePasswordAuthenticationToken(
-                                userDetails,
-                                null,
-                                userDetails.getAuthorities()
-                        );
-                authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-
-                SecurityContextHolder.getContext().setAuthentication(authentication);
-                log.debug("Set authentication for user: {}", username);
+            Optional<VerifiedToken> verified = isNotBlank(jwt) ? tokenProvider.verify(jwt) : Optional.empty();
+            if (verified.isPresent()) {
+                UsernamePasswordAuthenticationToken authentication = authenticate(verified.get());
+                if (nonNull(authentication)) {
+                    authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+                    SecurityContextHolder.getContext().setAuthentication(authentication);
+                    log.debug("Set authentication for user: {}", verified.get().username());
+                }
             }
         } catch (Exception ex) {
             log.error("Could not set user authentication in security context", ex);
@@ -63,6 +61,33 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
+    /**
+     * Builds the authentication from the token's signed claims. Tokens issued before the user ID and
+     * roles were embedded fall back to loading the user.
+     *
+     * @param token the verified token
+     * @return the authentication, or null if the user has been disabled or deleted
+     */
+    private UsernamePasswordAuthenticationToken authenticate(VerifiedToken token) {
+        if (token.hasEmbeddedAuthorities()) {
+            if (!userStatusCache.isActive(token.userId())) {
+                return null;
+            }
+            return new UsernamePasswordAuthenticationToken(
+                    new AuthenticatedUser(token.userId(), token.username()),
+                    null,
+                    token.authorities()
+            );
+        }
+
+        UserDetails userDetails = userDetailsService.loadUserByUsername(token.username());
+        return new UsernamePasswordAuthenticationToken(
+                userDetails,
+                null,
+                userDetails.getAuthorities()
+        );
+    }
+
     /**
      * Extracts JWT token from Authorization header.
      *
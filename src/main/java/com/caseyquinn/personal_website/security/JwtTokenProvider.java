@@ -1,30 +1,77 @@
 package com.caseyquinn.personal_website.security;
 
+import com.caseyquinn.personal_website.entity.User;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Collection;
 import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static com.caseyquinn.personal_website.constants.SecurityConstants.CLAIM_ROLES;
+import static com.caseyquinn.personal_website.constants.SecurityConstants.CLAIM_USER_ID;
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
 
 /**
  * JWT token provider for generating and validating JWT tokens.
+ * The signing key and parser are built once; verified tokens are cached until they expire so
+ * repeat requests with the same token skip parsing and signature verification. The cache is keyed
+ * on the token's signature segment, which is already a MAC over the rest of the token, and a hit
+ * also requires the whole token to match, so no digest has to be computed per request.
  */
 @Component
+@RequiredArgsConstructor
 @Slf4j
 public class JwtTokenProvider {
 
+    private final MeterRegistry meterRegistry;
+
     @Value("${jwt.secret}")
     private String jwtSecret;
 
     @Value("${jwt.expiration}")
     private long jwtExpiration;
 
+    @Value("${jwt.verified-cache-size:1024}")
+    private int verifiedCacheSize;
+
+    private final Map<String, CachedToken> verifiedTokens = new ConcurrentHashMap<>();
+    private SecretKey signingKey;
+    private JwtParser parser;
+    private Counter cacheHits;
+    private Counter verifications;
+    private Counter rejections;
+
+    /**
+     * Builds the signing key and parser once; both are immutable and thread-safe.
+     */
+    @PostConstruct
+    void init() {
+        signingKey = Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8));
+        parser = Jwts.parser().verifyWith(signingKey).build();
+        cacheHits = verificationCounter("cache_hit");
+        verifications = verificationCounter("verified");
+        rejections = verificationCounter("rejected");
+    }
+
     /**
      * Generates JWT token from authentication.
      *
@@ -33,56 +80,79 @@ public class JwtTokenProvider {
      */
     public String generateToken(Authentication authentication) {
         UserDetails userDetails = (UserDetails) authentication.getPrincipal();
-        return generateToken(userDetails.getUsername());
+        Long userId = userDetails instanceof User user ? user.getId() : null;
+        return generateToken(userDetails.getUsername(), userId, userDetails.getAuthorities());
     }
 
     /**
-     * Generates JWT token from username.
+     * Generates JWT token carrying the user ID and roles as signed claims, so requests can be
+     * authenticated from the token alone.
      *
      * @param username the username
+     * @param userId the user ID
+     * @param authorities the user's granted authorities
      * @return JWT token string
      */
-    public String generateToken(String username) {
+    public String generateToken(String username, Long userId, Collection<? extends GrantedAuthority> authorities) {
         Date now = new Date();
         Date expiryDate = new Date(now.getTime() + jwtExpiration);
+        List<String> roles = authorities.stream()
+                .map(GrantedAuthority::getAuthority)
+                .toList();
 
         return Jwts.builder()
                 .subject(username)
+                .claim(CLAIM_USER_ID, userId)
+                .claim(CLAIM_ROLES, roles)
                 .issuedAt(now)
                 .expiration(expiryDate)
-                .signWith(getSigningKey())
+                .signWith(signingKey)
                 .compact();
     }
 
     /**
-     * Extracts username from JWT token.
+     * Verifies a token in a single parse, serving recently verified tokens from cache.
      *
      * @param token JWT token
-     * @return username
+     * @return the verified claims, or empty if the token is invalid or expired
      */
-    public String getUsernameFromToken(String token) {
-        Claims claims = Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
-
-        return claims.getSubject();
+    public Optional<VerifiedToken> verify(String token) {
+        String signature = signatureOf(token);
+        Instant now = Instant.now();
+
+        CachedToken cached = verifiedTokens.get(signature);
+        // A token reusing a cached signature over other claims misses and is verified in full
+        if (nonNull(cached) && cached.token().equals(token)) {
+            if (cached.verified().isValidAt(now)) {
+                cacheHits.increment();
+                return Optional.of(cached.verified());
+            }
+            verifiedTokens.remove(signature, cached);
+        }
+
+        Optional<Claims> claims = parseClaims(token);
+        if (claims.isEmpty()) {
+            rejections.increment();
+            return Optional.empty();
+        }
+
+        verifications.increment();
+        Claims payload = claims.get();
+        VerifiedToken verified = new VerifiedToken(payload.getSubject(), payload.get(CLAIM_USER_ID, Long.class),
+                authoritiesOf(payload), payload.getExpiration().toInstant());
+        remember(signature, token, verified, now);
+        return Optional.of(verified);
     }
 
     /**
-     * Validates JWT token.
+     * Parses and verifies a token, logging the reason it was rejected.
      *
      * @param token JWT token
-     * @return true if valid, false otherwise
+     * @return the verified claims, or empty if invalid
      */
-    public boolean validateToken(String token) {
+    private Optional<Claims> parseClaims(String token) {
         try {
-            Jwts.parser()
-                    .verifyWith(getSigningKey())
-                    .build()
-                    .parseSignedClaims(token);
-            return true;
+            return Optional.of(parser.parseSignedClaims(token).getPayload());
         } catch (SecurityException ex) {
             log.error("Invalid JWT signature");
         } catch (MalformedJwtException ex) {
@@ -93,17 +163,53 @@ public class JwtTokenProvider {
             log.error("Unsupported JWT token");
         } catch (IllegalArgumentException ex) {
             log.error("JWT claims string is empty");
+        } catch (JwtException ex) {
+            log.error("JWT verification failed: {}", ex.getMessage());
         }
-        return false;
+        return Optional.empty();
     }
 
     /**
-     * Gets the signing key for JWT.
-     *
-     * @return SecretKey
+     * Caches a verified token. When the cache is full, expired entries are purged first; if it is
+     * still full the token is simply not cached.
      */
-    private SecretKey getSigningKey() {
-        byte[] keyBytes = jwtSecret.getBytes(StandardCharsets.UTF_8);
-        return Keys.hmacShaKeyFor(keyBytes);
+    private void remember(String signature, String token, VerifiedToken verified, Instant now) {
+        if (verifiedTokens.size() >= verifiedCacheSize) {
+            verifiedTokens.values().removeIf(entry -> !entry.verified().isValidAt(now));
+            if (verifiedTokens.size() >= verifiedCacheSize) {
+                return;
+            }
+        }
+        verifiedTokens.put(signature, new CachedToken(token, verified));
+    }
+
+    /**
+     * The text after the last dot, which for a signed token is its signature.
+     */
+    private static String signatureOf(String token) {
+        return token.substring(token.lastIndexOf('.') + 1);
+    }
+
+    /**
+     * Reads the roles claim into authorities; tokens without the claim yield an empty list.
+     */
+    private static List<GrantedAuthority> authoritiesOf(Claims claims) {
+        List<?> roles = claims.get(CLAIM_ROLES, List.class);
+        if (isNull(roles)) {
+            return List.of();
+        }
+        return roles.stream()
+                .map(role -> (GrantedAuthority) new SimpleGrantedAuthority(String.valueOf(role)))
+                .toList();
+    }
+
+    private Counter verificationCounter(String result) {
+        return Counter.builder("jwt.verifications")
+                .description("Access token verifications by outcome")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private record CachedToken(String token, VerifiedToken verified) {
     }
 }
@@ -0,0 +1,166 @@
+package com.caseyquinn.personal_website.security;
+
+import io.github.bucket4j.Bucket;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+import static java.util.Objects.isNull;
+
+/**
+ * Size-bounded, idle-expiring store of rate limit buckets for a single tier, keyed by client IP.
+ * Holds either local buckets or Redis-backed bucket proxies.
+ *
+ * <p>Lookups of known clients are lock-free. A bucket left idle for its full refill window is back
+ * at capacity, so expiring it loses no limiting state. When the store overflows, one thread evicts
+ * a batch of the least recently used buckets while the others carry on; evicting an active bucket
+ * resets that client's limit, which is why active clients are the last to go.</p>
+ */
+public class RateLimitBucketStore {
+
+    private static final int FORCED_EVICTION_DIVISOR = 100;
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final Function<String, Bucket> bucketFactory;
+    private final int maxEntries;
+    private final long idleTimeoutNanos;
+    // Only ever tried, never waited on, so an overflow pass never blocks request threads
+    private final ReentrantLock evictionLock = new ReentrantLock();
+    private final LongAdder idleEvictions = new LongAdder();
+    private final LongAdder capacityEvictions = new LongAdder();
+
+    /**
+     * Creates a bucket store.
+     *
+     * @param bucketFactory creates a bucket for a newly seen client key
+     * @param maxEntries maximum number of buckets held at once
+     * @param idleTimeoutNanos buckets untouched for this long are expired
+     */
+    public RateLimitBucketStore(Function<String, Bucket> bucketFactory, int maxEntries, long idleTimeoutNanos) {
+        this.bucketFactory = bucketFactory;
+        this.maxEntries = maxEntries;
+        this.idleTimeoutNanos = idleTimeoutNanos;
+    }
+
+    /**
+     * Returns the bucket for the client, creating one if needed and refreshing its idle timer.
+     *
+     * @param clientKey the client identifier
+     * @return the client's bucket
+     */
+    public Bucket resolve(String clientKey) {
+        long now = System.nanoTime();
+        Entry entry = entries.get(clientKey);
+        if (isNull(entry)) {
+            entry = entries.computeIfAbsent(clientKey, key -> new Entry(bucketFactory.apply(key), now));
+            if (entries.size() > maxEntries) {
+                makeRoom(now);
+            }
+        }
+        entry.lastAccessNanos = now;
+        return entry.bucket;
+    }
+
+    /**
+     * Removes buckets that have been idle longer than the idle timeout.
+     *
+     * @return number of buckets removed
+     */
+    public int evictIdle() {
+        long now = System.nanoTime();
+        int removed = 0;
+        Iterator<Entry> iterator = entries.values().iterator();
+        while (iterator.hasNext()) {
+            if (now - iterator.next().lastAccessNanos > idleTimeoutNanos) {
+                iterator.remove();
+                removed++;
+            }
+        }
+        idleEvictions.add(removed);
+        return removed;
+    }
+
+    /**
+     * @return current number of buckets held
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Registers the store's size and its idle and capacity eviction counts.
+     *
+     * @param meterRegistry registry for store metrics
+     * @param tier the bucket name
+     * @param scope {@code local} or {@code distributed}
+     */
+    public void registerMetrics(MeterRegistry meterRegistry, String tier, String scope) {
+        Gauge.builder("rate_limit.buckets", this, RateLimitBucketStore::size)
+                .description("Rate limit buckets currently held")
+                .tag("tier", tier)
+                .tag("scope", scope)
+                .register(meterRegistry);
+        FunctionCounter.builder("rate_limit.buckets.evicted", idleEvictions, LongAdder::sum)
+                .description("Rate limit buckets evicted as idle or to stay within capacity")
+                .tag("tier", tier)
+                .tag("scope", scope)
+                .tag("reason", "idle")
+                .register(meterRegistry);
+        FunctionCounter.builder("rate_limit.buckets.evicted", capacityEvictions, LongAdder::sum)
+                .description("Rate limit buckets evicted as idle or to stay within capacity")
+                .tag("tier", tier)
+                .tag("scope", scope)
+                .tag("reason", "capacity")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Evicts the overflow plus a batch of headroom, least recently used first, so a flood of new
+     * clients pays for one pass per batch rather than per insert. Skipped if another thread is
+     * already evicting.
+     */
+    private void makeRoom(long now) {
+        if (!evictionLock.tryLock()) {
+            return;
+        }
+        try {
+            int toEvict = entries.size() - maxEntries + Math.max(1, maxEntries / FORCED_EVICTION_DIVISOR);
+            long[] ages = entries.values().stream().mapToLong(entry -> now - entry.lastAccessNanos).toArray();
+            if (toEvict <= 0 || ages.length == 0) {
+                return;
+            }
+            Arrays.sort(ages);
+            long cutoffAge = ages[Math.max(0, ages.length - toEvict)];
+
+            int removed = 0;
+            Iterator<Entry> iterator = entries.values().iterator();
+            while (removed < toEvict && iterator.hasNext()) {
+                if (now - iterator.next().lastAccessNanos >= cutoffAge) {
+                    iterator.remove();
+                    removed++;
+                }
+            }
+            capacityEvictions.add(removed);
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    private static final class Entry {
+        private final Bucket bucket;
+        private volatile long lastAccessNanos;
+
+        private Entry(Bucket bucket, long lastAccessNanos) {
+            this.bucket = bucket;
+            this.lastAccessNanos = lastAccessNanos;
+        }
+    }
+}
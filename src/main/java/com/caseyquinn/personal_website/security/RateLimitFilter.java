@@ -7,41 +7,63 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import io.github.bucket4j.Bandwidth;
 import io.github.bucket4j.Bucket;
 import io.github.bucket4j.ConsumptionProbe;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.lang.NonNull;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
 import java.time.Duration;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
 
-import static com.caseyquinn.personal_website.constants.SecurityConstants.*;
 import static com.caseyquinn.personal_website.util.HttpRequestUtils.HEADER_RETRY_AFTER;
 import static com.caseyquinn.personal_website.util.HttpRequestUtils.HEADER_X_RATE_LIMIT_REMAINING;
 import static com.caseyquinn.personal_website.util.HttpRequestUtils.extractIpAddress;
+import static java.util.Objects.nonNull;
 
 /**
  * Rate limiting filter using Bucket4j with per-IP, per-tier token buckets.
- * Classifies requests into login, admin, or public tiers with configurable limits.
+ * Classifies requests into login, admin, or public tiers with configurable limits, and charges
+ * configured routes their own token cost or against their own bucket via {@link RateLimitRouteTable}.
+ * Each tier keeps its own bounded store; buckets idle for a full refill window are expired.
+ * When distributed limiting is enabled, limits are shared across replicas through Redis and the
+ * local buckets only serve as a fallback while Redis is unavailable.
  */
 @Component
-@RequiredArgsConstructor
 @Slf4j
 public class RateLimitFilter extends OncePerRequestFilter {
 
     private final RateLimitProperties rateLimitProperties;
     private final ObjectMapper objectMapper;
-
-    private final ConcurrentMap<String, Bucket> buckets = new ConcurrentHashMap<>();
+    private final Map<String, RateLimitBucketStore> stores;
+    private final DistributedRateLimiter distributedRateLimiter;
+    private final RateLimitRouteTable routeTable;
+
+    public RateLimitFilter(RateLimitProperties rateLimitProperties,
+                           ObjectMapper objectMapper,
+                           RateLimitRouteTable routeTable,
+                           MeterRegistry meterRegistry,
+                           ObjectProvider<DistributedRateLimiter> distributedRateLimiter) {
+        this.rateLimitProperties = rateLimitProperties;
+        this.objectMapper = objectMapper;
+        this.distributedRateLimiter = distributedRateLimiter.getIfAvailable();
+        this.routeTable = routeTable;
+        Map<String, RateLimitBucketStore> tierStores = new HashMap<>();
+        routeTable.limits().forEach((bucket, limit) ->
+                tierStores.put(bucket, createStore(bucket, limit, meterRegistry)));
+        this.stores = Map.copyOf(tierStores);
+    }
 
     @Override
     protected void doFilterInternal(
@@ -55,22 +77,36 @@ public class RateLimitFilter extends OncePerRequestFilter {
         }
 
         String clientIp = extractIpAddress(request);
-        String tier = classifyRequest(request);
-        String bucketKey = clientIp + ":" + tier;
+        RateLimitRouteTable.Rule rule = routeTable.resolve(request);
 
-        Bucket bucket = buckets.computeIfAbsent(bucketKey, key -> createBucket(tier));
-        ConsumptionProbe probe = bucket.tryConsumeAndReturnRemaining(1);
+        ConsumptionProbe probe = consume(rule, clientIp);
 
         if (probe.isConsumed()) {
             response.setHeader(HEADER_X_RATE_LIMIT_REMAINING, String.valueOf(probe.getRemainingTokens()));
             filterChain.doFilter(request, response);
         } else {
             long retryAfterSeconds = Duration.ofNanos(probe.getNanosToWaitForRefill()).toSeconds() + 1;
-            log.warn("Rate limit exceeded for IP: {} on tier: {}", clientIp, tier);
+            log.warn("Rate limit exceeded for IP: {} on bucket: {}", clientIp, rule.bucket());
             writeRateLimitResponse(response, retryAfterSeconds);
         }
     }
 
+    /**
+     * Expires buckets that have been idle for their tier's full refill window.
+     */
+    @Scheduled(fixedDelayString = "${rate-limiting.bucket-sweep-interval:1m}")
+    public void evictIdleBuckets() {
+        stores.forEach((tier, store) -> {
+            int removed = store.evictIdle();
+            if (removed > 0) {
+                log.debug("Evicted {} idle rate limit bucket(s) from tier: {}", removed, tier);
+            }
+        });
+        if (nonNull(distributedRateLimiter)) {
+            distributedRateLimiter.evictIdleBuckets();
+        }
+    }
+
     @Override
     protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
         String path = request.getRequestURI();
@@ -81,44 +117,63 @@ public class RateLimitFilter extends OncePerRequestFilter {
     }
 
     /**
-     * Classifies the request into a rate limit tier based on path and HTTP method.
+     * Charges the rule's cost, preferring the shared Redis bucket and falling back to the local one.
      *
-     * @param request the HTTP request
-     * @return the tier name: "login", "admin", or "public"
+     * @param rule the matched bucket and token cost
+     * @param clientIp the client IP address
+     * @return the consumption result
      */
-    private String classifyRequest(HttpServletRequest request) {
-        String path = request.getRequestURI();
-        String method = request.getMethod();
-
-        if (path.startsWith("/api/v1/auth/")) {
-            return TIER_LOGIN;
-        }
-
-        if ("POST".equals(method) || "PUT".equals(method) || "DELETE".equals(method)) {
-            return TIER_ADMIN;
+    private ConsumptionProbe consume(RateLimitRouteTable.Rule rule, String clientIp) {
+        if (nonNull(distributedRateLimiter)) {
+            Optional<ConsumptionProbe> probe = distributedRateLimiter.tryConsume(rule, clientIp);
+            if (probe.isPresent()) {
+                return probe.get();
+            }
         }
+        return stores.get(rule.bucket()).resolve(clientIp).tryConsumeAndReturnRemaining(rule.cost());
+    }
 
-        return TIER_PUBLIC;
+    /**
+     * Creates the bucket store for a tier or route bucket and registers its size and eviction metrics.
+     * The idle timeout equals the refill window, after which an untouched bucket is full again.
+     *
+     * @param tier the bucket name
+     * @param config the bucket's limits
+     * @param meterRegistry registry for store metrics
+     * @return a bounded bucket store
+     */
+    private RateLimitBucketStore createStore(String tier, RateLimitProperties.Tier config, MeterRegistry meterRegistry) {
+        RateLimitBucketStore store = new RateLimitBucketStore(
+                clientIp -> createBucket(config),
+                rateLimitProperties.getMaxBucketsPerTier(),
+                Duration.ofMinutes(config.getDurationMinutes()).toNanos());
+
+        store.registerMetrics(meterRegistry, tier, "local");
+        return store;
     }
 
     /**
      * Creates a token bucket for the specified rate limit tier.
      *
-     * @param tier the rate limit tier
+     * @param config the rate limit tier configuration
      * @return a configured Bucket instance
      */
-    private Bucket createBucket(String tier) {
-        RateLimitProperties.Tier config = switch (tier) {
-            case TIER_LOGIN -> rateLimitProperties.getLogin();
-            case TIER_ADMIN -> rateLimitProperties.getAdminApi();
-            default -> rateLimitProperties.getPublicApi();
-        };
-
+    private Bucket createBucket(RateLimitProperties.Tier config) {
         return Bucket.builder()
-                .addLimit(Bandwidth.builder()
-                        .capacity(config.getRequests())
-                        .refillGreedy(config.getRequests(), Duration.ofMinutes(config.getDurationMinutes()))
-                        .build())
+                .addLimit(bandwidthFor(config))
+                .build();
+    }
+
+    /**
+     * Builds the bandwidth for a tier, shared by local and distributed buckets.
+     *
+     * @param config the rate limit tier configuration
+     * @return the tier's bandwidth
+     */
+    static Bandwidth bandwidthFor(RateLimitProperties.Tier config) {
+        return Bandwidth.builder()
+                .capacity(config.getRequests())
+                .refillGreedy(config.getRequests(), Duration.ofMinutes(config.getDurationMinutes()))
                 .build();
     }
 
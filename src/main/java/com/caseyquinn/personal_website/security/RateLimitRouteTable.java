@@ -0,0 +1,215 @@
+package com.caseyquinn.personal_website.security;
+
+import com.caseyquinn.personal_website.config.RateLimitProperties;
+import jakarta.servlet.http.HttpServletRequest;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.http.server.PathContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static com.caseyquinn.personal_website.constants.SecurityConstants.*;
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+import static org.apache.commons.lang3.StringUtils.isBlank;
+
+/**
+ * Precompiled table that maps a request to the bucket it is charged against and its token cost.
+ *
+ * <p>Configured routes are parsed into {@link PathPattern}s once at startup and checked in order.
+ * Requests matching no route fall back to the login, admin, or public tier at a cost of one token.
+ * Every possible outcome is a preallocated {@link Rule}, so resolving a request allocates nothing
+ * beyond the parsed path.</p>
+ */
+@Component
+public class RateLimitRouteTable {
+
+    private static final String AUTH_PATTERN = "/api/v1/auth/**";
+    private static final String AUTH_PREFIX = "/api/v1/auth/";
+    private static final String PATTERN_SYNTAX = "{}*?";
+    private static final Set<String> ADMIN_METHODS = Set.of("POST", "PUT", "DELETE");
+
+    private final PathPattern authPattern = PathPatternParser.defaultInstance.parse(AUTH_PATTERN);
+    private final List<CompiledRoute> routes = new ArrayList<>();
+    private final Map<String, RateLimitProperties.Tier> limits = new LinkedHashMap<>();
+    private final TierRules defaultRules;
+
+    public RateLimitRouteTable(RateLimitProperties rateLimitProperties) {
+        limits.put(TIER_LOGIN, rateLimitProperties.getLogin());
+        limits.put(TIER_ADMIN, rateLimitProperties.getAdminApi());
+        limits.put(TIER_PUBLIC, rateLimitProperties.getPublicApi());
+        this.defaultRules = new TierRules(1);
+
+        for (RateLimitProperties.Route route : rateLimitProperties.getRoutes()) {
+            routes.add(compile(route));
+        }
+    }
+
+    /**
+     * Resolves the bucket and token cost for a request.
+     *
+     * @param request the HTTP request
+     * @return the matching rule
+     */
+    public Rule resolve(HttpServletRequest request) {
+        String method = request.getMethod();
+        PathContainer path = PathContainer.parsePath(request.getRequestURI());
+
+        for (CompiledRoute route : routes) {
+            if (route.matches(method, path)) {
+                return nonNull(route.dedicatedRule())
+                        ? route.dedicatedRule()
+                        : route.tierRules().forTier(tierOf(method, path));
+            }
+        }
+        return defaultRules.forTier(tierOf(method, path));
+    }
+
+    /**
+     * Returns every bucket name with its limit: the three tiers first, then routes with their own limit.
+     *
+     * @return unmodifiable map of bucket name to limit
+     */
+    public Map<String, RateLimitProperties.Tier> limits() {
+        return Collections.unmodifiableMap(limits);
+    }
+
+    /**
+     * Classifies the request into a rate limit tier based on path and HTTP method.
+     */
+    private String tierOf(String method, PathContainer path) {
+        if (authPattern.matches(path)) {
+            return TIER_LOGIN;
+        }
+        if (ADMIN_METHODS.contains(method)) {
+            return TIER_ADMIN;
+        }
+        return TIER_PUBLIC;
+    }
+
+    private CompiledRoute compile(RateLimitProperties.Route route) {
+        if (isBlank(route.getName()) || isBlank(route.getPattern())) {
+            throw new IllegalStateException("Rate limit routes require a name and a pattern");
+        }
+        if (route.getCost() < 1) {
+            throw new IllegalStateException("Rate limit route '" + route.getName() + "' must cost at least one token");
+        }
+
+        Rule dedicatedRule = null;
+        if (nonNull(route.getLimit())) {
+            if (limits.containsKey(route.getName())) {
+                throw new IllegalStateException("Duplicate rate limit bucket name: " + route.getName());
+            }
+            requireAffordable(route, route.getLimit());
+            limits.put(route.getName(), route.getLimit());
+            dedicatedRule = new Rule(route.getName(), route.getCost());
+        }
+
+        Set<String> methods = route.getMethods().stream()
+                .map(String::toUpperCase)
+                .collect(Collectors.toUnmodifiableSet());
+        if (isNull(dedicatedRule)) {
+            for (String tier : reachableTiers(route.getPattern(), methods)) {
+                requireAffordable(route, limits.get(tier));
+            }
+        }
+        return new CompiledRoute(PathPatternParser.defaultInstance.parse(route.getPattern()), methods,
+                dedicatedRule, new TierRules(route.getCost()));
+    }
+
+    /**
+     * Returns the tiers a route's requests can be classified into. The login tier is reachable only
+     * if the pattern can match under {@value #AUTH_PATTERN}; the admin and public tiers depend on the
+     * route's methods. The check is conservative: a pattern with a wildcard or variable before it
+     * diverges from the auth path is assumed to reach the login tier.
+     */
+    private Set<String> reachableTiers(String pattern, Set<String> methods) {
+        String prefix = literalPrefix(pattern);
+        if (prefix.startsWith(AUTH_PREFIX)) {
+            return Set.of(TIER_LOGIN);
+        }
+
+        Set<String> tiers = new LinkedHashSet<>();
+        boolean reachesAuth = isLiteral(pattern)
+                ? authPattern.matches(PathContainer.parsePath(pattern))
+                : AUTH_PREFIX.startsWith(prefix);
+        if (reachesAuth) {
+            tiers.add(TIER_LOGIN);
+        }
+        if (methods.isEmpty() || methods.stream().anyMatch(ADMIN_METHODS::contains)) {
+            tiers.add(TIER_ADMIN);
+        }
+        if (methods.isEmpty() || !ADMIN_METHODS.containsAll(methods)) {
+            tiers.add(TIER_PUBLIC);
+        }
+        return tiers;
+    }
+
+    /**
+     * The pattern's leading whole literal segments, each followed by a slash.
+     */
+    private static String literalPrefix(String pattern) {
+        StringBuilder prefix = new StringBuilder("/");
+        for (String segment : StringUtils.split(pattern, '/')) {
+            if (StringUtils.containsAny(segment, PATTERN_SYNTAX)) {
+                break;
+            }
+            prefix.append(segment).append('/');
+        }
+        return prefix.toString();
+    }
+
+    private static boolean isLiteral(String pattern) {
+        return !StringUtils.containsAny(pattern, PATTERN_SYNTAX);
+    }
+
+    /**
+     * Rejects a cost the bucket could never pay, which would block the route outright.
+     */
+    private static void requireAffordable(RateLimitProperties.Route route, RateLimitProperties.Tier limit) {
+        if (route.getCost() > limit.getRequests()) {
+            throw new IllegalStateException("Rate limit route '" + route.getName() + "' costs " + route.getCost()
+                    + " tokens but its bucket only holds " + limit.getRequests());
+        }
+    }
+
+    /**
+     * The bucket a request is charged against and how many tokens it costs.
+     *
+     * @param bucket the bucket name
+     * @param cost tokens consumed per request
+     */
+    public record Rule(String bucket, int cost) {
+    }
+
+    private record TierRules(Rule login, Rule admin, Rule publicApi) {
+
+        private TierRules(int cost) {
+            this(new Rule(TIER_LOGIN, cost), new Rule(TIER_ADMIN, cost), new Rule(TIER_PUBLIC, cost));
+        }
+
+        private Rule forTier(String tier) {
+            return switch (tier) {
+                case TIER_LOGIN -> login;
+                case TIER_ADMIN -> admin;
+                default -> publicApi;
+            };
+        }
+    }
+
+    private record CompiledRoute(PathPattern pattern, Set<String> methods, Rule dedicatedRule, TierRules tierRules) {
+
+        private boolean matches(String method, PathContainer path) {
+            return (methods.isEmpty() || methods.contains(method)) && pattern.matches(path);
+        }
+    }
+}
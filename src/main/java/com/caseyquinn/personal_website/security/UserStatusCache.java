@@ -0,0 +1,62 @@
+package com.caseyquinn.personal_website.security;
+
+import com.caseyquinn.personal_website.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static java.util.Objects.nonNull;
+import static org.apache.commons.lang3.BooleanUtils.isTrue;
+
+/**
+ * Optional revocation check for claim-authenticated requests. When enabled, a user's enabled flag
+ * is re-read at most once per TTL, so disabling or deleting an account takes effect within the TTL
+ * instead of at token expiry.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class UserStatusCache {
+
+    private final UserRepository userRepository;
+    private final Map<Long, Status> statuses = new ConcurrentHashMap<>();
+
+    @Value("${jwt.user-status-check.enabled:false}")
+    private boolean enabled;
+
+    @Value("${jwt.user-status-check.ttl:30s}")
+    private Duration ttl;
+
+    /**
+     * Returns whether the user may still authenticate. Always true when the check is disabled.
+     *
+     * @param userId the user ID from the token
+     * @return true if the user exists and is enabled
+     */
+    public boolean isActive(Long userId) {
+        if (!enabled) {
+            return true;
+        }
+
+        long now = System.nanoTime();
+        Status status = statuses.get(userId);
+        if (nonNull(status) && now - status.checkedAtNanos() < ttl.toNanos()) {
+            return status.active();
+        }
+
+        boolean active = isTrue(userRepository.findEnabledById(userId).orElse(false));
+        statuses.put(userId, new Status(active, now));
+        if (!active) {
+            log.info("Rejecting token for disabled or deleted user ID: {}", userId);
+        }
+        return active;
+    }
+
+    private record Status(boolean active, long checkedAtNanos) {
+    }
+}
@@ -0,0 +1,34 @@
+package com.caseyquinn.personal_website.security;
+
+import org.springframework.security.core.GrantedAuthority;
+
+import java.time.Instant;
+import java.util.List;
+
+import static java.util.Objects.nonNull;
+
+/**
+ * Claims of an access token whose signature and expiry have been verified.
+ *
+ * @param username the token subject
+ * @param userId the user ID claim, null for tokens issued before claims were embedded
+ * @param authorities authorities from the roles claim
+ * @param expiresAt when the token expires
+ */
+public record VerifiedToken(String username, Long userId, List<GrantedAuthority> authorities, Instant expiresAt) {
+
+    /**
+     * @param now the current instant
+     * @return true if the token has not yet expired
+     */
+    public boolean isValidAt(Instant now) {
+        return now.isBefore(expiresAt);
+    }
+
+    /**
+     * @return true if the token carries the user ID and roles, so no user lookup is needed
+     */
+    public boolean hasEmbeddedAuthorities() {
+        return nonNull(userId);
+    }
+}
@@ -1,13 +1,16 @@
 package com.caseyquinn.personal_website.service;
 
 import com.caseyquinn.personal_website.dto.request.LoginRequest;
+import com.caseyquinn.personal_website.dto.request.RefreshTokenRequest;
 import com.caseyquinn.personal_website.dto.response.AuthResponse;
 import com.caseyquinn.personal_website.entity.User;
+import com.caseyquinn.personal_website.security.CustomUserDetailsService;
 import com.caseyquinn.personal_website.security.JwtTokenProvider;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.DisabledException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -15,6 +18,7 @@ import org.springframework.stereotype.Service;
 
 /**
  * Service handling user authentication operations.
+ * Password verification only happens on login; access tokens are renewed through refresh tokens.
  */
 @Service
 @RequiredArgsConstructor
@@ -23,6 +27,8 @@ public class AuthService {
 
     private final AuthenticationManager authenticationManager;
     private final JwtTokenProvider tokenProvider;
+    private final RefreshTokenService refreshTokenService;
+    private final CustomUserDetailsService userDetailsService;
 
     @Value("${jwt.expiration}")
     private long jwtExpiration;
@@ -47,12 +53,40 @@ public class AuthService {
 
         String jwt = tokenProvider.generateToken(authentication);
         User user = (User) authentication.getPrincipal();
+        String refreshToken = refreshTokenService.issue(user.getId());
 
         log.info("User logged in successfully: {}", user.getUsername());
 
+        return buildAuthResponse(user, jwt, refreshToken, refreshTokenService.getRefreshExpiration());
+    }
+
+    /**
+     * Exchanges a refresh token for a new access token and rotated refresh token.
+     * Only the hashed token lookup and a user read are performed; no password hashing.
+     *
+     * @param request the refresh request containing the current refresh token
+     * @return authentication response with new access and refresh tokens
+     */
+    public AuthResponse refresh(RefreshTokenRequest request) {
+        RefreshTokenService.Rotation rotation = refreshTokenService.rotate(request.getRefreshToken());
+
+        User user = (User) userDetailsService.loadUserById(rotation.userId());
+        if (!user.isEnabled()) {
+            throw new DisabledException("User account is disabled: " + user.getUsername());
+        }
+
+        String jwt = tokenProvider.generateToken(user.getUsername(), user.getId(), user.getAuthorities());
+        log.info("Access token refreshed for user: {}", user.getUsername());
+
+        return buildAuthResponse(user, jwt, rotation.refreshToken(), rotation.refreshExpiresIn());
+    }
+
+    private AuthResponse buildAuthResponse(User user, String jwt, String refreshToken, long refreshExpiresIn) {
         return AuthResponse.builder()
                 .token(jwt)
                 .expiresIn(jwtExpiration)
+                .refreshToken(refreshToken)
+                .refreshExpiresIn(refreshExpiresIn)
                 .username(user.getUsername())
                 .role(user.getRole().name())
                 .build();
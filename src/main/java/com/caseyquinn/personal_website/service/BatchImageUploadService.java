@@ -0,0 +1,197 @@
+package com.caseyquinn.personal_website.service;
+
+import com.caseyquinn.personal_website.config.ImageProperties;
+import com.caseyquinn.personal_website.config.UploadProperties;
+import com.caseyquinn.personal_website.dto.request.CreateBlogPostImageRequest;
+import com.caseyquinn.personal_website.dto.request.CreateProjectImageRequest;
+import com.caseyquinn.personal_website.dto.response.BlogPostImageResponse;
+import com.caseyquinn.personal_website.dto.response.CloudinaryUploadResult;
+import com.caseyquinn.personal_website.dto.response.ProjectImageResponse;
+import com.caseyquinn.personal_website.exception.ErrorCode;
+import com.caseyquinn.personal_website.exception.ServiceOverloadedException;
+import com.caseyquinn.personal_website.exception.business.ValidationException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import static com.caseyquinn.personal_website.exception.ErrorMessages.FILE_READ_ERROR;
+import static com.caseyquinn.personal_website.exception.ErrorMessages.UPLOAD_QUEUE_FULL;
+import static java.util.Objects.isNull;
+
+/**
+ * Uploads a batch of images for one project or blog post in a single request.
+ *
+ * <p>Every file is validated, and the target's image limit checked, before anything is sent to
+ * Cloudinary. The staged files are then uploaded in parallel on a small bounded pool with no
+ * transaction open, and all rows are inserted in one transaction once every upload has finished.
+ * The batch is all or nothing: if any upload or the insert fails, the assets already uploaded are
+ * deleted again.</p>
+ */
+@Service
+@Slf4j
+public class BatchImageUploadService {
+
+    private static final String POOL_NAME = "image.upload.batch";
+    private static final long SHUTDOWN_GRACE_SECONDS = 30;
+
+    private final ProjectImageService projectImageService;
+    private final BlogPostImageService blogPostImageService;
+    private final CloudinaryService cloudinaryService;
+    private final FileStagingService fileStagingService;
+    private final ExecutorService executor;
+
+    public BatchImageUploadService(ProjectImageService projectImageService,
+                                   BlogPostImageService blogPostImageService,
+                                   CloudinaryService cloudinaryService,
+                                   FileStagingService fileStagingService,
+                                   UploadProperties uploadProperties,
+                                   ImageProperties imageProperties,
+                                   MeterRegistry meterRegistry) {
+        this.projectImageService = projectImageService;
+        this.blogPostImageService = blogPostImageService;
+        this.cloudinaryService = cloudinaryService;
+        this.fileStagingService = fileStagingService;
+
+        // The queue holds two full batches, so a second concurrent batch waits rather than failing
+        int threads = uploadProperties.getBatchParallelism();
+        ThreadPoolExecutor pool = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(imageProperties.getMaxFilesPerBatch() * 2),
+                new CustomizableThreadFactory("image-batch-"),
+                new ThreadPoolExecutor.AbortPolicy());
+        this.executor = ExecutorServiceMetrics.monitor(meterRegistry, pool, POOL_NAME);
+    }
+
+    /**
+     * Uploads a batch of images to a project.
+     *
+     * @param projectId the project ID
+     * @param files the image files, in display order
+     * @param request the metadata shared by every image
+     * @return the created images
+     */
+    public List<ProjectImageResponse> uploadProjectImages(Long projectId, List<MultipartFile> files,
+                                                          CreateProjectImageRequest request) {
+        log.info("Service: Uploading batch of {} image(s) for projectId: {}", files.size(), projectId);
+        String subFolder = projectImageService.validateBatchUpload(projectId, files);
+        return uploadBatch(files, subFolder,
+                uploadResults -> projectImageService.saveUploadedImages(projectId, request, uploadResults));
+    }
+
+    /**
+     * Uploads a batch of images to a blog post.
+     *
+     * @param postId the blog post ID
+     * @param files the image files, in display order
+     * @param request the metadata shared by every image
+     * @return the created images
+     */
+    public List<BlogPostImageResponse> uploadBlogPostImages(Long postId, List<MultipartFile> files,
+                                                            CreateBlogPostImageRequest request) {
+        log.info("Service: Uploading batch of {} image(s) for blog post id: {}", files.size(), postId);
+        String subFolder = blogPostImageService.validateBatchUpload(postId, files);
+        return uploadBatch(files, subFolder,
+                uploadResults -> blogPostImageService.saveUploadedImages(postId, request, uploadResults));
+    }
+
+    /**
+     * Stops accepting uploads and gives running ones a chance to finish.
+     */
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(SHUTDOWN_GRACE_SECONDS, TimeUnit.SECONDS)) {
+            log.warn("Batch uploads still running at shutdown were abandoned");
+            executor.shutdownNow();
+        }
+    }
+
+    private <R> List<R> uploadBatch(List<MultipartFile> files, String subFolder,
+                                    Function<List<CloudinaryUploadResult>, List<R>> save) {
+        List<Path> staged = new ArrayList<>(files.size());
+        try {
+            for (MultipartFile file : files) {
+                staged.add(stage(file));
+            }
+
+            List<CloudinaryUploadResult> uploadResults = uploadAll(staged, subFolder);
+            try {
+                List<R> saved = save.apply(uploadResults);
+                log.info("Service: Batch of {} image(s) uploaded", saved.size());
+                return saved;
+            } catch (RuntimeException e) {
+                log.error("Service: Failed to save batch, deleting {} uploaded image(s)", uploadResults.size(), e);
+                deleteAll(uploadResults);
+                throw e;
+            }
+        } finally {
+            staged.forEach(fileStagingService::discard);
+        }
+    }
+
+    /**
+     * Uploads every staged file in parallel and waits for all of them. If any upload fails, or the
+     * pool is too busy to take the batch, the uploads that did succeed are deleted.
+     *
+     * @return the upload results in the order of the staged files
+     */
+    private List<CloudinaryUploadResult> uploadAll(List<Path> staged, String subFolder) {
+        List<CompletableFuture<CloudinaryUploadResult>> futures = new ArrayList<>(staged.size());
+        RuntimeException failure = null;
+        for (Path file : staged) {
+            try {
+                futures.add(CompletableFuture.supplyAsync(() -> cloudinaryService.uploadImage(file, subFolder), executor));
+            } catch (RejectedExecutionException e) {
+                failure = new ServiceOverloadedException(UPLOAD_QUEUE_FULL);
+                break;
+            }
+        }
+
+        List<CloudinaryUploadResult> uploadResults = new ArrayList<>(futures.size());
+        for (CompletableFuture<CloudinaryUploadResult> future : futures) {
+            try {
+                uploadResults.add(future.join());
+            } catch (CompletionException e) {
+                if (isNull(failure)) {
+                    failure = e.getCause() instanceof RuntimeException cause ? cause : e;
+                }
+            }
+        }
+
+        if (isNull(failure)) {
+            return uploadResults;
+        }
+        log.error("Service: Batch upload failed, deleting {} uploaded image(s)", uploadResults.size(), failure);
+        deleteAll(uploadResults);
+        throw failure;
+    }
+
+    private Path stage(MultipartFile file) {
+        try {
+            return fileStagingService.stage(file);
+        } catch (IOException e) {
+            log.error("Failed to stage batch upload file {}", file.getOriginalFilename(), e);
+            throw new ValidationException(ErrorCode.FILE_UPLOAD_ERROR, String.format(FILE_READ_ERROR, e.getMessage()));
+        }
+    }
+
+    private void deleteAll(List<CloudinaryUploadResult> uploadResults) {
+        uploadResults.forEach(uploadResult -> cloudinaryService.deleteImage(uploadResult.getPublicId()));
+    }
+}
@@ -19,10 +19,12 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import static com.caseyquinn.personal_website.constants.FileConstants.*;
 import static com.caseyquinn.personal_website.exception.ErrorMessages.BLOG_IMAGE_OWNERSHIP_MISMATCH;
+import static com.caseyquinn.personal_website.exception.ErrorMessages.BATCH_BLOG_IMAGES_EXCEEDED_FORMAT;
 import static com.caseyquinn.personal_website.exception.ErrorMessages.MAX_BLOG_IMAGES_EXCEEDED_FORMAT;
 import static java.util.Objects.isNull;
 import static org.apache.commons.lang3.BooleanUtils.isNotTrue;
@@ -68,6 +70,99 @@ public class BlogPostImageService {
         return saveImageWithCompensation(image, uploadResult.getPublicId(), postId);
     }
 
+    /**
+     * Checks an image upload before it is queued: the blog post exists, the file is a valid image,
+     * and the post has room for another image.
+     *
+     * @param postId the blog post ID
+     * @param file the image file to upload
+     * @return the Cloudinary subfolder for the post's images
+     */
+    public String validateUpload(Long postId, MultipartFile file) {
+        log.info("Service: Validating image upload for blog post id: {}", postId);
+
+        BlogPost post = blogPostDao.findByIdOrThrow(postId);
+        fileValidationService.validateImageFile(file);
+        validateImageLimit(postId);
+        return SUBFOLDER_BLOG + post.getSlug();
+    }
+
+    /**
+     * Checks a batch upload up front: the blog post exists, every file is a valid image,
+     * and the post has room for all of them.
+     *
+     * @param postId the blog post ID
+     * @param files the image files to upload
+     * @return the Cloudinary subfolder for the post's images
+     */
+    public String validateBatchUpload(Long postId, List<MultipartFile> files) {
+        log.info("Service: Validating batch of {} image(s) for blog post id: {}", files.size(), postId);
+
+        BlogPost post = blogPostDao.findByIdOrThrow(postId);
+        fileValidationService.validateImageFiles(files);
+        validateImageLimit(postId, files.size());
+        return SUBFOLDER_BLOG + post.getSlug();
+    }
+
+    /**
+     * Records a batch of images already uploaded to Cloudinary in one transaction. Metadata applies
+     * to every image; display order increases from the requested value and only the first image can
+     * become primary. The caller deletes the Cloudinary assets if this fails.
+     *
+     * @param postId the blog post ID
+     * @param request the metadata shared by the images
+     * @param uploadResults the Cloudinary upload results in display order
+     * @return the saved image responses
+     */
+    @Transactional
+    public List<BlogPostImageResponse> saveUploadedImages(Long postId, CreateBlogPostImageRequest request,
+                                                          List<CloudinaryUploadResult> uploadResults) {
+        log.info("Service: Saving {} uploaded image(s) for blog post id: {}", uploadResults.size(), postId);
+
+        BlogPost post = blogPostDao.findByIdOrThrow(postId);
+        validateImageLimit(postId, uploadResults.size());
+        handlePrimaryImageFlag(postId, request.getIsPrimary());
+
+        int displayOrder = isNull(request.getDisplayOrder()) ? 0 : request.getDisplayOrder();
+        List<BlogPostImage> images = new ArrayList<>(uploadResults.size());
+        for (int i = 0; i < uploadResults.size(); i++) {
+            BlogPostImage image = buildBlogPostImage(request, post, uploadResults.get(i));
+            image.setDisplayOrder(displayOrder + i);
+            image.setIsPrimary(i == 0 && isTrue(request.getIsPrimary()));
+            images.add(image);
+        }
+
+        List<BlogPostImage> savedImages = blogPostImageDao.saveAll(images);
+        log.info("Service: Saved {} images for blog post id: {}", savedImages.size(), postId);
+        return blogPostImageMapper.toResponseList(savedImages);
+    }
+
+    /**
+     * Records an image that an upload job has already sent to Cloudinary. Runs in its own short
+     * transaction; the caller deletes the Cloudinary asset if this fails.
+     *
+     * @param postId the blog post ID
+     * @param request the image creation request containing metadata
+     * @param uploadResult the Cloudinary upload result
+     * @return the saved image response
+     */
+    @Transactional
+    public BlogPostImageResponse saveUploadedImage(Long postId, CreateBlogPostImageRequest request,
+                                                   CloudinaryUploadResult uploadResult) {
+        log.info("Service: Saving uploaded image for blog post id: {}", postId);
+
+        BlogPost post = blogPostDao.findByIdOrThrow(postId);
+        // Re-checked because other uploads may have completed while this one was in flight
+        validateImageLimit(postId);
+
+        BlogPostImage image = buildBlogPostImage(request, post, uploadResult);
+        handlePrimaryImageFlag(postId, request.getIsPrimary());
+
+        BlogPostImage savedImage = blogPostImageDao.save(image);
+        log.info("Image saved successfully: imageId={}, postId={}", savedImage.getId(), postId);
+        return blogPostImageMapper.toResponse(savedImage);
+    }
+
     /**
      * Retrieves all images for a blog post ordered by display order.
      *
@@ -187,11 +282,25 @@ public class BlogPostImageService {
      * @throws ValidationException if the maximum image count is exceeded
      */
     private void validateImageLimit(Long postId) {
+        validateImageLimit(postId, 1);
+    }
+
+    /**
+     * Validates that adding images keeps the post within the maximum allowed.
+     *
+     * @param postId the blog post ID to check
+     * @param adding the number of images about to be added
+     * @throws ValidationException if the maximum image count would be exceeded
+     */
+    private void validateImageLimit(Long postId, int adding) {
         long currentCount = blogPostImageDao.countByBlogPostId(postId);
-        if (currentCount >= imageProperties.getMaxPerBlogPost()) {
-            throw new ValidationException(ErrorCode.MAX_BLOG_IMAGES_EXCEEDED,
-                    String.format(MAX_BLOG_IMAGES_EXCEEDED_FORMAT, imageProperties.getMaxPerBlogPost()));
+        if (currentCount + adding <= imageProperties.getMaxPerBlogPost()) {
+            return;
         }
+        String message = adding == 1
+                ? String.format(MAX_BLOG_IMAGES_EXCEEDED_FORMAT, imageProperties.getMaxPerBlogPost())
+                : String.format(BATCH_BLOG_IMAGES_EXCEEDED_FORMAT, adding, imageProperties.getMaxPerBlogPost());
+        throw new ValidationException(ErrorCode.MAX_BLOG_IMAGES_EXCEEDED, message);
     }
 
     /**
@@ -239,6 +348,11 @@ public class BlogPostImageService {
                 .blogPost(post)
                 .url(uploadResult.getSecureUrl())
                 .cloudinaryPublicId(uploadResult.getPublicId())
+                .width(uploadResult.getWidth())
+                .height(uploadResult.getHeight())
+                .variants(uploadResult.getVariants())
+                .placeholder(uploadResult.getPlaceholder())
+                .dominantColor(uploadResult.getDominantColor())
                 .altText(request.getAltText())
                 .caption(request.getCaption())
                 .imageType(isNull(request.getImageType()) ? BlogImageType.INLINE : request.getImageType())
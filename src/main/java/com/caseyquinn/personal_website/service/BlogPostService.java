@@ -9,6 +9,8 @@ import com.caseyquinn.personal_website.dto.response.BlogPostResponse;
 import com.caseyquinn.personal_website.entity.BlogCategory;
 import com.caseyquinn.personal_website.entity.BlogPost;
 import com.caseyquinn.personal_website.entity.BlogTag;
+import com.caseyquinn.personal_website.entity.enums.ViewTargetType;
+import com.caseyquinn.personal_website.event.ContentViewedEvent;
 import com.caseyquinn.personal_website.exception.ErrorCode;
 import com.caseyquinn.personal_website.exception.NotFoundException;
 import com.caseyquinn.personal_website.exception.business.DuplicateResourceException;
@@ -19,6 +21,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.cache.annotation.Caching;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -53,6 +56,8 @@ public class BlogPostService {
     private final BlogCategoryDao blogCategoryDao;
     private final BlogTagDao blogTagDao;
     private final BlogPostMapper blogPostMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ViewDeduplicator viewDeduplicator;
 
     /**
      * Retrieves all blog posts ordered by creation date.
@@ -104,20 +109,36 @@ public class BlogPostService {
     }
 
     /**
-     * Retrieves a blog post by its URL slug and increments view count.
+     * Retrieves a blog post by its URL slug. Side-effect free so it can be cached;
+     * callers record the view separately via {@link #recordPostView(Long, String)}.
      *
      * @param slug the post slug
      * @return blog post response
      */
-    @Transactional
+    @Cacheable(value = CACHE_BLOG_POSTS, key = "'slug:' + #slug")
     public BlogPostResponse getPostBySlug(String slug) {
         log.info("Service: Fetching blog post with slug: {}", slug);
         BlogPost post = blogPostDao.findBySlug(slug)
                 .orElseThrow(() -> new NotFoundException("BlogPost", "slug", slug));
-        blogPostDao.incrementViewCount(post.getId());
         return blogPostMapper.toResponse(post);
     }
 
+    /**
+     * Records a view for a blog post by publishing a {@link ContentViewedEvent}.
+     * Repeat views by the same visitor within the dedup window are ignored.
+     * The increment is buffered and written to the database in the background.
+     *
+     * @param id the post ID
+     * @param visitorId anonymous visitor fingerprint, may be null
+     */
+    public void recordPostView(Long id, String visitorId) {
+        if (!viewDeduplicator.isFirstView(ViewTargetType.BLOG_POST, id, visitorId)) {
+            return;
+        }
+        log.debug("Service: Recording view for blog post: {}", id);
+        eventPublisher.publishEvent(new ContentViewedEvent(ViewTargetType.BLOG_POST, id, visitorId));
+    }
+
     /**
      * Creates a new blog post with validation and optional category/tag associations.
      *
@@ -180,7 +201,8 @@ public class BlogPostService {
     @Caching(evict = {
             @CacheEvict(value = CACHE_BLOG_POSTS, allEntries = true),
             @CacheEvict(value = CACHE_BLOG_CATEGORIES, allEntries = true),
-            @CacheEvict(value = CACHE_BLOG_TAGS, allEntries = true)
+            @CacheEvict(value = CACHE_BLOG_TAGS, allEntries = true),
+            @CacheEvict(value = CACHE_TRENDING, allEntries = true)
     })
     @Transactional
     public void deletePost(Long id) {
@@ -219,7 +241,10 @@ public class BlogPostService {
      * @param id the post ID
      * @return the updated blog post response
      */
-    @CacheEvict(value = CACHE_BLOG_POSTS, allEntries = true)
+    @Caching(evict = {
+            @CacheEvict(value = CACHE_BLOG_POSTS, allEntries = true),
+            @CacheEvict(value = CACHE_TRENDING, allEntries = true)
+    })
     @Transactional
     public BlogPostResponse unpublishPost(Long id) {
         log.info("Service: Unpublishing blog post with id: {}", id);
@@ -419,6 +444,9 @@ public class BlogPostService {
         if (isNull(post.getViewCount())) {
             post.setViewCount(0);
         }
+        if (isNull(post.getUniqueVisitorCount())) {
+            post.setUniqueVisitorCount(0L);
+        }
     }
 
     private void associateCategories(BlogPost post, Set<Long> categoryIds) {
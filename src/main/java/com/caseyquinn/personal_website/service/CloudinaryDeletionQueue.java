@@ -0,0 +1,215 @@
+package com.caseyquinn.personal_website.service;
+
+import com.caseyquinn.personal_website.config.CloudinaryDeletionProperties;
+import com.caseyquinn.personal_website.dao.CloudinaryDeletionDao;
+import com.caseyquinn.personal_website.entity.CloudinaryDeletion;
+import com.caseyquinn.personal_website.entity.enums.MediaResourceType;
+import com.cloudinary.Cloudinary;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static com.caseyquinn.personal_website.constants.CloudinaryConstants.DELETE_RESULT_DELETED;
+import static com.caseyquinn.personal_website.constants.CloudinaryConstants.DELETE_RESULT_NOT_FOUND;
+import static com.caseyquinn.personal_website.constants.CloudinaryConstants.MAX_DELETE_BATCH_SIZE;
+import static com.caseyquinn.personal_website.constants.CloudinaryConstants.PARAM_RESOURCE_TYPE;
+import static com.caseyquinn.personal_website.constants.CloudinaryConstants.RESPONSE_DELETED;
+import static java.util.Objects.isNull;
+
+/**
+ * Persistent queue of Cloudinary assets to delete, and the background worker that empties it.
+ *
+ * <p>Deletes are queued instead of calling Cloudinary inline, so admin requests never wait on
+ * the remote API and a Cloudinary outage does not leave orphaned assets. Each run leases a batch
+ * of due deletions per resource type and removes them with one Admin API bulk delete. Assets that
+ * are referenced again by the time they come due, for example because the transaction that queued
+ * them rolled back, are dropped from the queue and kept. Failed deletes are retried with
+ * exponential backoff until {@code maxAttempts}, after which the row is marked FAILED.</p>
+ */
+@Component
+@Slf4j
+public class CloudinaryDeletionQueue {
+
+    private static final double BACKOFF_JITTER = 0.2;
+
+    private final Cloudinary cloudinary;
+    private final CloudinaryDeletionDao cloudinaryDeletionDao;
+    private final CloudinaryDeletionProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final ReentrantLock processLock = new ReentrantLock();
+    private final AtomicLong pending = new AtomicLong();
+    private final Timer deleteTimer;
+
+    public CloudinaryDeletionQueue(Cloudinary cloudinary,
+                                   CloudinaryDeletionDao cloudinaryDeletionDao,
+                                   CloudinaryDeletionProperties properties,
+                                   MeterRegistry meterRegistry) {
+        this.cloudinary = cloudinary;
+        this.cloudinaryDeletionDao = cloudinaryDeletionDao;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.deleteTimer = Timer.builder("cloudinary.deletions.call.duration")
+                .description("Time spent in Cloudinary bulk delete calls")
+                .register(meterRegistry);
+        Gauge.builder("cloudinary.deletions.pending", pending, AtomicLong::get)
+                .description("Cloudinary assets waiting to be deleted")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Queues assets for deletion. Assets already queued are skipped. Commits on its own, so deletes
+     * queued to compensate for a caller's failed transaction are kept.
+     *
+     * @param resourceType the resource type of every asset
+     * @param publicIds the Cloudinary public IDs
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void enqueue(MediaResourceType resourceType, Collection<String> publicIds) {
+        LocalDateTime notBefore = LocalDateTime.now().plus(properties.getInitialDelay());
+        publicIds.forEach(publicId -> cloudinaryDeletionDao.enqueue(publicId, resourceType, notBefore));
+    }
+
+    /**
+     * Deletes one batch of due assets per resource type.
+     */
+    @Scheduled(fixedDelayString = "${app.cloudinary-deletions.poll-interval:30s}",
+            initialDelayString = "${app.cloudinary-deletions.poll-interval:30s}")
+    public void process() {
+        if (!processLock.tryLock()) {
+            return;
+        }
+        try {
+            for (MediaResourceType resourceType : MediaResourceType.values()) {
+                processBatch(resourceType);
+            }
+            pending.set(cloudinaryDeletionDao.countPending());
+        } catch (DataAccessException e) {
+            log.warn("Cloudinary deletion run failed; will retry next run: {}", e.getMessage());
+        } finally {
+            processLock.unlock();
+        }
+    }
+
+    private void processBatch(MediaResourceType resourceType) {
+        int limit = Math.clamp(properties.getBatchSize(), 1, MAX_DELETE_BATCH_SIZE);
+        LocalDateTime now = LocalDateTime.now();
+        List<CloudinaryDeletion> claimed = cloudinaryDeletionDao.claimDue(resourceType, now,
+                now.plus(properties.getLease()), limit);
+        if (claimed.isEmpty()) {
+            return;
+        }
+
+        Set<String> referenced = cloudinaryDeletionDao.findReferenced(
+                claimed.stream().map(CloudinaryDeletion::getPublicId).toList());
+        List<Long> completed = new ArrayList<>(claimed.size());
+        List<CloudinaryDeletion> batch = new ArrayList<>(claimed.size());
+        for (CloudinaryDeletion deletion : claimed) {
+            if (referenced.contains(deletion.getPublicId())) {
+                log.info("Keeping {} asset that is in use again: {}", resourceType, deletion.getPublicId());
+                completed.add(deletion.getId());
+            } else {
+                batch.add(deletion);
+            }
+        }
+        counter(resourceType, "kept").increment(completed.size());
+        if (batch.isEmpty()) {
+            cloudinaryDeletionDao.complete(completed);
+            return;
+        }
+
+        Map<String, String> results = Map.of();
+        Exception failure = null;
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            results = deleteResources(resourceType, batch.stream().map(CloudinaryDeletion::getPublicId).toList());
+        } catch (Exception e) {
+            failure = e;
+            log.warn("Failed to delete {} {} asset(s) from Cloudinary: {}", batch.size(), resourceType, e.getMessage());
+        } finally {
+            sample.stop(deleteTimer);
+        }
+
+        int deleted = 0;
+        for (CloudinaryDeletion deletion : batch) {
+            String result = results.get(deletion.getPublicId());
+            if (DELETE_RESULT_DELETED.equals(result) || DELETE_RESULT_NOT_FOUND.equals(result)) {
+                completed.add(deletion.getId());
+                deleted++;
+            } else {
+                retryLater(deletion, isNull(failure) ? "Unexpected delete result: " + result : failure.getMessage());
+            }
+        }
+        if (!completed.isEmpty()) {
+            cloudinaryDeletionDao.complete(completed);
+        }
+        counter(resourceType, "deleted").increment(deleted);
+        log.info("Deleted {} of {} {} asset(s) from Cloudinary", deleted, batch.size(), resourceType);
+    }
+
+    /**
+     * Deletes assets in one Admin API call.
+     *
+     * @return the per-asset result by public ID; assets missing from the response were not deleted
+     */
+    private Map<String, String> deleteResources(MediaResourceType resourceType, List<String> publicIds)
+            throws Exception {
+        Map<?, ?> response = cloudinary.api().deleteResources(publicIds,
+                Map.of(PARAM_RESOURCE_TYPE, resourceType.cloudinaryName()));
+        Map<String, String> results = new HashMap<>();
+        if (response.get(RESPONSE_DELETED) instanceof Map<?, ?> deleted) {
+            deleted.forEach((publicId, result) -> results.put(String.valueOf(publicId), String.valueOf(result)));
+        }
+        return results;
+    }
+
+    private void retryLater(CloudinaryDeletion deletion, String error) {
+        if (deletion.getAttempts() >= properties.getMaxAttempts()) {
+            cloudinaryDeletionDao.markFailed(deletion.getId(), error);
+            counter(deletion.getResourceType(), "dead").increment();
+            log.error("Giving up on deleting {} asset {} after {} attempt(s)",
+                    deletion.getResourceType(), deletion.getPublicId(), deletion.getAttempts());
+        } else {
+            cloudinaryDeletionDao.reschedule(deletion.getId(),
+                    LocalDateTime.now().plus(backoff(deletion.getAttempts())), error);
+            counter(deletion.getResourceType(), "retry").increment();
+        }
+    }
+
+    /**
+     * Exponential backoff with jitter so that a batch failing together does not retry in lockstep.
+     */
+    private Duration backoff(int attempts) {
+        long initialMillis = properties.getInitialBackoff().toMillis();
+        long maxMillis = properties.getMaxBackoff().toMillis();
+        long delay = Math.min(initialMillis << Math.clamp(attempts - 1, 0, 30), maxMillis);
+        double jitter = 1 + ThreadLocalRandom.current().nextDouble(-BACKOFF_JITTER, BACKOFF_JITTER);
+        return Duration.ofMillis((long) (delay * jitter));
+    }
+
+    private Counter counter(MediaResourceType resourceType, String outcome) {
+        return Counter.builder("cloudinary.deletions")
+                .description("Queued Cloudinary deletions by outcome")
+                .tag("type", resourceType.cloudinaryName())
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,156 @@
+package com.caseyquinn.personal_website.service;
+
+import com.caseyquinn.personal_website.config.CloudinaryDeletionProperties;
+import com.caseyquinn.personal_website.dao.CloudinaryDeletionDao;
+import com.caseyquinn.personal_website.entity.enums.MediaResourceType;
+import com.cloudinary.Cloudinary;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static com.caseyquinn.personal_website.constants.CloudinaryConstants.*;
+import static java.util.Objects.nonNull;
+
+/**
+ * Finds Cloudinary assets that no row references any more and queues them for deletion.
+ *
+ * <p>Once a day the upload folder is listed page by page through the Admin API, and every asset
+ * older than the grace period is checked against the public IDs stored by images, resumes and
+ * media assets, and against every stored URL, variant list and blog post body, which covers rows
+ * that predate stored public IDs and assets only linked by URL. Orphans are left by deletes that
+ * could not be queued, by uploads whose row was never saved, and by rows removed through
+ * cascading deletes. They go through the deletion queue like any other delete, so replicas
+ * sweeping at the same time do not delete anything twice. By default the sweep is a dry run that
+ * only logs what it would queue.</p>
+ */
+@Component
+@Slf4j
+public class CloudinaryOrphanSweeper {
+
+    private final Cloudinary cloudinary;
+    private final CloudinaryDeletionDao cloudinaryDeletionDao;
+    private final CloudinaryDeletionQueue cloudinaryDeletionQueue;
+    private final CloudinaryDeletionProperties properties;
+    private final Counter orphansFound;
+    private final Counter orphansQueued;
+
+    @Value("${cloudinary.folder}")
+    private String folder;
+
+    public CloudinaryOrphanSweeper(Cloudinary cloudinary,
+                                   CloudinaryDeletionDao cloudinaryDeletionDao,
+                                   CloudinaryDeletionQueue cloudinaryDeletionQueue,
+                                   CloudinaryDeletionProperties properties,
+                                   MeterRegistry meterRegistry) {
+        this.cloudinary = cloudinary;
+        this.cloudinaryDeletionDao = cloudinaryDeletionDao;
+        this.cloudinaryDeletionQueue = cloudinaryDeletionQueue;
+        this.properties = properties;
+        this.orphansFound = Counter.builder("cloudinary.orphans.found")
+                .description("Unreferenced Cloudinary assets found by the orphan sweep")
+                .register(meterRegistry);
+        this.orphansQueued = Counter.builder("cloudinary.orphans.queued")
+                .description("Orphaned Cloudinary assets queued for deletion by the orphan sweep")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Sweeps the upload folder for orphaned images and raw files.
+     */
+    @Scheduled(cron = "0 15 4 * * *")
+    public void sweep() {
+        if (!properties.isSweepEnabled()) {
+            return;
+        }
+        for (MediaResourceType resourceType : MediaResourceType.values()) {
+            try {
+                sweep(resourceType);
+            } catch (Exception e) {
+                log.warn("Orphan sweep of {} assets failed; will retry next run: {}", resourceType, e.getMessage());
+            }
+        }
+    }
+
+    private void sweep(MediaResourceType resourceType) throws Exception {
+        Instant cutoff = Instant.now().minus(properties.getOrphanGracePeriod());
+        List<String> orphans = new ArrayList<>();
+        int scanned = 0;
+        String cursor = null;
+        do {
+            Map<?, ?> page = cloudinary.api().resources(listOptions(resourceType, cursor));
+            List<String> candidates = createdBefore(page, cutoff);
+            scanned += candidates.size();
+
+            Set<String> referenced = cloudinaryDeletionDao.findReferenced(candidates);
+            candidates.stream().filter(publicId -> !referenced.contains(publicId)).forEach(orphans::add);
+            if (orphans.size() > properties.getMaxOrphansPerSweep()) {
+                log.error("Orphan sweep found more than {} unreferenced {} assets under {}; queueing none",
+                        properties.getMaxOrphansPerSweep(), resourceType, folder);
+                return;
+            }
+            cursor = page.get(RESPONSE_NEXT_CURSOR) instanceof String next ? next : null;
+        } while (nonNull(cursor));
+
+        orphansFound.increment(orphans.size());
+        if (properties.isSweepDryRun()) {
+            orphans.forEach(publicId -> log.info("Dry run: would queue orphaned {} asset for deletion: {}",
+                    resourceType, publicId));
+        } else if (!orphans.isEmpty()) {
+            orphans.forEach(publicId -> log.info("Queueing orphaned {} asset for deletion: {}", resourceType, publicId));
+            cloudinaryDeletionQueue.enqueue(resourceType, orphans);
+            orphansQueued.increment(orphans.size());
+        }
+        log.info("Orphan sweep checked {} {} asset(s), {} orphaned", scanned, resourceType, orphans.size());
+    }
+
+    private Map<String, Object> listOptions(MediaResourceType resourceType, String cursor) {
+        Map<String, Object> options = new HashMap<>();
+        options.put(PARAM_RESOURCE_TYPE, resourceType.cloudinaryName());
+        options.put(PARAM_TYPE, DELIVERY_TYPE_UPLOAD);
+        options.put(PARAM_PREFIX, folder + "/");
+        options.put(PARAM_MAX_RESULTS, MAX_LIST_RESULTS);
+        if (nonNull(cursor)) {
+            options.put(PARAM_NEXT_CURSOR, cursor);
+        }
+        return options;
+    }
+
+    /**
+     * Returns the public IDs on a listing page created before the cutoff. Assets without a
+     * readable creation time are skipped rather than risk deleting a fresh upload.
+     */
+    private static List<String> createdBefore(Map<?, ?> page, Instant cutoff) {
+        List<String> publicIds = new ArrayList<>();
+        if (!(page.get(RESPONSE_RESOURCES) instanceof List<?> resources)) {
+            return publicIds;
+        }
+        for (Object resource : resources) {
+            if (resource instanceof Map<?, ?> asset
+                    && asset.get(RESPONSE_PUBLIC_ID) instanceof String publicId
+                    && asset.get(RESPONSE_CREATED_AT) instanceof String createdAt
+                    && isBefore(createdAt, cutoff)) {
+                publicIds.add(publicId);
+            }
+        }
+        return publicIds;
+    }
+
+    private static boolean isBefore(String timestamp, Instant cutoff) {
+        try {
+            return Instant.parse(timestamp).isBefore(cutoff);
+        } catch (DateTimeParseException e) {
+            return false;
+        }
+    }
+}
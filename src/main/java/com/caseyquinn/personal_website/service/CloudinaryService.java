@@ -1,8 +1,12 @@
 package com.caseyquinn.personal_website.service;
 
+import com.caseyquinn.personal_website.config.ImageProperties;
 import com.caseyquinn.personal_website.dto.response.CloudinaryUploadResult;
+import com.caseyquinn.personal_website.entity.ImageVariant;
+import com.caseyquinn.personal_website.entity.enums.MediaResourceType;
 import com.caseyquinn.personal_website.exception.ErrorCode;
 import com.caseyquinn.personal_website.exception.business.ValidationException;
+import com.caseyquinn.personal_website.util.HashUtils;
 import com.cloudinary.Cloudinary;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -11,12 +15,17 @@ import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
-import java.util.Collections;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 import static com.caseyquinn.personal_website.exception.ErrorMessages.*;
 import static com.caseyquinn.personal_website.constants.CloudinaryConstants.*;
+import static java.util.Objects.isNull;
 import static java.util.Objects.nonNull;
 import static org.apache.commons.lang3.StringUtils.isBlank;
 import static org.apache.commons.lang3.StringUtils.isNotBlank;
@@ -24,6 +33,9 @@ import static org.apache.commons.lang3.StringUtils.isNotBlank;
 /**
  * Service for managing file uploads and deletions with Cloudinary cloud storage.
  * Supports both image uploads (with transformation metadata) and raw file uploads (e.g., PDFs).
+ * Uploads are deduplicated by SHA-256 content hash, and a delete only removes the remote asset
+ * once no other row references it. Remote deletes are queued and carried out in the background
+ * by {@link CloudinaryDeletionQueue}.
  */
 @Service
 @RequiredArgsConstructor
@@ -31,6 +43,13 @@ import static org.apache.commons.lang3.StringUtils.isNotBlank;
 public class CloudinaryService {
 
     private final Cloudinary cloudinary;
+    private final FileStagingService fileStagingService;
+    private final ImageVariantService imageVariantService;
+    private final ImageProperties imageProperties;
+    private final MediaAssetService mediaAssetService;
+    private final CloudinaryDeletionQueue cloudinaryDeletionQueue;
+
+    private static final int CONTENT_FOLDER_HASH_LENGTH = 12;
 
     @Value("${cloudinary.folder}")
     private String folder;
@@ -43,13 +62,39 @@ public class CloudinaryService {
      * @return upload result with URL, dimensions, and metadata
      */
     public CloudinaryUploadResult uploadImage(MultipartFile file, String subFolder) {
-        return upload(file, subFolder, null, RESOURCE_TYPE_IMAGE, IMAGE_UPLOAD_FAILED);
+        Path staged = stage(file, RESOURCE_TYPE_IMAGE);
+        try {
+            return uploadImage(staged, subFolder);
+        } finally {
+            fileStagingService.discard(staged);
+        }
+    }
+
+    /**
+     * Uploads an image already staged on local disk, together with its downscaled variants;
+     * the caller owns and discards the file. If identical content is already stored, the
+     * existing asset gets another reference and nothing is uploaded.
+     *
+     * @param stagedFile the staged image file
+     * @param subFolder optional subfolder within the main folder
+     * @return upload result with URL, dimensions, metadata, placeholder, and variants narrowest first
+     */
+    public CloudinaryUploadResult uploadImage(Path stagedFile, String subFolder) {
+        String contentHash = hash(stagedFile);
+        Optional<CloudinaryUploadResult> stored = mediaAssetService.acquire(contentHash, MediaResourceType.IMAGE);
+        if (stored.isPresent()) {
+            return stored.get();
+        }
+
+        CloudinaryUploadResult uploaded = uploadNewImage(stagedFile, subFolder);
+        return register(contentHash, MediaResourceType.IMAGE, uploaded, () -> removeImage(uploaded.getPublicId()));
     }
 
     /**
      * Uploads a raw file (e.g., PDF) to Cloudinary with an explicit public ID.
      * The public ID becomes the final URL segment, including extension, so the
      * browser saves the file with a human-readable name on direct download.
+     * Content that is already stored is linked rather than uploaded again.
      *
      * @param file the file to upload
      * @param subFolder optional subfolder within the main folder
@@ -57,43 +102,241 @@ public class CloudinaryService {
      * @return upload result with URL and metadata (no dimensions for raw files)
      */
     public CloudinaryUploadResult uploadRawFile(MultipartFile file, String subFolder, String publicId) {
-        return upload(file, subFolder, publicId, RESOURCE_TYPE_RAW, RESUME_UPLOAD_FAILED);
+        Path staged = stage(file, RESOURCE_TYPE_RAW);
+        try {
+            String contentHash = hash(staged);
+            Optional<CloudinaryUploadResult> stored = mediaAssetService.acquire(contentHash, MediaResourceType.RAW);
+            if (stored.isPresent()) {
+                return stored.get();
+            }
+
+            // Each distinct content gets its own folder, so a new version never overwrites the URL of an old one
+            String contentFolder = subFolder + "/" + contentHash.substring(0, CONTENT_FOLDER_HASH_LENGTH);
+            CloudinaryUploadResult uploaded = upload(staged, contentFolder, publicId, RESOURCE_TYPE_RAW, RESUME_UPLOAD_FAILED);
+            return register(contentHash, MediaResourceType.RAW, uploaded,
+                () -> removeRawFile(uploaded.getPublicId()));
+        } finally {
+            fileStagingService.discard(staged);
+        }
     }
 
     /**
-     * Deletes an image from Cloudinary by its public ID.
-     * Best-effort operation that does not throw exceptions on failure.
+     * Releases a reference to an image, queueing it and its variants for deletion from Cloudinary
+     * once no other row uses it. Does not throw; a delete that cannot be queued is left to the
+     * orphan sweep.
      *
      * @param publicId the Cloudinary public ID of the image to delete
      */
     public void deleteImage(String publicId) {
-        delete(publicId, RESOURCE_TYPE_IMAGE);
+        if (isLastReference(publicId)) {
+            removeImage(publicId);
+        }
     }
 
     /**
-     * Deletes a raw file from Cloudinary by its public ID.
-     * Best-effort operation that does not throw exceptions on failure.
+     * Releases a reference to a raw file, queueing it for deletion from Cloudinary once no other
+     * row uses it. Does not throw; a delete that cannot be queued is left to the orphan sweep.
      *
      * @param publicId the Cloudinary public ID of the file to delete
      */
     public void deleteRawFile(String publicId) {
-        delete(publicId, RESOURCE_TYPE_RAW);
+        if (isLastReference(publicId)) {
+            removeRawFile(publicId);
+        }
+    }
+
+    /**
+     * Processes and uploads an image that is not stored yet, with its variants.
+     *
+     * @param stagedFile the staged image file
+     * @param subFolder optional subfolder within the main folder
+     * @return upload result with URL, dimensions, metadata, placeholder, and variants narrowest first
+     */
+    private CloudinaryUploadResult uploadNewImage(Path stagedFile, String subFolder) {
+        ImageVariantService.ProcessedImage processed = imageVariantService.process(stagedFile);
+        try {
+            CloudinaryUploadResult result = upload(stagedFile, subFolder, null, RESOURCE_TYPE_IMAGE, IMAGE_UPLOAD_FAILED);
+            if (isNull(result.getWidth()) || isNull(result.getHeight())) {
+                result.setWidth(processed.width());
+                result.setHeight(processed.height());
+            }
+            result.setPlaceholder(processed.placeholder());
+            result.setDominantColor(processed.dominantColor());
+            try {
+                result.setVariants(uploadVariants(result, processed.variants()));
+            } catch (RuntimeException e) {
+                removeImage(result.getPublicId());
+                throw e;
+            }
+            return result;
+        } finally {
+            imageVariantService.discard(processed.variants());
+        }
+    }
+
+    /**
+     * Indexes a fresh upload by its content hash. If a concurrent upload of the same content was
+     * indexed first, that asset is used and this upload is deleted; if indexing fails, this upload
+     * is deleted so it is not orphaned.
+     *
+     * @param contentHash the SHA-256 hex digest of the uploaded content
+     * @param resourceType the resource type
+     * @param uploaded the upload result
+     * @param removeUpload deletes the uploaded asset from Cloudinary
+     * @return the asset to use
+     */
+    private CloudinaryUploadResult register(String contentHash, MediaResourceType resourceType,
+                                            CloudinaryUploadResult uploaded, Runnable removeUpload) {
+        CloudinaryUploadResult registered;
+        try {
+            registered = mediaAssetService.register(contentHash, resourceType, uploaded);
+        } catch (RuntimeException e) {
+            removeUpload.run();
+            throw e;
+        }
+        if (!registered.getPublicId().equals(uploaded.getPublicId())) {
+            removeUpload.run();
+        }
+        return registered;
+    }
+
+    /**
+     * Releases a reference to an asset.
+     *
+     * @param publicId the Cloudinary public ID
+     * @return true if the remote asset is no longer used; false if it still is, or if the
+     *         reference could not be released, in which case the asset is kept
+     */
+    private boolean isLastReference(String publicId) {
+        if (isBlank(publicId)) {
+            return false;
+        }
+        try {
+            return mediaAssetService.release(publicId);
+        } catch (RuntimeException e) {
+            log.error("Failed to release media asset reference, keeping asset: publicId={}", publicId, e);
+            return false;
+        }
     }
 
     /**
-     * Uploads a file to Cloudinary with the specified resource type.
+     * Queues an image and every configured variant of it for deletion. Variants that were never
+     * generated, such as for small or WebP images, are reported as not found and dropped.
+     *
+     * @param publicId the public ID of the original image
+     */
+    private void removeImage(String publicId) {
+        List<String> publicIds = new ArrayList<>(imageProperties.getVariants().size() + 1);
+        publicIds.add(publicId);
+        imageProperties.getVariants().forEach(variant -> publicIds.add(variantPublicId(publicId, variant.getName())));
+        remove(MediaResourceType.IMAGE, publicIds);
+    }
+
+    private void removeRawFile(String publicId) {
+        remove(MediaResourceType.RAW, List.of(publicId));
+    }
+
+    private void remove(MediaResourceType resourceType, List<String> publicIds) {
+        try {
+            cloudinaryDeletionQueue.enqueue(resourceType, publicIds);
+        } catch (RuntimeException e) {
+            log.error("Failed to queue {} for deletion, leaving it to the orphan sweep: publicId={}",
+                resourceType, publicIds.getFirst(), e);
+        }
+    }
+
+    /**
+     * Hashes a staged file with SHA-256.
+     *
+     * @param stagedFile the staged file
+     * @return the hex digest
+     */
+    private String hash(Path stagedFile) {
+        try {
+            return HashUtils.sha256Hex(stagedFile);
+        } catch (IOException e) {
+            log.error("Failed to hash staged upload {}", stagedFile.getFileName(), e);
+            throw new ValidationException(ErrorCode.FILE_UPLOAD_ERROR, String.format(FILE_READ_ERROR, e.getMessage()));
+        }
+    }
+
+    /**
+     * Stages a multipart file on local disk.
+     *
+     * @param file the file to stage
+     * @param resourceType the Cloudinary resource type, for logging
+     * @return path of the staged file
+     */
+    private Path stage(MultipartFile file, String resourceType) {
+        try {
+            return fileStagingService.stage(file);
+        } catch (IOException e) {
+            log.error("Failed to stage {} for upload", resourceType, e);
+            throw new ValidationException(ErrorCode.FILE_UPLOAD_ERROR, String.format(FILE_READ_ERROR, e.getMessage()));
+        }
+    }
+
+    /**
+     * Uploads generated variants under the original's public ID plus the variant name, and returns
+     * every size of the image, narrowest first, ending with the original.
+     *
+     * @param original the uploaded original
+     * @param generated the variant files, widest first
+     * @return the variants including the original
+     */
+    private List<ImageVariant> uploadVariants(CloudinaryUploadResult original,
+                                              List<ImageVariantService.GeneratedVariant> generated) {
+        List<ImageVariant> variants = new ArrayList<>(generated.size() + 1);
+        for (ImageVariantService.GeneratedVariant variant : generated.reversed()) {
+            String publicId = variantPublicId(original.getPublicId(), variant.name());
+            try {
+                Map<?, ?> response = cloudinary.uploader().upload(variant.file().toFile(), Map.of(
+                    PARAM_PUBLIC_ID, publicId,
+                    PARAM_RESOURCE_TYPE, RESOURCE_TYPE_IMAGE,
+                    PARAM_OVERWRITE, true
+                ));
+                variants.add(ImageVariant.builder()
+                    .name(variant.name())
+                    .url(extractString(response, RESPONSE_SECURE_URL))
+                    .width(variant.width())
+                    .height(variant.height())
+                    .build());
+            } catch (IOException e) {
+                log.error("Failed to upload image variant to Cloudinary: publicId={}", publicId, e);
+                throw new ValidationException(ErrorCode.CLOUDINARY_ERROR,
+                    String.format(IMAGE_UPLOAD_FAILED, e.getMessage()));
+            }
+        }
+        variants.add(ImageVariant.builder()
+            .name(ImageVariant.ORIGINAL)
+            .url(original.getSecureUrl())
+            .width(original.getWidth())
+            .height(original.getHeight())
+            .build());
+        log.info("Uploaded {} variant(s) for publicId={}", generated.size(), original.getPublicId());
+        return variants;
+    }
+
+    private static String variantPublicId(String publicId, String variantName) {
+        return publicId + VARIANT_SEPARATOR + variantName;
+    }
+
+    /**
+     * Uploads a file from local disk to Cloudinary with the specified resource type.
+     * The Cloudinary client streams the file, so memory use does not grow with file size.
      *
      * @param file the file to upload
      * @param subFolder optional subfolder within the main folder
+     * @param publicId explicit public ID, or null to derive one from the file name
      * @param resourceType the Cloudinary resource type (image or raw)
      * @param errorMessageFormat the error message format for upload failures
      * @return upload result with URL and metadata
      */
-    private CloudinaryUploadResult upload(MultipartFile file, String subFolder, String publicId,
+    private CloudinaryUploadResult upload(Path file, String subFolder, String publicId,
                                           String resourceType, String errorMessageFormat) {
-        log.info("Uploading {} to Cloudinary: {} bytes", resourceType, file.getSize());
-
         try {
+            log.info("Uploading {} to Cloudinary: {} bytes", resourceType, Files.size(file));
+
             String uploadFolder = nonNull(subFolder) ? folder + "/" + subFolder : folder;
 
             Map<String, Object> uploadParams = new HashMap<>();
@@ -107,7 +350,7 @@ public class CloudinaryService {
                 uploadParams.put(PARAM_UNIQUE_FILENAME, true);
             }
 
-            Map<?, ?> response = cloudinary.uploader().upload(file.getBytes(), uploadParams);
+            Map<?, ?> response = cloudinary.uploader().upload(file.toFile(), uploadParams);
 
             CloudinaryUploadResult result = buildUploadResult(response, resourceType);
 
@@ -146,42 +389,6 @@ public class CloudinaryService {
         return builder.build();
     }
 
-    /**
-     * Deletes a resource from Cloudinary by public ID and resource type.
-     * Best-effort operation — logs failures but does not throw.
-     *
-     * @param publicId the Cloudinary public ID
-     * @param resourceType the Cloudinary resource type (image or raw)
-     */
-    private void delete(String publicId, String resourceType) {
-        if (isBlank(publicId)) {
-            log.warn("Attempted to delete {} with null or blank publicId", resourceType);
-            return;
-        }
-
-        log.info("Deleting {} from Cloudinary: publicId={}", resourceType, publicId);
-
-        try {
-            Map<String, Object> params = RESOURCE_TYPE_IMAGE.equals(resourceType)
-                ? Collections.emptyMap()
-                : Map.of(PARAM_RESOURCE_TYPE, resourceType);
-
-            Map<?, ?> deleteResponse = cloudinary.uploader().destroy(publicId, params);
-            String result = extractString(deleteResponse, RESPONSE_RESULT);
-
-            if (DELETE_OK.equals(result)) {
-                log.info("{} deleted successfully from Cloudinary: publicId={}", resourceType, publicId);
-            } else if (DELETE_NOT_FOUND.equals(result)) {
-                log.warn("{} not found in Cloudinary: publicId={}", resourceType, publicId);
-            } else {
-                log.error("Unexpected result from Cloudinary delete: {}", result);
-            }
-
-        } catch (IOException e) {
-            log.error("Failed to delete {} from Cloudinary: publicId={}", resourceType, publicId, e);
-        }
-    }
-
     /**
      * Safely extracts a String value from the Cloudinary response map.
      *
@@ -0,0 +1,205 @@
+package com.caseyquinn.personal_website.service;
+
+import com.caseyquinn.personal_website.dto.response.CompressedPayload;
+import com.caseyquinn.personal_website.util.HashUtils;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Supplier;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+import static org.apache.commons.lang3.StringUtils.isBlank;
+
+/**
+ * Serves large, cacheable JSON responses from bodies that were serialized and gzip-compressed
+ * once, when the cache was filled.
+ *
+ * <p>Each payload is stored in the same Redis cache as the data it renders, under the data's key
+ * plus {@value #PAYLOAD_KEY_SUFFIX}, so the {@code allEntries} evictions that already guard that
+ * cache drop the payload too, on every replica. Clients that accept gzip get the compressed bytes
+ * with {@code Content-Encoding: gzip}, which the container's own compression leaves alone; others
+ * get the identity bytes. Each encoding has its own strong ETag, so unchanged payloads are
+ * answered with 304.</p>
+ */
+@Service
+@Slf4j
+public class CompressedResponseCache {
+
+    static final String PAYLOAD_KEY_SUFFIX = ":payload";
+
+    private static final String ENCODING_GZIP = "gzip";
+    private static final String ENCODING_X_GZIP = "x-gzip";
+    private static final String ENCODING_IDENTITY = "identity";
+    private static final String ENCODING_ANY = "*";
+    private static final String QUALITY_PARAM = "q=";
+    private static final String WEAK_ETAG_PREFIX = "W/";
+
+    private final CacheManager cacheManager;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+    private final DistributionSummary compressionCpu;
+
+    public CompressedResponseCache(CacheManager cacheManager, ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.cacheManager = cacheManager;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.compressionCpu = DistributionSummary.builder("http.payload.compression.cpu")
+                .description("CPU time spent serializing and compressing a cached response body")
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Answers a request from the cached payload, building it from {@code body} on a miss.
+     *
+     * @param request the HTTP request, whose Accept-Encoding and If-None-Match headers are honoured
+     * @param cacheName the cache holding the data the body renders
+     * @param key the data's key in that cache
+     * @param body supplies the response body to serialize on a miss
+     * @return a 200 with the negotiated encoding, or a 304
+     */
+    public ResponseEntity<byte[]> respond(HttpServletRequest request, String cacheName, String key, Supplier<?> body) {
+        Cache cache = Objects.requireNonNull(cacheManager.getCache(cacheName));
+        CompressedPayload payload = cache.get(key + PAYLOAD_KEY_SUFFIX, () -> encode(cacheName, key, body.get()));
+
+        boolean gzip = acceptsGzip(request.getHeader(HttpHeaders.ACCEPT_ENCODING));
+        String etag = "\"" + payload.getContentHash() + (gzip ? "-" + ENCODING_GZIP : "") + "\"";
+        HttpHeaders headers = new HttpHeaders();
+        headers.setVary(List.of(HttpHeaders.ACCEPT_ENCODING));
+        headers.setETag(etag);
+        if (matches(request.getHeader(HttpHeaders.IF_NONE_MATCH), etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).headers(headers).build();
+        }
+
+        byte[] bytes = gzip ? payload.getGzip() : payload.getIdentity();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        if (gzip) {
+            headers.set(HttpHeaders.CONTENT_ENCODING, ENCODING_GZIP);
+        }
+        payloadBytes(cacheName, key, gzip ? ENCODING_GZIP : ENCODING_IDENTITY).record(bytes.length);
+        return ResponseEntity.ok().headers(headers).body(bytes);
+    }
+
+    private CompressedPayload encode(String cacheName, String key, Object body) {
+        long cpuStart = threadMXBean.getCurrentThreadCpuTime();
+        try {
+            byte[] identity = objectMapper.writeValueAsBytes(body);
+            byte[] gzip = gzip(identity);
+            compressionCpu.record((threadMXBean.getCurrentThreadCpuTime() - cpuStart) / 1_000_000.0);
+            log.info("Service: Cached {}/{} payload ({} bytes, {} gzipped)", cacheName, key, identity.length, gzip.length);
+            return CompressedPayload.builder()
+                    .identity(identity)
+                    .gzip(gzip)
+                    .contentHash(HashUtils.sha256Hex(identity))
+                    .build();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Compresses at the highest level, since the cost is paid once per cache fill rather than per
+     * request.
+     */
+    private static byte[] gzip(byte[] identity) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(identity.length / 4);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out) {
+            {
+                def.setLevel(Deflater.BEST_COMPRESSION);
+            }
+        }) {
+            gzip.write(identity);
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * Whether the Accept-Encoding header admits gzip, either by name or through {@code *}, with a
+     * non-zero quality.
+     */
+    private static boolean acceptsGzip(String acceptEncoding) {
+        if (isBlank(acceptEncoding)) {
+            return false;
+        }
+        Double gzipQuality = null;
+        Double anyQuality = null;
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.split(";");
+            String name = parts[0].trim();
+            double quality = quality(parts);
+            if (ENCODING_GZIP.equalsIgnoreCase(name) || ENCODING_X_GZIP.equalsIgnoreCase(name)) {
+                gzipQuality = quality;
+            } else if (ENCODING_ANY.equals(name)) {
+                anyQuality = quality;
+            }
+        }
+        if (nonNull(gzipQuality)) {
+            return gzipQuality > 0;
+        }
+        return nonNull(anyQuality) && anyQuality > 0;
+    }
+
+    private static double quality(String[] parts) {
+        for (int i = 1; i < parts.length; i++) {
+            String param = parts[i].trim();
+            if (param.startsWith(QUALITY_PARAM)) {
+                try {
+                    return Double.parseDouble(param.substring(QUALITY_PARAM.length()));
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 1;
+    }
+
+    /**
+     * Weak comparison, as If-None-Match requires.
+     */
+    private static boolean matches(String ifNoneMatch, String etag) {
+        if (isNull(ifNoneMatch)) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.startsWith(WEAK_ETAG_PREFIX)) {
+                tag = tag.substring(WEAK_ETAG_PREFIX.length());
+            }
+            if (ENCODING_ANY.equals(tag) || etag.equals(tag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private DistributionSummary payloadBytes(String cacheName, String key, String encoding) {
+        return DistributionSummary.builder("http.payload.bytes")
+                .description("Bytes written for cached response bodies, by encoding")
+                .baseUnit("bytes")
+                .tag("cache", cacheName)
+                .tag("key", key)
+                .tag("encoding", encoding)
+                .register(meterRegistry);
+    }
+}
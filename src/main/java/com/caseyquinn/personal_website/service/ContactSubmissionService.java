@@ -1,22 +1,46 @@
 package com.caseyquinn.personal_website.service;
 
 import com.caseyquinn.personal_website.dao.ContactSubmissionDao;
+import com.caseyquinn.personal_website.dao.EmailOutboxDao;
+import com.caseyquinn.personal_website.dto.request.ContactSubmissionFilterRequest;
 import com.caseyquinn.personal_website.dto.request.ContactSubmissionRequest;
 import com.caseyquinn.personal_website.dto.request.UpdateContactStatusRequest;
 import com.caseyquinn.personal_website.dto.response.ContactSubmissionResponse;
+import com.caseyquinn.personal_website.dto.response.ContactSubmissionSummaryResponse;
+import com.caseyquinn.personal_website.dto.response.KeysetPageResponse;
 import com.caseyquinn.personal_website.entity.ContactSubmission;
+import com.caseyquinn.personal_website.entity.EmailOutboxMessage;
+import com.caseyquinn.personal_website.entity.enums.EmailType;
+import com.caseyquinn.personal_website.entity.enums.ExportFormat;
 import com.caseyquinn.personal_website.entity.enums.InquiryType;
 import com.caseyquinn.personal_website.entity.enums.SubmissionStatus;
+import com.caseyquinn.personal_website.exception.ErrorCode;
+import com.caseyquinn.personal_website.exception.business.ValidationException;
 import com.caseyquinn.personal_website.mapper.ContactSubmissionMapper;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Base64;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
 
+import static com.caseyquinn.personal_website.exception.ErrorMessages.INVALID_PAGINATION_CURSOR;
 import static java.util.Objects.isNull;
+import static org.apache.commons.lang3.StringUtils.isNotBlank;
 
 /**
  * Service layer for managing contact form submissions and their business logic.
@@ -29,7 +53,14 @@ public class ContactSubmissionService {
 
     private final ContactSubmissionDao contactSubmissionDao;
     private final ContactSubmissionMapper contactSubmissionMapper;
-    private final EmailService emailService;
+    private final EmailOutboxDao emailOutboxDao;
+    private final ObjectMapper objectMapper;
+
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int EXPORT_FETCH_SIZE = 500;
+    private static final String CURSOR_SEPARATOR = "|";
+    private static final String CSV_HEADER =
+            "id,name,email,subject,message,inquiry_type,status,ip_address,user_agent,created_at,responded_at";
 
     /**
      * Submits a new contact form from a visitor.
@@ -54,8 +85,15 @@ public class ContactSubmissionService {
         ContactSubmission saved = contactSubmissionDao.save(submission);
         log.info("Service: Contact submission saved with id: {}", saved.getId());
 
-        emailService.sendContactConfirmation(saved);
-        emailService.sendNewContactNotification(saved);
+        // Queued in this transaction so the emails exist if and only if the submission commits
+        emailOutboxDao.save(EmailOutboxMessage.builder()
+                .emailType(EmailType.CONTACT_CONFIRMATION)
+                .contactSubmissionId(saved.getId())
+                .build());
+        emailOutboxDao.save(EmailOutboxMessage.builder()
+                .emailType(EmailType.CONTACT_NOTIFICATION)
+                .contactSubmissionId(saved.getId())
+                .build());
 
         return contactSubmissionMapper.toResponse(saved);
     }
@@ -71,6 +109,79 @@ public class ContactSubmissionService {
         return contactSubmissionMapper.toResponseList(submissions);
     }
 
+    /**
+     * Retrieves one keyset page of contact submission summaries matching the filter, newest first.
+     * Fetches one extra row to determine whether a further page exists without issuing a count query.
+     *
+     * @param filter the filters, cursor and page size
+     * @return the page of summaries with the cursor for the next page
+     */
+    public KeysetPageResponse<ContactSubmissionSummaryResponse> getSubmissionsPage(ContactSubmissionFilterRequest filter) {
+        log.info("Service: Fetching contact submissions page: {}", filter);
+        int limit = isNull(filter.getLimit()) ? DEFAULT_PAGE_SIZE : filter.getLimit();
+
+        PageCursor cursor = isNotBlank(filter.getCursor()) ? decodeCursor(filter.getCursor()) : PageCursor.FIRST;
+        List<ContactSubmissionSummaryResponse> rows =
+                contactSubmissionDao.findSummaries(filter, cursor.createdAt(), cursor.id(), limit + 1);
+
+        boolean hasMore = rows.size() > limit;
+        List<ContactSubmissionSummaryResponse> items = hasMore ? new ArrayList<>(rows.subList(0, limit)) : rows;
+        String nextCursor = hasMore ? encodeCursor(items.getLast()) : null;
+
+        return KeysetPageResponse.<ContactSubmissionSummaryResponse>builder()
+                .items(items)
+                .nextCursor(nextCursor)
+                .hasMore(hasMore)
+                .limit(limit)
+                .build();
+    }
+
+    /**
+     * Streams every contact submission matching the filter to the output stream in the given format.
+     * Rows are read through a database cursor and written one at a time, so memory use stays flat
+     * regardless of how many submissions match. The cursor and page size of the filter are ignored.
+     *
+     * @param filter the filters to apply
+     * @param format the export format
+     * @param outputStream the destination stream; flushed but not closed
+     * @return the number of exported submissions
+     * @throws IOException if writing to the output stream fails
+     */
+    public long exportSubmissions(ContactSubmissionFilterRequest filter, ExportFormat format, OutputStream outputStream)
+            throws IOException {
+        log.info("Service: Exporting contact submissions as {}: {}", format, filter);
+
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        AtomicLong count = new AtomicLong();
+
+        if (format == ExportFormat.CSV) {
+            writer.write(CSV_HEADER);
+            writer.write('\n');
+        }
+
+        try (Stream<ContactSubmissionResponse> rows = contactSubmissionDao.streamAll(filter, EXPORT_FETCH_SIZE)) {
+            rows.forEach(row -> {
+                try {
+                    if (format == ExportFormat.CSV) {
+                        writeCsvRow(writer, row);
+                    } else {
+                        writer.write(objectMapper.writeValueAsString(row));
+                        writer.write('\n');
+                    }
+                    count.incrementAndGet();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+
+        writer.flush();
+        log.info("Service: Exported {} contact submissions as {}", count.get(), format);
+        return count.get();
+    }
+
     /**
      * Retrieves a specific contact submission by ID.
      *
@@ -143,4 +254,65 @@ public class ContactSubmissionService {
         contactSubmissionDao.deleteById(id);
         log.info("Service: Successfully deleted contact submission with id: {}", id);
     }
+
+    private static String encodeCursor(ContactSubmissionSummaryResponse last) {
+        String raw = last.getCreatedAt() + CURSOR_SEPARATOR + last.getId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static PageCursor decodeCursor(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf(CURSOR_SEPARATOR);
+            if (separator <= 0) {
+                throw new ValidationException(ErrorCode.VALIDATION_FAILED, INVALID_PAGINATION_CURSOR);
+            }
+            return new PageCursor(
+                    LocalDateTime.parse(raw.substring(0, separator)),
+                    Long.parseLong(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new ValidationException(ErrorCode.VALIDATION_FAILED, INVALID_PAGINATION_CURSOR);
+        }
+    }
+
+    private static void writeCsvRow(Writer writer, ContactSubmissionResponse row) throws IOException {
+        writer.write(String.join(",",
+                csvValue(row.getId()),
+                csvValue(row.getName()),
+                csvValue(row.getEmail()),
+                csvValue(row.getSubject()),
+                csvValue(row.getMessage()),
+                csvValue(row.getInquiryType()),
+                csvValue(row.getStatus()),
+                csvValue(row.getIpAddress()),
+                csvValue(row.getUserAgent()),
+                csvValue(row.getCreatedAt()),
+                csvValue(row.getRespondedAt())));
+        writer.write('\n');
+    }
+
+    /**
+     * Formats a value as an RFC 4180 CSV field, quoting when needed and neutralising
+     * leading formula characters so spreadsheet apps don't evaluate user-supplied text.
+     */
+    private static String csvValue(Object value) {
+        if (isNull(value)) {
+            return "";
+        }
+        String text = value.toString();
+        if (!text.isEmpty() && "=+-@".indexOf(text.charAt(0)) >= 0) {
+            text = "'" + text;
+        }
+        if (text.contains(",") || text.contains("\"") || text.contains("\n") || text.contains("\r")) {
+            return "\"" + text.replace("\"", "\"\"") + "\"";
+        }
+        return text;
+    }
+
+    /**
+     * Position of the last row of the previous page; both components are null for the first page.
+     */
+    private record PageCursor(LocalDateTime createdAt, Long id) {
+        private static final PageCursor FIRST = new PageCursor(null, null);
+    }
 }
@@ -0,0 +1,270 @@
+package com.caseyquinn.personal_website.service;
+
+import com.caseyquinn.personal_website.config.EmailOutboxProperties;
+import com.caseyquinn.personal_website.dao.ContactSubmissionDao;
+import com.caseyquinn.personal_website.dao.EmailOutboxDao;
+import com.caseyquinn.personal_website.entity.ContactSubmission;
+import com.caseyquinn.personal_website.entity.EmailOutboxMessage;
+import com.caseyquinn.personal_website.entity.enums.EmailType;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static com.caseyquinn.personal_website.constants.EmailConstants.MAX_BATCH_SIZE;
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+/**
+ * Delivers queued contact emails from the outbox.
+ *
+ * <p>Each run leases a batch of due confirmations and sends them in one Resend batch call, then
+ * sends owner notifications. If the batch call fails, its confirmations are sent again one at a
+ * time, so a single address Resend rejects only counts against its own message. The first
+ * notification after a quiet period goes out on its own; further ones arriving within the digest
+ * window are held and sent together as one digest. Failed sends are retried with exponential
+ * backoff until {@code maxAttempts}, after which the message is marked FAILED.</p>
+ */
+@Component
+@Slf4j
+public class EmailOutboxDispatcher {
+
+    private static final double BACKOFF_JITTER = 0.2;
+
+    private final EmailOutboxDao emailOutboxDao;
+    private final ContactSubmissionDao contactSubmissionDao;
+    private final EmailService emailService;
+    private final EmailOutboxProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final ReentrantLock dispatchLock = new ReentrantLock();
+    private final AtomicLong pending = new AtomicLong();
+    private final Timer sendTimer;
+
+    private LocalDateTime lastOwnerEmailAt = LocalDateTime.MIN;
+
+    public EmailOutboxDispatcher(EmailOutboxDao emailOutboxDao,
+                                 ContactSubmissionDao contactSubmissionDao,
+                                 EmailService emailService,
+                                 EmailOutboxProperties properties,
+                                 MeterRegistry meterRegistry) {
+        this.emailOutboxDao = emailOutboxDao;
+        this.contactSubmissionDao = contactSubmissionDao;
+        this.emailService = emailService;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.sendTimer = Timer.builder("email.outbox.send.duration")
+                .description("Time spent in Resend calls per dispatcher send")
+                .register(meterRegistry);
+        Gauge.builder("email.outbox.pending", pending, AtomicLong::get)
+                .description("Outbox emails waiting to be sent")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Sends due confirmations and owner notifications.
+     */
+    @Scheduled(fixedDelayString = "${app.email-outbox.poll-interval:5s}",
+            initialDelayString = "${app.email-outbox.poll-interval:5s}")
+    public void dispatch() {
+        if (!dispatchLock.tryLock()) {
+            return;
+        }
+        try {
+            dispatchConfirmations();
+            dispatchOwnerNotifications();
+            pending.set(emailOutboxDao.countPending());
+        } catch (DataAccessException e) {
+            log.warn("Email outbox dispatch failed; will retry next run: {}", e.getMessage());
+        } finally {
+            dispatchLock.unlock();
+        }
+    }
+
+    /**
+     * Purges sent messages past the retention period.
+     */
+    @Scheduled(cron = "0 45 3 * * *")
+    public void purgeSent() {
+        try {
+            int deleted = emailOutboxDao.deleteSentBefore(LocalDateTime.now().minus(properties.getRetention()));
+            log.info("Purged {} sent outbox message(s)", deleted);
+        } catch (DataAccessException e) {
+            log.warn("Failed to purge sent outbox messages; will retry next run: {}", e.getMessage());
+        }
+    }
+
+    private void dispatchConfirmations() {
+        int limit = Math.clamp(properties.getBatchSize(), 1, MAX_BATCH_SIZE);
+        Batch batch = resolve(claim(EmailType.CONTACT_CONFIRMATION, limit));
+        if (batch.isEmpty()) {
+            return;
+        }
+        Exception failure = attempt(() -> emailService.sendContactConfirmations(batch.submissions()));
+        if (isNull(failure) || batch.messages().size() == 1) {
+            record(EmailType.CONTACT_CONFIRMATION, batch.messages(), failure);
+            return;
+        }
+
+        log.warn("Batch send of {} confirmation(s) failed, sending them one at a time: {}",
+                batch.messages().size(), failure.getMessage());
+        for (int i = 0; i < batch.messages().size(); i++) {
+            ContactSubmission submission = batch.submissions().get(i);
+            record(EmailType.CONTACT_CONFIRMATION, List.of(batch.messages().get(i)),
+                    attempt(() -> emailService.sendContactConfirmations(List.of(submission))));
+        }
+    }
+
+    private void dispatchOwnerNotifications() {
+        LocalDateTime now = LocalDateTime.now();
+        if (now.isBefore(lastOwnerEmailAt.plus(properties.getDigestWindow()))) {
+            return;
+        }
+        Batch batch = resolve(claim(EmailType.CONTACT_NOTIFICATION, properties.getDigestMaxItems()));
+        if (batch.isEmpty()) {
+            return;
+        }
+        boolean sent = send(EmailType.CONTACT_NOTIFICATION, batch.messages(), () -> {
+            if (batch.submissions().size() == 1) {
+                emailService.sendNewContactNotification(batch.submissions().getFirst());
+            } else {
+                emailService.sendContactDigest(batch.submissions());
+            }
+        });
+        if (sent) {
+            lastOwnerEmailAt = now;
+        }
+    }
+
+    private List<EmailOutboxMessage> claim(EmailType emailType, int limit) {
+        LocalDateTime now = LocalDateTime.now();
+        return emailOutboxDao.claimDue(emailType, now, now.plus(properties.getLease()), limit);
+    }
+
+    /**
+     * Pairs the claimed messages with their submissions in claim order. Messages whose submission
+     * no longer exists are marked failed and dropped.
+     */
+    private Batch resolve(List<EmailOutboxMessage> claimed) {
+        if (claimed.isEmpty()) {
+            return Batch.EMPTY;
+        }
+        Map<Long, ContactSubmission> byId = contactSubmissionDao
+                .findAllById(claimed.stream().map(EmailOutboxMessage::getContactSubmissionId).toList())
+                .stream()
+                .collect(Collectors.toMap(ContactSubmission::getId, Function.identity()));
+
+        List<EmailOutboxMessage> messages = new ArrayList<>(claimed.size());
+        List<ContactSubmission> submissions = new ArrayList<>(claimed.size());
+        for (EmailOutboxMessage message : claimed) {
+            ContactSubmission submission = byId.get(message.getContactSubmissionId());
+            if (isNull(submission)) {
+                emailOutboxDao.markFailed(message.getId(), "Contact submission no longer exists");
+                continue;
+            }
+            messages.add(message);
+            submissions.add(submission);
+        }
+        return new Batch(messages, submissions);
+    }
+
+    /**
+     * Runs one send and records the outcome for every message it covers.
+     *
+     * @return true if the send succeeded
+     */
+    private boolean send(EmailType emailType, List<EmailOutboxMessage> messages, Send send) {
+        return record(emailType, messages, attempt(send));
+    }
+
+    /**
+     * Runs one timed send.
+     *
+     * @return the failure, or null if the send succeeded
+     */
+    private Exception attempt(Send send) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            send.run();
+            return null;
+        } catch (Exception e) {
+            return e;
+        } finally {
+            sample.stop(sendTimer);
+        }
+    }
+
+    /**
+     * Marks the messages sent, or reschedules or fails each of them if the send failed.
+     *
+     * @return true if the send succeeded
+     */
+    private boolean record(EmailType emailType, List<EmailOutboxMessage> messages, Exception failure) {
+        if (isNull(failure)) {
+            emailOutboxDao.markSent(messages.stream().map(EmailOutboxMessage::getId).toList(), LocalDateTime.now());
+            counter("email.outbox.sent", emailType, null).increment(messages.size());
+            return true;
+        }
+
+        log.warn("Failed to send {} {} email(s): {}", messages.size(), emailType, failure.getMessage());
+        for (EmailOutboxMessage message : messages) {
+            if (message.getAttempts() >= properties.getMaxAttempts()) {
+                emailOutboxDao.markFailed(message.getId(), failure.getMessage());
+                counter("email.outbox.failures", emailType, "dead").increment();
+                log.error("Giving up on outbox message {} after {} attempt(s)", message.getId(), message.getAttempts());
+            } else {
+                emailOutboxDao.reschedule(message.getId(), LocalDateTime.now().plus(backoff(message.getAttempts())),
+                        failure.getMessage());
+                counter("email.outbox.failures", emailType, "retry").increment();
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Exponential backoff with jitter so that a batch failing together does not retry in lockstep.
+     */
+    private Duration backoff(int attempts) {
+        long initialMillis = properties.getInitialBackoff().toMillis();
+        long maxMillis = properties.getMaxBackoff().toMillis();
+        long delay = Math.min(initialMillis << Math.clamp(attempts - 1, 0, 30), maxMillis);
+        double jitter = 1 + ThreadLocalRandom.current().nextDouble(-BACKOFF_JITTER, BACKOFF_JITTER);
+        return Duration.ofMillis((long) (delay * jitter));
+    }
+
+    private Counter counter(String name, EmailType emailType, String outcome) {
+        Counter.Builder builder = Counter.builder(name).tag("type", emailType.name());
+        if (nonNull(outcome)) {
+            builder.tag("outcome", outcome);
+        }
+        return builder.register(meterRegistry);
+    }
+
+    private record Batch(List<EmailOutboxMessage> messages, List<ContactSubmission> submissions) {
+
+        private static final Batch EMPTY = new Batch(List.of(), List.of());
+
+        private boolean isEmpty() {
+            return messages.isEmpty();
+        }
+    }
+
+    @FunctionalInterface
+    private interface Send {
+        void run() throws Exception;
+    }
+}
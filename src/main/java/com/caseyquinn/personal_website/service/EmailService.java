@@ -9,15 +9,17 @@ import com.resend.services.emails.model.CreateEmailOptions;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 import org.thymeleaf.TemplateEngine;
 import org.thymeleaf.context.Context;
 
+import java.util.List;
+
 /**
  * Service for sending email notifications via Resend.
  * Uses Thymeleaf templates for HTML email rendering.
- * Emails are sent asynchronously to avoid blocking the main request.
+ * Sends synchronously and propagates failures; callers go through the email outbox,
+ * whose dispatcher owns batching and retries.
  */
 @Service
 @Slf4j
@@ -44,69 +46,97 @@ public class EmailService {
     }
 
     /**
-     * Sends a confirmation email to the visitor who submitted the contact form.
+     * Sends confirmation emails to the visitors who submitted the contact form, in one batch call.
      *
-     * @param submission the contact submission
+     * @param submissions the contact submissions, at most {@code MAX_BATCH_SIZE}
+     * @throws ResendException if Resend rejects the batch
      */
-    @Async
-    public void sendContactConfirmation(ContactSubmission submission) {
-        log.info("Sending contact confirmation email to: {}", submission.getEmail());
-
-        try {
-            Context context = new Context();
-            context.setVariable(VAR_NAME, submission.getName());
-            context.setVariable(VAR_MESSAGE, submission.getMessage());
-
-            String html = emailTemplateEngine.process(TEMPLATE_CONTACT_CONFIRMATION, context);
-
-            CreateEmailOptions params = CreateEmailOptions.builder()
-                    .from(fromEmail)
-                    .to(submission.getEmail())
-                    .subject(SUBJECT_CONTACT_CONFIRMATION)
-                    .html(html)
-                    .build();
+    public void sendContactConfirmations(List<ContactSubmission> submissions) throws ResendException {
+        if (submissions.isEmpty()) {
+            return;
+        }
+        log.info("Sending {} contact confirmation email(s)", submissions.size());
 
-            resend.emails().send(params);
-            log.info("Contact confirmation email sent successfully to: {}", submission.getEmail());
+        List<CreateEmailOptions> emails = submissions.stream()
+                .map(this::buildConfirmation)
+                .toList();
 
-        } catch (ResendException e) {
-            log.error("Failed to send contact confirmation email to: {}", submission.getEmail(), e);
+        if (emails.size() == 1) {
+            resend.emails().send(emails.getFirst());
+        } else {
+            resend.batch().send(emails);
         }
+        log.info("Sent {} contact confirmation email(s)", emails.size());
     }
 
     /**
      * Sends a notification email to the site owner about a new contact submission.
      *
      * @param submission the contact submission
+     * @throws ResendException if Resend rejects the email
      */
-    @Async
-    public void sendNewContactNotification(ContactSubmission submission) {
+    public void sendNewContactNotification(ContactSubmission submission) throws ResendException {
         log.info("Sending new contact notification to owner");
 
-        try {
-            Context context = new Context();
-            context.setVariable(VAR_NAME, submission.getName());
-            context.setVariable(VAR_EMAIL, submission.getEmail());
-            context.setVariable(VAR_INQUIRY_TYPE, submission.getInquiryType().name());
-            context.setVariable(VAR_SUBJECT, submission.getSubject());
-            context.setVariable(VAR_MESSAGE, submission.getMessage());
-            context.setVariable(VAR_IP_ADDRESS, submission.getIpAddress());
-            context.setVariable(VAR_SUBMITTED_AT, submission.getCreatedAt());
-
-            String html = emailTemplateEngine.process(TEMPLATE_CONTACT_NOTIFICATION, context);
-
-            CreateEmailOptions params = CreateEmailOptions.builder()
-                    .from(fromEmail)
-                    .to(ownerEmail)
-                    .subject(SUBJECT_NEW_CONTACT_PREFIX + submission.getInquiryType())
-                    .html(html)
-                    .build();
-
-            resend.emails().send(params);
-            log.info("New contact notification sent successfully to owner");
-
-        } catch (ResendException e) {
-            log.error("Failed to send new contact notification to owner", e);
-        }
+        Context context = new Context();
+        context.setVariable(VAR_NAME, submission.getName());
+        context.setVariable(VAR_EMAIL, submission.getEmail());
+        context.setVariable(VAR_INQUIRY_TYPE, submission.getInquiryType().name());
+        context.setVariable(VAR_SUBJECT, submission.getSubject());
+        context.setVariable(VAR_MESSAGE, submission.getMessage());
+        context.setVariable(VAR_IP_ADDRESS, submission.getIpAddress());
+        context.setVariable(VAR_SUBMITTED_AT, submission.getCreatedAt());
+
+        String html = emailTemplateEngine.process(TEMPLATE_CONTACT_NOTIFICATION, context);
+
+        CreateEmailOptions params = CreateEmailOptions.builder()
+                .from(fromEmail)
+                .to(ownerEmail)
+                .subject(SUBJECT_NEW_CONTACT_PREFIX + submission.getInquiryType())
+                .html(html)
+                .build();
+
+        resend.emails().send(params);
+        log.info("New contact notification sent successfully to owner");
+    }
+
+    /**
+     * Sends the site owner a single email summarizing several contact submissions.
+     *
+     * @param submissions the contact submissions, oldest first
+     * @throws ResendException if Resend rejects the email
+     */
+    public void sendContactDigest(List<ContactSubmission> submissions) throws ResendException {
+        log.info("Sending contact digest of {} submission(s) to owner", submissions.size());
+
+        Context context = new Context();
+        context.setVariable(VAR_SUBMISSIONS, submissions);
+
+        String html = emailTemplateEngine.process(TEMPLATE_CONTACT_DIGEST, context);
+
+        CreateEmailOptions params = CreateEmailOptions.builder()
+                .from(fromEmail)
+                .to(ownerEmail)
+                .subject(SUBJECT_CONTACT_DIGEST_FORMAT.formatted(submissions.size()))
+                .html(html)
+                .build();
+
+        resend.emails().send(params);
+        log.info("Contact digest sent successfully to owner");
+    }
+
+    private CreateEmailOptions buildConfirmation(ContactSubmission submission) {
+        Context context = new Context();
+        context.setVariable(VAR_NAME, submission.getName());
+        context.setVariable(VAR_MESSAGE, submission.getMessage());
+
+        String html = emailTemplateEngine.process(TEMPLATE_CONTACT_CONFIRMATION, context);
+
+        return CreateEmailOptions.builder()
+                .from(fromEmail)
+                .to(submission.getEmail())
+                .subject(SUBJECT_CONTACT_CONFIRMATION)
+                .html(html)
+                .build();
     }
 }
@@ -0,0 +1,99 @@
+package com.caseyquinn.personal_website.service;
+
+import com.caseyquinn.personal_website.config.UploadProperties;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.util.FileSystemUtils;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.regex.Pattern;
+
+import static org.apache.commons.lang3.StringUtils.isBlank;
+
+/**
+ * Stages uploaded files on local disk so they can be streamed to Cloudinary without being held in memory.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class FileStagingService {
+
+    private static final String STAGING_DIRECTORY_PREFIX = "upload-";
+    private static final String DEFAULT_STAGED_FILENAME = "upload";
+    private static final Pattern UNSAFE_FILENAME_CHARS = Pattern.compile("[^A-Za-z0-9._-]");
+
+    private final UploadProperties uploadProperties;
+
+    /**
+     * Creates the staging directory and removes uploads left behind by a previous run.
+     * Staged files belong to in-memory jobs, so anything present at startup is orphaned.
+     */
+    @PostConstruct
+    void init() throws IOException {
+        Path root = uploadProperties.getStagingDirectory();
+        Files.createDirectories(root);
+        try (DirectoryStream<Path> leftovers = Files.newDirectoryStream(root, STAGING_DIRECTORY_PREFIX + "*")) {
+            for (Path leftover : leftovers) {
+                FileSystemUtils.deleteRecursively(leftover);
+                log.info("Removed orphaned staged upload: {}", leftover);
+            }
+        }
+    }
+
+    /**
+     * Moves the upload into its own staging directory under its original file name, so Cloudinary's
+     * {@code use_filename} keeps a readable name. Parts Tomcat has already spooled to disk are renamed
+     * rather than copied; small in-memory parts are written out once.
+     *
+     * @param file the uploaded file
+     * @return path of the staged file
+     * @throws IOException if the file cannot be written
+     */
+    public Path stage(MultipartFile file) throws IOException {
+        Path directory = Files.createTempDirectory(uploadProperties.getStagingDirectory(), STAGING_DIRECTORY_PREFIX);
+        Path target = directory.resolve(safeFilename(file.getOriginalFilename()));
+        try {
+            file.transferTo(target.toFile());
+        } catch (IOException | RuntimeException e) {
+            discard(target);
+            throw e;
+        }
+        return target;
+    }
+
+    /**
+     * Deletes a staged file and its directory. Best-effort; a leftover file is removed at next startup.
+     *
+     * @param staged path returned by {@link #stage(MultipartFile)}
+     */
+    public void discard(Path staged) {
+        try {
+            Files.deleteIfExists(staged);
+            Files.deleteIfExists(staged.getParent());
+        } catch (IOException e) {
+            log.warn("Failed to delete staged upload {}: {}", staged, e.getMessage());
+        }
+    }
+
+    /**
+     * Reduces a client-supplied file name to a safe single path segment.
+     *
+     * @param originalFilename the name sent by the client, possibly null or containing a path
+     * @return a file name containing only letters, digits, dots, dashes and underscores
+     */
+    private String safeFilename(String originalFilename) {
+        if (isBlank(originalFilename)) {
+            return DEFAULT_STAGED_FILENAME;
+        }
+        String name = originalFilename.substring(Math.max(originalFilename.lastIndexOf('/'),
+                originalFilename.lastIndexOf('\\')) + 1);
+        name = UNSAFE_FILENAME_CHARS.matcher(name).replaceAll("_");
+        return isBlank(name) || name.startsWith(".") ? DEFAULT_STAGED_FILENAME : name;
+    }
+}
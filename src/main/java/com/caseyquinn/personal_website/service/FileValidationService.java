@@ -9,7 +9,9 @@ import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.util.Arrays;
+import java.util.List;
 
 import static com.caseyquinn.personal_website.constants.FileConstants.*;
 import static com.caseyquinn.personal_website.exception.ErrorMessages.*;
@@ -30,6 +32,9 @@ public class FileValidationService {
     private static final byte[] GIF_MAGIC = {0x47, 0x49, 0x46};
     private static final byte[] WEBP_MAGIC = {0x52, 0x49, 0x46, 0x46};
     private static final byte[] PDF_MAGIC = {0x25, 0x50, 0x44, 0x46};
+    private static final byte[] WEBP_FOURCC = {0x57, 0x45, 0x42, 0x50};
+    private static final int WEBP_FOURCC_OFFSET = 8;
+    private static final int HEADER_LENGTH = 12;
 
     /**
      * Validates a PDF file for size, content type, and magic bytes.
@@ -56,14 +61,8 @@ public class FileValidationService {
             throw new ValidationException(ErrorCode.INVALID_FILE_TYPE, INVALID_PDF_FILE);
         }
 
-        try {
-            byte[] fileBytes = file.getBytes();
-            if (fileBytes.length < 4 || !startsWith(fileBytes, PDF_MAGIC)) {
-                throw new ValidationException(ErrorCode.INVALID_FILE_TYPE, INVALID_PDF_FILE);
-            }
-        } catch (IOException e) {
-            log.error("Failed to read PDF file bytes for validation", e);
-            throw new ValidationException(ErrorCode.FILE_UPLOAD_ERROR, String.format(FILE_READ_ERROR, e.getMessage()));
+        if (!startsWith(readHeader(file), PDF_MAGIC)) {
+            throw new ValidationException(ErrorCode.INVALID_FILE_TYPE, INVALID_PDF_FILE);
         }
 
         log.info("PDF file validation successful");
@@ -87,25 +86,64 @@ public class FileValidationService {
         log.info("Image file validation successful");
     }
 
-    private boolean isValidImageMagicBytes(byte[] fileBytes, String contentType) {
-        if (isNull(fileBytes) || fileBytes.length < 4) {
+    /**
+     * Validates every file of a batch upload before any of them is uploaded.
+     *
+     * @param files the files to validate
+     * @throws ValidationException if the batch is empty or too large, or any file fails validation
+     */
+    public void validateImageFiles(List<MultipartFile> files) {
+        if (isNull(files) || files.isEmpty()) {
+            throw new ValidationException(ErrorCode.FILE_UPLOAD_ERROR, BATCH_FILES_REQUIRED);
+        }
+        if (files.size() > imageProperties.getMaxFilesPerBatch()) {
+            throw new ValidationException(
+                ErrorCode.FILE_UPLOAD_ERROR,
+                String.format(BATCH_SIZE_EXCEEDED_FORMAT, files.size(), imageProperties.getMaxFilesPerBatch())
+            );
+        }
+        files.forEach(this::validateImageFile);
+    }
+
+    private boolean isValidImageMagicBytes(byte[] header, String contentType) {
+        if (header.length < 4) {
             return false;
         }
 
         return switch (contentType.toLowerCase()) {
-            case "image/jpeg" -> startsWith(fileBytes, JPEG_MAGIC);
-            case "image/png" -> startsWith(fileBytes, PNG_MAGIC);
-            case "image/gif" -> startsWith(fileBytes, GIF_MAGIC);
-            case "image/webp" -> startsWith(fileBytes, WEBP_MAGIC);
+            case "image/jpeg" -> startsWith(header, JPEG_MAGIC);
+            case "image/png" -> startsWith(header, PNG_MAGIC);
+            case "image/gif" -> startsWith(header, GIF_MAGIC);
+            case "image/webp" -> startsWith(header, WEBP_MAGIC) && matchesAt(header, WEBP_FOURCC_OFFSET, WEBP_FOURCC);
             default -> false;
         };
     }
 
     private boolean startsWith(byte[] data, byte[] magic) {
-        if (data.length < magic.length) {
+        return matchesAt(data, 0, magic);
+    }
+
+    private boolean matchesAt(byte[] data, int offset, byte[] magic) {
+        if (data.length < offset + magic.length) {
             return false;
         }
-        return Arrays.equals(Arrays.copyOf(data, magic.length), magic);
+        return Arrays.equals(data, offset, offset + magic.length, magic, 0, magic.length);
+    }
+
+    /**
+     * Reads the first bytes of the upload for signature checks without loading the whole file.
+     *
+     * @param file the uploaded file
+     * @return up to {@code HEADER_LENGTH} bytes; fewer if the file is shorter
+     * @throws ValidationException if the file cannot be read
+     */
+    private byte[] readHeader(MultipartFile file) {
+        try (InputStream in = file.getInputStream()) {
+            return in.readNBytes(HEADER_LENGTH);
+        } catch (IOException e) {
+            log.error("Failed to read file header for validation", e);
+            throw new ValidationException(ErrorCode.FILE_UPLOAD_ERROR, String.format(FILE_READ_ERROR, e.getMessage()));
+        }
     }
 
     /**
@@ -161,17 +199,11 @@ public class FileValidationService {
      * @throws ValidationException if magic bytes do not match the content type
      */
     private void validateMagicBytes(MultipartFile file, String contentType) {
-        try {
-            byte[] fileBytes = file.getBytes();
-            if (!isValidImageMagicBytes(fileBytes, contentType)) {
-                throw new ValidationException(
-                    ErrorCode.INVALID_FILE_TYPE,
-                    FILE_CONTENT_MISMATCH
-                );
-            }
-        } catch (IOException e) {
-            log.error("Failed to read file bytes for validation", e);
-            throw new ValidationException(ErrorCode.FILE_UPLOAD_ERROR, String.format(FILE_READ_ERROR, e.getMessage()));
+        if (!isValidImageMagicBytes(readHeader(file), contentType)) {
+            throw new ValidationException(
+                ErrorCode.INVALID_FILE_TYPE,
+                FILE_CONTENT_MISMATCH
+            );
         }
     }
 }
@@ -0,0 +1,217 @@
+package com.caseyquinn.personal_website.service;
+
+import com.caseyquinn.personal_website.config.UploadProperties;
+import com.caseyquinn.personal_website.dto.request.CreateBlogPostImageRequest;
+import com.caseyquinn.personal_website.dto.request.CreateProjectImageRequest;
+import com.caseyquinn.personal_website.dto.response.CloudinaryUploadResult;
+import com.caseyquinn.personal_website.dto.response.UploadJobResponse;
+import com.caseyquinn.personal_website.entity.enums.UploadJobStatus;
+import com.caseyquinn.personal_website.entity.enums.UploadTarget;
+import com.caseyquinn.personal_website.exception.ErrorCode;
+import com.caseyquinn.personal_website.exception.NotFoundException;
+import com.caseyquinn.personal_website.exception.ServiceOverloadedException;
+import com.caseyquinn.personal_website.exception.business.ValidationException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import static com.caseyquinn.personal_website.exception.ErrorMessages.FILE_READ_ERROR;
+import static com.caseyquinn.personal_website.exception.ErrorMessages.UPLOAD_QUEUE_FULL;
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+/**
+ * Runs image uploads in the background so no request thread or database connection waits on Cloudinary.
+ *
+ * <p>A submission is validated, staged on local disk, and answered with a job ID straight away.
+ * A bounded worker pool then uploads the staged file with no transaction open and records the
+ * image in a short transaction of its own. If that fails, the uploaded asset is deleted again.
+ * Job state is kept in memory, like the staged files it refers to.</p>
+ */
+@Service
+@Slf4j
+public class ImageUploadJobService {
+
+    private static final String POOL_NAME = "image.upload.jobs";
+    private static final long SHUTDOWN_GRACE_SECONDS = 30;
+
+    private final ProjectImageService projectImageService;
+    private final BlogPostImageService blogPostImageService;
+    private final CloudinaryService cloudinaryService;
+    private final FileStagingService fileStagingService;
+    private final UploadProperties properties;
+    private final ExecutorService executor;
+    private final Map<UUID, UploadJobResponse> jobs = new ConcurrentHashMap<>();
+
+    public ImageUploadJobService(ProjectImageService projectImageService,
+                                 BlogPostImageService blogPostImageService,
+                                 CloudinaryService cloudinaryService,
+                                 FileStagingService fileStagingService,
+                                 UploadProperties properties,
+                                 MeterRegistry meterRegistry) {
+        this.projectImageService = projectImageService;
+        this.blogPostImageService = blogPostImageService;
+        this.cloudinaryService = cloudinaryService;
+        this.fileStagingService = fileStagingService;
+        this.properties = properties;
+
+        int threads = properties.getWorkerThreads();
+        ThreadPoolExecutor pool = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(properties.getQueueCapacity()),
+                new CustomizableThreadFactory("image-upload-"),
+                new ThreadPoolExecutor.AbortPolicy());
+        this.executor = ExecutorServiceMetrics.monitor(meterRegistry, pool, POOL_NAME);
+    }
+
+    /**
+     * Queues an image upload for a project.
+     *
+     * @param projectId the project ID
+     * @param file the image file to upload
+     * @param request the image creation request containing metadata
+     * @return the queued job
+     */
+    public UploadJobResponse submitProjectImage(Long projectId, MultipartFile file, CreateProjectImageRequest request) {
+        log.info("Service: Queueing image upload for projectId: {}", projectId);
+        String subFolder = projectImageService.validateUpload(projectId, file);
+        return submit(UploadTarget.PROJECT_IMAGE, projectId, file, subFolder,
+                uploadResult -> projectImageService.saveUploadedImage(projectId, request, uploadResult));
+    }
+
+    /**
+     * Queues an image upload for a blog post.
+     *
+     * @param postId the blog post ID
+     * @param file the image file to upload
+     * @param request the image creation request containing metadata
+     * @return the queued job
+     */
+    public UploadJobResponse submitBlogPostImage(Long postId, MultipartFile file, CreateBlogPostImageRequest request) {
+        log.info("Service: Queueing image upload for blog post id: {}", postId);
+        String subFolder = blogPostImageService.validateUpload(postId, file);
+        return submit(UploadTarget.BLOG_POST_IMAGE, postId, file, subFolder,
+                uploadResult -> blogPostImageService.saveUploadedImage(postId, request, uploadResult));
+    }
+
+    /**
+     * Returns the current state of an upload job.
+     *
+     * @param jobId the job ID
+     * @return the job
+     * @throws NotFoundException if the job is unknown or has expired
+     */
+    public UploadJobResponse getJob(UUID jobId) {
+        UploadJobResponse job = jobs.get(jobId);
+        if (isNull(job)) {
+            throw new NotFoundException("UploadJob", jobId);
+        }
+        return job;
+    }
+
+    /**
+     * Forgets finished jobs once their retention has passed.
+     */
+    @Scheduled(fixedDelayString = "${app.uploads.job-retention:1h}")
+    public void evictFinishedJobs() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(properties.getJobRetention());
+        jobs.values().removeIf(job -> isFinished(job.getStatus()) && job.getUpdatedAt().isBefore(cutoff));
+    }
+
+    /**
+     * Stops accepting jobs and gives running uploads a chance to finish.
+     */
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(SHUTDOWN_GRACE_SECONDS, TimeUnit.SECONDS)) {
+            log.warn("Upload jobs still running at shutdown were abandoned");
+            executor.shutdownNow();
+        }
+    }
+
+    private UploadJobResponse submit(UploadTarget target, Long targetId, MultipartFile file, String subFolder,
+                                     Function<CloudinaryUploadResult, Object> save) {
+        Path staged;
+        try {
+            staged = fileStagingService.stage(file);
+        } catch (IOException e) {
+            log.error("Failed to stage upload for {} {}", target, targetId, e);
+            throw new ValidationException(ErrorCode.FILE_UPLOAD_ERROR, String.format(FILE_READ_ERROR, e.getMessage()));
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        UploadJobResponse job = UploadJobResponse.builder()
+                .jobId(UUID.randomUUID())
+                .status(UploadJobStatus.QUEUED)
+                .target(target)
+                .targetId(targetId)
+                .createdAt(now)
+                .updatedAt(now)
+                .build();
+        jobs.put(job.getJobId(), job);
+
+        try {
+            executor.execute(() -> process(job.getJobId(), staged, subFolder, save));
+        } catch (RejectedExecutionException e) {
+            jobs.remove(job.getJobId());
+            fileStagingService.discard(staged);
+            throw new ServiceOverloadedException(UPLOAD_QUEUE_FULL);
+        }
+
+        log.info("Service: Upload job {} queued for {} {}", job.getJobId(), target, targetId);
+        return job;
+    }
+
+    private void process(UUID jobId, Path staged, String subFolder, Function<CloudinaryUploadResult, Object> save) {
+        CloudinaryUploadResult uploadResult = null;
+        try {
+            update(jobId, UploadJobStatus.UPLOADING, null, null);
+            uploadResult = cloudinaryService.uploadImage(staged, subFolder);
+
+            update(jobId, UploadJobStatus.SAVING, null, null);
+            Object saved = save.apply(uploadResult);
+
+            update(jobId, UploadJobStatus.SUCCEEDED, saved, null);
+            log.info("Service: Upload job {} succeeded", jobId);
+        } catch (RuntimeException e) {
+            log.error("Service: Upload job {} failed", jobId, e);
+            if (nonNull(uploadResult)) {
+                cloudinaryService.deleteImage(uploadResult.getPublicId());
+            }
+            update(jobId, UploadJobStatus.FAILED, null, e.getMessage());
+        } finally {
+            fileStagingService.discard(staged);
+        }
+    }
+
+    private void update(UUID jobId, UploadJobStatus status, Object result, String error) {
+        jobs.computeIfPresent(jobId, (id, job) -> job.toBuilder()
+                .status(status)
+                .result(result)
+                .error(error)
+                .updatedAt(LocalDateTime.now())
+                .build());
+    }
+
+    private static boolean isFinished(UploadJobStatus status) {
+        return status == UploadJobStatus.SUCCEEDED || status == UploadJobStatus.FAILED;
+    }
+}
@@ -0,0 +1,376 @@
+package com.caseyquinn.personal_website.service;
+
+import com.caseyquinn.personal_website.config.ImageProperties;
+import com.caseyquinn.personal_website.exception.ServiceOverloadedException;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static com.caseyquinn.personal_website.exception.ErrorMessages.IMAGE_PROCESSING_BUSY;
+import static java.util.Objects.isNull;
+
+/**
+ * Generates downscaled variants of an uploaded image for responsive {@code srcset}s, along with a
+ * tiny inline placeholder and the image's dominant color.
+ *
+ * <p>The staged file is decoded once with ImageIO and each configured width is produced from the
+ * next larger one, so most of the work is the first resize. The placeholder and color are then
+ * taken from the smallest of those images at negligible cost. Decoding holds the whole bitmap in
+ * memory, so it runs on a small bounded pool and oversized images are skipped. Formats ImageIO
+ * cannot read, such as WebP, get none of this and are served at their original size.</p>
+ */
+@Service
+@Slf4j
+public class ImageVariantService {
+
+    private static final String POOL_NAME = "image.variants";
+    private static final long SHUTDOWN_GRACE_SECONDS = 30;
+    private static final String FORMAT_JPEG = "jpeg";
+    private static final String FORMAT_PNG = "png";
+    private static final String EXTENSION_JPEG = "jpg";
+    private static final double PIXELS_PER_MEGAPIXEL = 1_000_000.0;
+    private static final String PLACEHOLDER_DATA_URI_PREFIX = "data:image/png;base64,";
+    private static final int COLOR_SAMPLE_SIZE = 64;
+    private static final int COLOR_BUCKET_SHIFT = 4;
+    private static final int OPAQUE_ALPHA_THRESHOLD = 128;
+
+    private final ImageProperties properties;
+    private final ExecutorService executor;
+    private final ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+    private final Timer processingTimer;
+    private final DistributionSummary cpuPerMegapixel;
+
+    public ImageVariantService(ImageProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+
+        int threads = properties.getProcessingThreads();
+        ThreadPoolExecutor pool = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(properties.getProcessingQueueCapacity()),
+                new CustomizableThreadFactory("image-variants-"),
+                new ThreadPoolExecutor.AbortPolicy());
+        this.executor = ExecutorServiceMetrics.monitor(meterRegistry, pool, POOL_NAME);
+
+        this.processingTimer = Timer.builder("image.variants.processing")
+                .description("Time to decode an image and write its variants")
+                .register(meterRegistry);
+        this.cpuPerMegapixel = DistributionSummary.builder("image.variants.cpu.per.megapixel")
+                .description("CPU time spent generating variants per megapixel of source image")
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Writes the configured variants of a staged image next to it and computes its placeholder and
+     * dominant color. Blocks until a processing thread has finished with the image.
+     *
+     * @param source the staged image
+     * @return the processing result, or {@link ProcessedImage#NONE} if the image cannot be decoded
+     * @throws ServiceOverloadedException if the processing queue is full
+     */
+    public ProcessedImage process(Path source) {
+        Future<ProcessedImage> result;
+        try {
+            result = executor.submit(() -> processingTimer.record(() -> processOnWorker(source)));
+        } catch (RejectedExecutionException e) {
+            throw new ServiceOverloadedException(IMAGE_PROCESSING_BUSY);
+        }
+
+        try {
+            return result.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            result.cancel(true);
+            return ProcessedImage.NONE;
+        } catch (ExecutionException e) {
+            log.warn("Failed to process {}, storing original only", source.getFileName(), e.getCause());
+            return ProcessedImage.NONE;
+        }
+    }
+
+    /**
+     * Deletes generated variant files. Best-effort; leftovers are removed with the staging directory.
+     *
+     * @param variants files returned by {@link #process(Path)}
+     */
+    public void discard(List<GeneratedVariant> variants) {
+        for (GeneratedVariant variant : variants) {
+            try {
+                Files.deleteIfExists(variant.file());
+            } catch (IOException e) {
+                log.warn("Failed to delete image variant {}: {}", variant.file(), e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Stops accepting images and lets queued ones finish.
+     */
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(SHUTDOWN_GRACE_SECONDS, TimeUnit.SECONDS)) {
+            executor.shutdownNow();
+        }
+    }
+
+    private ProcessedImage processOnWorker(Path source) {
+        long cpuStart = threadMXBean.getCurrentThreadCpuTime();
+        List<GeneratedVariant> written = new ArrayList<>();
+        try {
+            BufferedImage image = decode(source);
+            if (isNull(image)) {
+                return ProcessedImage.NONE;
+            }
+
+            boolean hasAlpha = image.getColorModel().hasAlpha();
+            String format = hasAlpha ? FORMAT_PNG : FORMAT_JPEG;
+            String extension = hasAlpha ? FORMAT_PNG : EXTENSION_JPEG;
+            String baseName = baseName(source);
+
+            BufferedImage current = image;
+            for (ImageProperties.Variant variant : variantsNarrowerThan(image.getWidth())) {
+                int height = Math.max(1, Math.round((float) image.getHeight() * variant.getWidth() / image.getWidth()));
+                current = scale(current, variant.getWidth(), height, hasAlpha);
+
+                Path target = source.resolveSibling(baseName + "-" + variant.getName() + "." + extension);
+                write(current, format, target);
+                written.add(new GeneratedVariant(variant.getName(), target, current.getWidth(), current.getHeight()));
+            }
+
+            BufferedImage colorSample = scaleToFit(current, COLOR_SAMPLE_SIZE, hasAlpha);
+            String dominantColor = dominantColor(colorSample);
+            String placeholder = placeholder(scaleToFit(colorSample, properties.getPlaceholderSize(), hasAlpha));
+
+            recordCpuCost(cpuStart, image);
+            log.info("Generated {} variant(s) and a {}-character placeholder for {} ({}x{})",
+                    written.size(), placeholder.length(), source.getFileName(), image.getWidth(), image.getHeight());
+            return new ProcessedImage(image.getWidth(), image.getHeight(), placeholder, dominantColor, written);
+        } catch (IOException e) {
+            log.warn("Failed to process {}, storing original only: {}", source.getFileName(), e.getMessage());
+            discard(written);
+            return ProcessedImage.NONE;
+        }
+    }
+
+    /**
+     * Decodes the first frame of an image, checking its dimensions from the header first.
+     *
+     * @return the decoded image, or null if the format is unsupported or the image is too large
+     */
+    private BufferedImage decode(Path source) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(source.toFile())) {
+            Iterator<ImageReader> readers = isNull(input) ? null : ImageIO.getImageReaders(input);
+            if (isNull(readers) || !readers.hasNext()) {
+                log.info("No ImageIO reader for {}, skipping variants", source.getFileName());
+                return null;
+            }
+
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                int width = reader.getWidth(0);
+                long pixels = (long) width * reader.getHeight(0);
+                if (pixels > properties.getMaxDecodePixels()) {
+                    log.warn("Image {} has {} pixels, above the decode limit; skipping variants",
+                            source.getFileName(), pixels);
+                    return null;
+                }
+                return reader.read(0);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    private List<ImageProperties.Variant> variantsNarrowerThan(int width) {
+        return properties.getVariants().stream()
+                .filter(variant -> variant.getWidth() < width)
+                .sorted(Comparator.comparingInt(ImageProperties.Variant::getWidth).reversed())
+                .toList();
+    }
+
+    /**
+     * Scales an image down by repeated halving and a final bilinear step, which keeps detail in
+     * screenshots without the cost of bicubic filtering at full size.
+     */
+    private static BufferedImage scale(BufferedImage source, int width, int height, boolean hasAlpha) {
+        int type = hasAlpha ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB;
+        BufferedImage current = source;
+        int currentWidth = source.getWidth();
+        int currentHeight = source.getHeight();
+        do {
+            currentWidth = Math.max(width, currentWidth / 2);
+            currentHeight = Math.max(height, currentHeight / 2);
+            current = draw(current, currentWidth, currentHeight, type);
+        } while (currentWidth != width || currentHeight != height);
+        return current;
+    }
+
+    /**
+     * Scales an image down so its longer edge is at most {@code maxEdge}; smaller images are returned as is.
+     */
+    private static BufferedImage scaleToFit(BufferedImage source, int maxEdge, boolean hasAlpha) {
+        int longEdge = Math.max(source.getWidth(), source.getHeight());
+        if (longEdge <= maxEdge) {
+            return source;
+        }
+        int width = Math.max(1, Math.round((float) source.getWidth() * maxEdge / longEdge));
+        int height = Math.max(1, Math.round((float) source.getHeight() * maxEdge / longEdge));
+        return scale(source, width, height, hasAlpha);
+    }
+
+    private static BufferedImage draw(BufferedImage source, int width, int height, int type) {
+        BufferedImage target = new BufferedImage(width, height, type);
+        Graphics2D graphics = target.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+        return target;
+    }
+
+    private void write(BufferedImage image, String format, Path target) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName(format).next();
+        try (ImageOutputStream output = ImageIO.createImageOutputStream(target.toFile())) {
+            writer.setOutput(output);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            if (FORMAT_JPEG.equals(format)) {
+                param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+                param.setCompressionQuality(properties.getVariantJpegQuality());
+            }
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+    }
+
+    /**
+     * Encodes a tiny image as a PNG data URI the frontend can use directly as a blurred placeholder.
+     */
+    private static String placeholder(BufferedImage tiny) throws IOException {
+        ByteArrayOutputStream png = new ByteArrayOutputStream();
+        ImageIO.write(tiny, FORMAT_PNG, png);
+        return PLACEHOLDER_DATA_URI_PREFIX + Base64.getEncoder().encodeToString(png.toByteArray());
+    }
+
+    /**
+     * Finds the most common color, quantised to 4 bits per channel, and returns the average of the
+     * pixels in that bucket. Mostly transparent pixels are ignored.
+     *
+     * @return the color as {@code #rrggbb}, or null if the image is fully transparent
+     */
+    private static String dominantColor(BufferedImage sample) {
+        int buckets = 1 << (3 * (8 - COLOR_BUCKET_SHIFT));
+        int[] counts = new int[buckets];
+        long[] sums = new long[buckets * 3];
+
+        for (int y = 0; y < sample.getHeight(); y++) {
+            for (int x = 0; x < sample.getWidth(); x++) {
+                int argb = sample.getRGB(x, y);
+                if ((argb >>> 24) < OPAQUE_ALPHA_THRESHOLD) {
+                    continue;
+                }
+                int red = (argb >> 16) & 0xFF;
+                int green = (argb >> 8) & 0xFF;
+                int blue = argb & 0xFF;
+                int bucket = (red >> COLOR_BUCKET_SHIFT) << 8
+                        | (green >> COLOR_BUCKET_SHIFT) << 4
+                        | (blue >> COLOR_BUCKET_SHIFT);
+                counts[bucket]++;
+                sums[bucket * 3] += red;
+                sums[bucket * 3 + 1] += green;
+                sums[bucket * 3 + 2] += blue;
+            }
+        }
+
+        int best = 0;
+        for (int bucket = 1; bucket < buckets; bucket++) {
+            if (counts[bucket] > counts[best]) {
+                best = bucket;
+            }
+        }
+        if (counts[best] == 0) {
+            return null;
+        }
+        return String.format("#%02x%02x%02x",
+                sums[best * 3] / counts[best], sums[best * 3 + 1] / counts[best], sums[best * 3 + 2] / counts[best]);
+    }
+
+    private void recordCpuCost(long cpuStart, BufferedImage image) {
+        if (cpuStart < 0) {
+            return;
+        }
+        double cpuMillis = (threadMXBean.getCurrentThreadCpuTime() - cpuStart) / 1_000_000.0;
+        double megapixels = (double) image.getWidth() * image.getHeight() / PIXELS_PER_MEGAPIXEL;
+        cpuPerMegapixel.record(cpuMillis / megapixels);
+    }
+
+    private static String baseName(Path source) {
+        String filename = source.getFileName().toString();
+        int extension = filename.lastIndexOf('.');
+        return extension > 0 ? filename.substring(0, extension) : filename;
+    }
+
+    /**
+     * Result of processing one image.
+     *
+     * @param width decoded width in pixels, or null if the image was not decoded
+     * @param height decoded height in pixels, or null if the image was not decoded
+     * @param placeholder PNG data URI of a tiny copy of the image
+     * @param dominantColor the most common color as {@code #rrggbb}
+     * @param variants the variant files written, widest first
+     */
+    public record ProcessedImage(Integer width, Integer height, String placeholder, String dominantColor,
+                                 List<GeneratedVariant> variants) {
+
+        public static final ProcessedImage NONE = new ProcessedImage(null, null, null, null, List.of());
+    }
+
+    /**
+     * A variant written to local disk.
+     *
+     * @param name the configured variant name
+     * @param file the written file
+     * @param width width in pixels
+     * @param height height in pixels
+     */
+    public record GeneratedVariant(String name, Path file, int width, int height) {
+    }
+}
@@ -0,0 +1,142 @@
+package com.caseyquinn.personal_website.service;
+
+import com.caseyquinn.personal_website.dao.MediaAssetDao;
+import com.caseyquinn.personal_website.dto.response.CloudinaryUploadResult;
+import com.caseyquinn.personal_website.entity.MediaAsset;
+import com.caseyquinn.personal_website.entity.enums.MediaResourceType;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+/**
+ * Reference-counted index of Cloudinary assets by content hash.
+ *
+ * <p>Each stored file has one row; every image or resume pointing at it holds a reference.
+ * Uploading content that is already stored takes another reference instead of uploading again,
+ * and deleting only removes the remote asset once the last reference is released. Every method
+ * commits on its own, so references stay correct when they are released to compensate for a
+ * caller's transaction that has already failed.</p>
+ */
+@Service
+@Slf4j
+public class MediaAssetService {
+
+    private final MediaAssetDao mediaAssetDao;
+    private final Counter imageHits;
+    private final Counter rawHits;
+
+    public MediaAssetService(MediaAssetDao mediaAssetDao, MeterRegistry meterRegistry) {
+        this.mediaAssetDao = mediaAssetDao;
+        this.imageHits = dedupCounter(meterRegistry, MediaResourceType.IMAGE);
+        this.rawHits = dedupCounter(meterRegistry, MediaResourceType.RAW);
+    }
+
+    /**
+     * Takes a reference on already stored content, if any.
+     *
+     * @param contentHash the SHA-256 hex digest of the content
+     * @param resourceType the resource type
+     * @return the stored asset as an upload result, or empty if the content must be uploaded
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public Optional<CloudinaryUploadResult> acquire(String contentHash, MediaResourceType resourceType) {
+        mediaAssetDao.lockContentHash(contentHash);
+        return mediaAssetDao.findByContentHashForUpdate(contentHash, resourceType).map(asset -> {
+            asset.setReferenceCount(asset.getReferenceCount() + 1);
+            (resourceType == MediaResourceType.IMAGE ? imageHits : rawHits).increment();
+            log.info("Service: Reusing {} asset {} ({} references)",
+                    resourceType, asset.getCloudinaryPublicId(), asset.getReferenceCount());
+            return toUploadResult(asset);
+        });
+    }
+
+    /**
+     * Records newly uploaded content with one reference. If the same content was registered by a
+     * concurrent upload in the meantime, a reference is taken on that asset instead and the caller
+     * should delete its own upload.
+     *
+     * @param contentHash the SHA-256 hex digest of the content
+     * @param resourceType the resource type
+     * @param uploaded the result of the upload
+     * @return the asset to use, which has a different public ID than {@code uploaded} if the upload lost the race
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public CloudinaryUploadResult register(String contentHash, MediaResourceType resourceType,
+                                           CloudinaryUploadResult uploaded) {
+        Optional<CloudinaryUploadResult> existing = acquire(contentHash, resourceType);
+        if (existing.isPresent()) {
+            log.info("Service: Upload {} duplicates {}", uploaded.getPublicId(), existing.get().getPublicId());
+            return existing.get();
+        }
+
+        mediaAssetDao.save(MediaAsset.builder()
+                .contentHash(contentHash)
+                .resourceType(resourceType)
+                .cloudinaryPublicId(uploaded.getPublicId())
+                .url(uploaded.getSecureUrl())
+                .format(uploaded.getFormat())
+                .bytes(uploaded.getBytes())
+                .width(uploaded.getWidth())
+                .height(uploaded.getHeight())
+                .variants(uploaded.getVariants())
+                .placeholder(uploaded.getPlaceholder())
+                .dominantColor(uploaded.getDominantColor())
+                .build());
+        uploaded.setContentHash(contentHash);
+        return uploaded;
+    }
+
+    /**
+     * Releases one reference to an asset.
+     *
+     * @param cloudinaryPublicId the Cloudinary public ID
+     * @return true if that was the last reference, or the asset predates tracking, and the remote asset should be deleted
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public boolean release(String cloudinaryPublicId) {
+        Optional<MediaAsset> tracked = mediaAssetDao.findByPublicIdForUpdate(cloudinaryPublicId);
+        if (tracked.isEmpty()) {
+            return true;
+        }
+
+        MediaAsset asset = tracked.get();
+        int remaining = asset.getReferenceCount() - 1;
+        if (remaining > 0) {
+            asset.setReferenceCount(remaining);
+            log.info("Service: Released asset {} ({} references left)", cloudinaryPublicId, remaining);
+            return false;
+        }
+
+        mediaAssetDao.delete(asset);
+        log.info("Service: Released last reference to asset {}", cloudinaryPublicId);
+        return true;
+    }
+
+    private static CloudinaryUploadResult toUploadResult(MediaAsset asset) {
+        return CloudinaryUploadResult.builder()
+                .url(asset.getUrl())
+                .secureUrl(asset.getUrl())
+                .publicId(asset.getCloudinaryPublicId())
+                .format(asset.getFormat())
+                .bytes(asset.getBytes())
+                .width(asset.getWidth())
+                .height(asset.getHeight())
+                .variants(asset.getVariants())
+                .placeholder(asset.getPlaceholder())
+                .dominantColor(asset.getDominantColor())
+                .contentHash(asset.getContentHash())
+                .build();
+    }
+
+    private static Counter dedupCounter(MeterRegistry meterRegistry, MediaResourceType resourceType) {
+        return Counter.builder("media.assets.deduplicated")
+                .description("Uploads linked to already stored content instead of uploading again")
+                .tag("type", resourceType.name().toLowerCase())
+                .register(meterRegistry);
+    }
+}
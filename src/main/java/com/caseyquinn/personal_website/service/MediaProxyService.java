@@ -0,0 +1,324 @@
+package com.caseyquinn.personal_website.service;
+
+import com.caseyquinn.personal_website.config.MediaProxyProperties;
+import com.caseyquinn.personal_website.exception.ErrorCode;
+import com.caseyquinn.personal_website.exception.MediaOriginException;
+import com.caseyquinn.personal_website.exception.NotFoundException;
+import com.caseyquinn.personal_website.exception.ServiceOverloadedException;
+import com.caseyquinn.personal_website.util.DiskLruCache;
+import com.caseyquinn.personal_website.util.FileResponseWriter;
+import com.caseyquinn.personal_website.util.HashUtils;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.util.FileSystemUtils;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.regex.Pattern;
+
+import static com.caseyquinn.personal_website.exception.ErrorMessages.MEDIA_NOT_FOUND;
+import static com.caseyquinn.personal_website.exception.ErrorMessages.MEDIA_ORIGIN_FAILED_FORMAT;
+import static com.caseyquinn.personal_website.exception.ErrorMessages.MEDIA_ORIGIN_UNREACHABLE;
+import static com.caseyquinn.personal_website.exception.ErrorMessages.MEDIA_PROXY_BUSY;
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+import static org.apache.commons.lang3.StringUtils.isBlank;
+
+/**
+ * Caching proxy for Cloudinary assets, so the site can serve its images and files from its own
+ * origin.
+ *
+ * <p>Assets are kept in a size-bounded {@link DiskLruCache} keyed by their path below the
+ * Cloudinary delivery URL, and served from disk through {@link FileResponseWriter}. Concurrent
+ * misses for the same asset share one origin fetch, and origin fetches across all assets are
+ * capped. Assets larger than {@code maxEntrySize} are not cached; requests for them are
+ * redirected to the origin. Only paths inside the site's Cloudinary folder are proxied.</p>
+ */
+@Service
+@ConditionalOnProperty(prefix = "app.media-proxy", name = "enabled", havingValue = "true")
+@Slf4j
+public class MediaProxyService {
+
+    private static final String CACHE_FILE_PREFIX = "media-";
+    private static final Duration RETIRED_FILE_GRACE = Duration.ofMinutes(1);
+    private static final Pattern ALLOWED_PATH = Pattern.compile("[A-Za-z0-9._,:@/-]+");
+    private static final Pattern VERSION_SEGMENT = Pattern.compile("(^|/)v\\d+/");
+
+    private final MediaProxyProperties properties;
+    private final String folder;
+    private final HttpClient httpClient;
+    private final DiskLruCache<String, CachedAsset> assets;
+    private final ConcurrentMap<String, CompletableFuture<Optional<CachedAsset>>> inFlight = new ConcurrentHashMap<>();
+    private final Semaphore fetchPermits;
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter coalesced;
+    private final Counter bypassed;
+
+    public MediaProxyService(MediaProxyProperties properties,
+                             @Value("${cloudinary.folder}") String folder,
+                             MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.folder = folder;
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(properties.getFetchTimeout())
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .build();
+        this.assets = new DiskLruCache<>(properties.getMaxCacheSize().toBytes(), RETIRED_FILE_GRACE);
+        this.fetchPermits = new Semaphore(Math.max(1, properties.getMaxConcurrentFetches()));
+        this.hits = requestCounter(meterRegistry, "hit");
+        this.misses = requestCounter(meterRegistry, "miss");
+        this.coalesced = requestCounter(meterRegistry, "coalesced");
+        this.bypassed = requestCounter(meterRegistry, "bypass");
+        Gauge.builder("media.proxy.cache.bytes", assets, DiskLruCache::bytes)
+                .description("Total size of media files cached on local disk")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Checks the configuration, then creates the cache directory and removes files left by a
+     * previous run, which are not indexed.
+     */
+    @PostConstruct
+    void init() throws IOException {
+        if (isBlank(properties.getOrigin())) {
+            throw new IllegalStateException("app.media-proxy.origin must be set when the media proxy is enabled");
+        }
+        Path directory = properties.getCacheDirectory();
+        FileSystemUtils.deleteRecursively(directory);
+        Files.createDirectories(directory);
+    }
+
+    /**
+     * Writes an asset from the cache, fetching it on a miss, or a redirect to the origin if it is
+     * too large to cache.
+     *
+     * @param path the asset path below the origin, e.g. {@code image/upload/v123/folder/id.jpg}
+     * @param request the HTTP request
+     * @param response the HTTP response
+     * @throws IOException if writing to the response fails
+     */
+    public void deliver(String path, HttpServletRequest request, HttpServletResponse response) throws IOException {
+        if (!isAllowed(path)) {
+            throw new NotFoundException(ErrorCode.NOT_FOUND, MEDIA_NOT_FOUND);
+        }
+
+        Optional<CachedAsset> asset = assets.get(path);
+        if (asset.isPresent()) {
+            hits.increment();
+        } else {
+            asset = fetchOnce(path);
+        }
+
+        if (asset.isEmpty()) {
+            bypassed.increment();
+            response.setStatus(HttpStatus.FOUND.value());
+            response.setHeader(HttpHeaders.LOCATION, originUrl(path));
+            return;
+        }
+        CachedAsset cached = asset.get();
+        FileResponseWriter.write(request, response, new FileResponseWriter.ServedFile(cached.path(), cached.size(),
+                cached.contentHash(), cached.contentType(), cacheControl(path), null));
+    }
+
+    /**
+     * Deletes files dropped from the cache once no response can still be about to open them.
+     */
+    @Scheduled(fixedDelayString = "1m")
+    public void deleteRetiredFiles() {
+        assets.deleteRetiredFiles();
+    }
+
+    /**
+     * Fetches an asset into the cache, or waits for the fetch another request has already started.
+     */
+    private Optional<CachedAsset> fetchOnce(String path) {
+        CompletableFuture<Optional<CachedAsset>> future = new CompletableFuture<>();
+        CompletableFuture<Optional<CachedAsset>> existing = inFlight.putIfAbsent(path, future);
+        if (nonNull(existing)) {
+            coalesced.increment();
+            return await(existing);
+        }
+
+        try {
+            // Another request may have cached it between our lookup and claiming the fetch
+            Optional<CachedAsset> cached = assets.get(path);
+            if (cached.isEmpty()) {
+                misses.increment();
+                cached = fetch(path);
+            }
+            future.complete(cached);
+            return cached;
+        } catch (RuntimeException e) {
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(path, future);
+        }
+    }
+
+    /**
+     * Waits for another request's fetch. The leader may wait up to the fetch timeout for a permit
+     * and then as long again for the origin, so followers allow for both.
+     */
+    private Optional<CachedAsset> await(CompletableFuture<Optional<CachedAsset>> future) {
+        try {
+            return future.get(properties.getFetchTimeout().multipliedBy(2).toMillis(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new MediaOriginException(MEDIA_ORIGIN_UNREACHABLE, e.getCause());
+        } catch (TimeoutException e) {
+            throw new ServiceOverloadedException(MEDIA_PROXY_BUSY);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ServiceOverloadedException(MEDIA_PROXY_BUSY);
+        }
+    }
+
+    /**
+     * Downloads an asset into the cache.
+     *
+     * @return the cached asset, or empty if it is too large to cache
+     */
+    private Optional<CachedAsset> fetch(String path) {
+        try {
+            if (!fetchPermits.tryAcquire(properties.getFetchTimeout().toMillis(), TimeUnit.MILLISECONDS)) {
+                throw new ServiceOverloadedException(MEDIA_PROXY_BUSY);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ServiceOverloadedException(MEDIA_PROXY_BUSY);
+        }
+
+        Path download = null;
+        try {
+            download = Files.createTempFile(properties.getCacheDirectory(), CACHE_FILE_PREFIX, null);
+            HttpRequest request = HttpRequest.newBuilder(URI.create(originUrl(path)))
+                    .timeout(properties.getFetchTimeout())
+                    .GET()
+                    .build();
+            HttpResponse<Path> response = httpClient.send(request, sizeLimited(download));
+            if (response.statusCode() == HttpStatus.NOT_FOUND.value()) {
+                throw new NotFoundException(ErrorCode.NOT_FOUND, MEDIA_NOT_FOUND);
+            }
+            if (response.statusCode() != HttpStatus.OK.value()) {
+                throw new MediaOriginException(String.format(MEDIA_ORIGIN_FAILED_FORMAT, response.statusCode()));
+            }
+
+            long size = Files.size(download);
+            if (isNull(response.body()) || size > properties.getMaxEntrySize().toBytes()) {
+                log.info("Not caching {}: larger than {}", path, properties.getMaxEntrySize());
+                return Optional.empty();
+            }
+
+            String contentType = response.headers().firstValue(HttpHeaders.CONTENT_TYPE)
+                    .orElse(MediaType.APPLICATION_OCTET_STREAM_VALUE);
+            CachedAsset asset = new CachedAsset(download, size, HashUtils.sha256Hex(download), contentType);
+            assets.put(path, asset);
+            download = null;
+            log.debug("Cached media {} ({} bytes)", path, size);
+            return Optional.of(asset);
+        } catch (IOException e) {
+            log.warn("Failed to fetch media {} from origin: {}", path, e.getMessage());
+            throw new MediaOriginException(MEDIA_ORIGIN_UNREACHABLE, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new MediaOriginException(MEDIA_ORIGIN_UNREACHABLE, e);
+        } finally {
+            fetchPermits.release();
+            if (nonNull(download)) {
+                DiskLruCache.deleteQuietly(download);
+            }
+        }
+    }
+
+    /**
+     * Writes successful responses to the file, but skips the body of error responses and of
+     * responses whose declared length is over the entry limit, leaving a null body.
+     */
+    private HttpResponse.BodyHandler<Path> sizeLimited(Path download) {
+        long maxEntryBytes = properties.getMaxEntrySize().toBytes();
+        return responseInfo -> {
+            long contentLength = responseInfo.headers().firstValueAsLong(HttpHeaders.CONTENT_LENGTH).orElse(-1);
+            if (responseInfo.statusCode() != HttpStatus.OK.value() || contentLength > maxEntryBytes) {
+                return HttpResponse.BodySubscribers.replacing(null);
+            }
+            return HttpResponse.BodySubscribers.ofFile(download);
+        };
+    }
+
+    /**
+     * Accepts only plain paths under an allowed prefix and inside the site's Cloudinary folder.
+     */
+    private boolean isAllowed(String path) {
+        return !isBlank(path)
+                && ALLOWED_PATH.matcher(path).matches()
+                && !path.contains("..")
+                && !path.contains("//")
+                && path.contains("/" + folder + "/")
+                && properties.getAllowedPrefixes().stream().anyMatch(path::startsWith);
+    }
+
+    /**
+     * Versioned Cloudinary URLs never change content, so browsers may keep them indefinitely.
+     */
+    private CacheControl cacheControl(String path) {
+        if (VERSION_SEGMENT.matcher(path).find()) {
+            return CacheControl.maxAge(properties.getVersionedMaxAge()).cachePublic().immutable();
+        }
+        return CacheControl.maxAge(properties.getUnversionedMaxAge()).cachePublic();
+    }
+
+    private String originUrl(String path) {
+        return properties.getOrigin() + "/" + path;
+    }
+
+    private static Counter requestCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("media.proxy.requests")
+                .description("Media proxy requests by cache result")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    /**
+     * A media file cached on local disk.
+     *
+     * @param path the file
+     * @param size the file size in bytes
+     * @param contentHash the SHA-256 hex digest of the file
+     * @param contentType the content type reported by the origin
+     */
+    public record CachedAsset(Path path, long size, String contentHash, String contentType)
+            implements DiskLruCache.Entry {
+    }
+}
@@ -8,7 +8,7 @@ import org.jasypt.encryption.StringEncryptor;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.env.Environment;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
@@ -25,18 +25,22 @@ public class OperationsService {
 
     private final StringEncryptor stringEncryptor;
     private final Environment environment;
+    private final PasswordEncoder passwordEncoder;
 
     /**
      * Constructs the OperationsService with required dependencies.
      *
      * @param stringEncryptor the Jasypt string encryptor
      * @param environment the Spring environment
+     * @param passwordEncoder the bounded BCrypt password encoder
      */
     public OperationsService(
             @Qualifier("jasyptStringEncryptor") StringEncryptor stringEncryptor,
-            Environment environment) {
+            Environment environment,
+            PasswordEncoder passwordEncoder) {
         this.stringEncryptor = stringEncryptor;
         this.environment = environment;
+        this.passwordEncoder = passwordEncoder;
     }
 
     @Value("${spring.application.name}")
@@ -104,8 +108,7 @@ public class OperationsService {
     public EncryptionResponse hashPassword(String password) {
         requireNonProductionProfile();
         log.info("Generating BCrypt hash for password");
-        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder();
-        String hash = encoder.encode(password);
+        String hash = passwordEncoder.encode(password);
         return EncryptionResponse.builder()
                 .text(hash)
                 .build();
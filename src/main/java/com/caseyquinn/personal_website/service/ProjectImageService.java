@@ -19,10 +19,12 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import static com.caseyquinn.personal_website.constants.CacheConstants.CACHE_PROJECTS;
 import static com.caseyquinn.personal_website.exception.ErrorMessages.*;
+import static java.util.Objects.isNull;
 import static org.apache.commons.lang3.BooleanUtils.isNotTrue;
 import static org.apache.commons.lang3.BooleanUtils.isTrue;
 
@@ -67,6 +69,102 @@ public class ProjectImageService {
         return saveImageWithCompensation(image, uploadResult.getPublicId(), projectId);
     }
 
+    /**
+     * Checks an image upload before it is queued: the project exists, the file is a valid image,
+     * and the project has room for another image.
+     *
+     * @param projectId the project ID
+     * @param file the image file to upload
+     * @return the Cloudinary subfolder for the project's images
+     */
+    public String validateUpload(Long projectId, MultipartFile file) {
+        log.info("Validating image upload for projectId: {}", projectId);
+
+        Project project = projectDao.findByIdOrThrow(projectId);
+        fileValidationService.validateImageFile(file);
+        validateImageCount(projectId);
+        return project.getSlug();
+    }
+
+    /**
+     * Checks a batch upload up front: the project exists, every file is a valid image,
+     * and the project has room for all of them.
+     *
+     * @param projectId the project ID
+     * @param files the image files to upload
+     * @return the Cloudinary subfolder for the project's images
+     */
+    public String validateBatchUpload(Long projectId, List<MultipartFile> files) {
+        log.info("Validating batch of {} image(s) for projectId: {}", files.size(), projectId);
+
+        Project project = projectDao.findByIdOrThrow(projectId);
+        fileValidationService.validateImageFiles(files);
+        validateImageCount(projectId, files.size());
+        return project.getSlug();
+    }
+
+    /**
+     * Records a batch of images already uploaded to Cloudinary in one transaction, evicting the
+     * project cache once. Metadata applies to every image; display order increases from the
+     * requested value and only the first image can become primary. The caller deletes the
+     * Cloudinary assets if this fails.
+     *
+     * @param projectId the project ID
+     * @param request the metadata shared by the images
+     * @param uploadResults the Cloudinary upload results in display order
+     * @return the saved image responses
+     */
+    @CacheEvict(value = CACHE_PROJECTS, allEntries = true)
+    @Transactional
+    public List<ProjectImageResponse> saveUploadedImages(Long projectId, CreateProjectImageRequest request,
+                                                         List<CloudinaryUploadResult> uploadResults) {
+        log.info("Saving {} uploaded image(s) for projectId: {}", uploadResults.size(), projectId);
+
+        Project project = projectDao.findByIdOrThrow(projectId);
+        validateImageCount(projectId, uploadResults.size());
+        handlePrimaryImageFlag(projectId, request.getIsPrimary());
+
+        int displayOrder = isNull(request.getDisplayOrder()) ? 0 : request.getDisplayOrder();
+        List<ProjectImage> images = new ArrayList<>(uploadResults.size());
+        for (int i = 0; i < uploadResults.size(); i++) {
+            ProjectImage image = buildProjectImage(request, project, uploadResults.get(i));
+            image.setDisplayOrder(displayOrder + i);
+            image.setIsPrimary(i == 0 && isTrue(request.getIsPrimary()));
+            images.add(image);
+        }
+
+        List<ProjectImage> savedImages = projectImageDao.saveAll(images);
+        log.info("Saved {} images for projectId: {}", savedImages.size(), projectId);
+        return projectImageMapper.toResponseList(savedImages);
+    }
+
+    /**
+     * Records an image that an upload job has already sent to Cloudinary. Runs in its own short
+     * transaction; the caller deletes the Cloudinary asset if this fails.
+     *
+     * @param projectId the project ID
+     * @param request the image creation request containing metadata
+     * @param uploadResult the Cloudinary upload result
+     * @return the saved image response
+     */
+    @CacheEvict(value = CACHE_PROJECTS, allEntries = true)
+    @Transactional
+    public ProjectImageResponse saveUploadedImage(Long projectId, CreateProjectImageRequest request,
+                                                  CloudinaryUploadResult uploadResult) {
+        log.info("Saving uploaded image for projectId: {}", projectId);
+
+        Project project = projectDao.findByIdOrThrow(projectId);
+        // Re-checked because other uploads may have completed while this one was in flight
+        validateImageCount(projectId);
+
+        ProjectImage image = buildProjectImage(request, project, uploadResult);
+        handlePrimaryImageFlag(projectId, request.getIsPrimary());
+
+        ProjectImage savedImage = projectImageDao.save(image);
+        log.info("Image saved successfully: imageId={}, projectId={}", savedImage.getId(), projectId);
+        return projectImageMapper.toResponse(savedImage);
+    }
+
     /**
      * Retrieves all images for a specific project.
      *
@@ -179,13 +277,25 @@ public class ProjectImageService {
      * @throws ValidationException if the maximum image count is exceeded
      */
     private void validateImageCount(Long projectId) {
+        validateImageCount(projectId, 1);
+    }
+
+    /**
+     * Validates that adding images keeps the project within the maximum allowed.
+     *
+     * @param projectId the project ID to check
+     * @param adding the number of images about to be added
+     * @throws ValidationException if the maximum image count would be exceeded
+     */
+    private void validateImageCount(Long projectId, int adding) {
         long imageCount = projectImageDao.countByProjectId(projectId);
-        if (imageCount >= imageProperties.getMaxPerProject()) {
-            throw new ValidationException(
-                ErrorCode.MAX_IMAGES_EXCEEDED,
-                String.format(MAX_IMAGES_EXCEEDED_FORMAT, imageProperties.getMaxPerProject())
-            );
+        if (imageCount + adding <= imageProperties.getMaxPerProject()) {
+            return;
         }
+        String message = adding == 1
+            ? String.format(MAX_IMAGES_EXCEEDED_FORMAT, imageProperties.getMaxPerProject())
+            : String.format(BATCH_IMAGES_EXCEEDED_FORMAT, adding, imageProperties.getMaxPerProject());
+        throw new ValidationException(ErrorCode.MAX_IMAGES_EXCEEDED, message);
     }
 
     /**
@@ -236,6 +346,11 @@ public class ProjectImageService {
         image.setProject(project);
         image.setUrl(uploadResult.getSecureUrl());
         image.setCloudinaryPublicId(uploadResult.getPublicId());
+        image.setWidth(uploadResult.getWidth());
+        image.setHeight(uploadResult.getHeight());
+        image.setVariants(uploadResult.getVariants());
+        image.setPlaceholder(uploadResult.getPlaceholder());
+        image.setDominantColor(uploadResult.getDominantColor());
         return image;
     }
 
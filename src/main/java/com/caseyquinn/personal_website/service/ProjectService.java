@@ -16,6 +16,8 @@ import com.caseyquinn.personal_website.mapper.ProjectLinkMapper;
 import com.caseyquinn.personal_website.entity.enums.ProjectType;
 import com.caseyquinn.personal_website.entity.enums.ProjectStatus;
 import com.caseyquinn.personal_website.entity.enums.DifficultyLevel;
+import com.caseyquinn.personal_website.entity.enums.ViewTargetType;
+import com.caseyquinn.personal_website.event.ContentViewedEvent;
 import com.caseyquinn.personal_website.exception.ErrorCode;
 import com.caseyquinn.personal_website.exception.NotFoundException;
 import com.caseyquinn.personal_website.exception.business.DuplicateResourceException;
@@ -26,6 +28,8 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -58,6 +62,9 @@ public class ProjectService {
     private final ProjectMapper projectMapper;
     private final ProjectImageMapper projectImageMapper;
     private final ProjectLinkMapper projectLinkMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ViewDeduplicator viewDeduplicator;
+    private final ViewCountBuffer viewCountBuffer;
 
     @Value("${app.projects.max-count}")
     private int maxProjectCount;
@@ -154,7 +161,10 @@ public class ProjectService {
      *
      * @param id the project ID
      */
-    @CacheEvict(value = CACHE_PROJECTS, allEntries = true)
+    @Caching(evict = {
+            @CacheEvict(value = CACHE_PROJECTS, allEntries = true),
+            @CacheEvict(value = CACHE_TRENDING, allEntries = true)
+    })
     @Transactional
     public void deleteProject(Long id) {
         log.info("Service: Deleting project with id: {}", id);
@@ -346,14 +356,26 @@ public class ProjectService {
     }
 
     /**
-     * Increments the view count for a project.
+     * Records a view for a project by publishing a {@link ContentViewedEvent}.
+     * Repeat views by the same visitor within the dedup window are ignored.
+     * The increment is buffered and written to the database in the background.
+     * Unknown IDs are rejected first, against the IDs held by {@link ViewCountBuffer} rather than
+     * the database, so the public endpoint cannot create visitor sketches and rollup entries for
+     * projects that do not exist.
      *
      * @param id the project ID
+     * @param visitorId anonymous visitor fingerprint, may be null
+     * @throws NotFoundException if no project has the given ID
      */
-    @Transactional
-    public void incrementProjectViewCount(Long id) {
-        log.info("Service: Incrementing view count for project: {}", id);
-        projectDao.incrementViewCount(id);
+    public void incrementProjectViewCount(Long id, String visitorId) {
+        if (!viewCountBuffer.isKnownProject(id)) {
+            throw new NotFoundException("Project", id);
+        }
+        if (!viewDeduplicator.isFirstView(ViewTargetType.PROJECT, id, visitorId)) {
+            return;
+        }
+        log.debug("Service: Recording view for project: {}", id);
+        eventPublisher.publishEvent(new ContentViewedEvent(ViewTargetType.PROJECT, id, visitorId));
     }
 
     /**
@@ -0,0 +1,130 @@
+package com.caseyquinn.personal_website.service;
+
+import com.caseyquinn.personal_website.dao.RefreshTokenDao;
+import com.caseyquinn.personal_website.entity.RefreshToken;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.UUID;
+
+import static com.caseyquinn.personal_website.exception.ErrorMessages.INVALID_REFRESH_TOKEN;
+import static com.caseyquinn.personal_website.util.HashUtils.sha256Hex;
+
+/**
+ * Issues and rotates opaque refresh tokens.
+ *
+ * <p>Tokens are random values returned to the client once; only their SHA-256 hash is stored.
+ * Each exchange consumes the presented token and issues a new one in the same family, in one
+ * transaction. Rotated tokens inherit the family's expiry, so a login lasts at most the refresh
+ * expiration however often it is refreshed. Presenting a token that was already consumed means it
+ * was copied, so the whole family is revoked and the user must log in again.</p>
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class RefreshTokenService {
+
+    private static final int TOKEN_BYTES = 32;
+
+    private final RefreshTokenDao refreshTokenDao;
+    private final SecureRandom secureRandom = new SecureRandom();
+
+    @Value("${jwt.refresh-expiration}")
+    private long refreshExpiration;
+
+    /**
+     * Starts a new token family for a fresh login.
+     *
+     * @param userId the authenticated user's ID
+     * @return the raw refresh token to return to the client
+     */
+    public String issue(Long userId) {
+        log.info("Service: Issuing refresh token for user ID: {}", userId);
+        return issue(userId, UUID.randomUUID(), LocalDateTime.now().plus(Duration.ofMillis(refreshExpiration)));
+    }
+
+    /**
+     * Exchanges a refresh token for a new one in the same family, expiring with the family.
+     * Consuming the old token and saving the new one commit together; revoking a reused family
+     * commits even though the exchange is rejected.
+     *
+     * @param rawToken the refresh token presented by the client
+     * @return the rotated token, its remaining lifetime and the user it belongs to
+     * @throws BadCredentialsException if the token is unknown, expired, or being reused
+     */
+    @Transactional(noRollbackFor = BadCredentialsException.class)
+    public Rotation rotate(String rawToken) {
+        LocalDateTime now = LocalDateTime.now();
+        RefreshToken current = refreshTokenDao.findByTokenHash(sha256Hex(rawToken))
+                .orElseThrow(() -> new BadCredentialsException(INVALID_REFRESH_TOKEN));
+
+        if (current.isExpiredAt(now)) {
+            throw new BadCredentialsException(INVALID_REFRESH_TOKEN);
+        }
+
+        if (current.isConsumed() || !refreshTokenDao.markConsumed(current.getId(), now)) {
+            log.warn("Service: Refresh token reuse detected for user ID: {}; revoking family {}",
+                    current.getUserId(), current.getFamilyId());
+            refreshTokenDao.deleteFamily(current.getFamilyId());
+            throw new BadCredentialsException(INVALID_REFRESH_TOKEN);
+        }
+
+        log.info("Service: Rotating refresh token for user ID: {}", current.getUserId());
+        String rotated = issue(current.getUserId(), current.getFamilyId(), current.getExpiresAt());
+        return new Rotation(current.getUserId(), rotated, Duration.between(now, current.getExpiresAt()).toMillis());
+    }
+
+    /**
+     * @return refresh token lifetime in milliseconds
+     */
+    public long getRefreshExpiration() {
+        return refreshExpiration;
+    }
+
+    /**
+     * Deletes expired tokens once a day so the table only holds live families.
+     */
+    @Scheduled(cron = "0 30 3 * * *")
+    public void purgeExpired() {
+        try {
+            int deleted = refreshTokenDao.deleteExpiredBefore(LocalDateTime.now());
+            log.info("Purged {} expired refresh token(s)", deleted);
+        } catch (DataAccessException e) {
+            log.warn("Failed to purge expired refresh tokens; will retry next run: {}", e.getMessage());
+        }
+    }
+
+    private String issue(Long userId, UUID familyId, LocalDateTime expiresAt) {
+        byte[] bytes = new byte[TOKEN_BYTES];
+        secureRandom.nextBytes(bytes);
+        String rawToken = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+
+        refreshTokenDao.save(RefreshToken.builder()
+                .tokenHash(sha256Hex(rawToken))
+                .familyId(familyId)
+                .userId(userId)
+                .expiresAt(expiresAt)
+                .build());
+        return rawToken;
+    }
+
+    /**
+     * Result of a successful refresh token exchange.
+     *
+     * @param userId the token owner's ID
+     * @param refreshToken the new raw refresh token
+     * @param refreshExpiresIn milliseconds until the token's family expires
+     */
+    public record Rotation(Long userId, String refreshToken, long refreshExpiresIn) {
+    }
+}
@@ -0,0 +1,89 @@
+package com.caseyquinn.personal_website.service;
+
+import com.caseyquinn.personal_website.config.ResumeDeliveryProperties;
+import com.caseyquinn.personal_website.util.FileResponseWriter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+
+/**
+ * Delivers the active resume to visitors.
+ *
+ * <p>In local mode a verified copy from {@link ResumeFileCache} is served directly through
+ * {@link FileResponseWriter}, with its SHA-256 as a strong ETag so conditional and single-range
+ * requests work. Until the file is cached, and always in redirect mode, visitors are redirected
+ * to Cloudinary.</p>
+ */
+@Service
+@Slf4j
+public class ResumeDeliveryService {
+
+    private final ResumeService resumeService;
+    private final ResumeFileCache resumeFileCache;
+    private final ResumeDeliveryProperties properties;
+    private final Counter localDownloads;
+    private final Counter redirectedDownloads;
+
+    public ResumeDeliveryService(ResumeService resumeService,
+                                 ResumeFileCache resumeFileCache,
+                                 ResumeDeliveryProperties properties,
+                                 MeterRegistry meterRegistry) {
+        this.resumeService = resumeService;
+        this.resumeFileCache = resumeFileCache;
+        this.properties = properties;
+        this.localDownloads = downloadCounter(meterRegistry, "local");
+        this.redirectedDownloads = downloadCounter(meterRegistry, "redirect");
+    }
+
+    /**
+     * Writes the active resume, or a redirect to it, to the response.
+     *
+     * @param request the HTTP request
+     * @param response the HTTP response
+     * @throws IOException if writing to the response fails
+     */
+    public void deliver(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        String fileUrl = resumeService.getResumeDownloadUrl();
+        if (properties.getMode() == ResumeDeliveryProperties.Mode.LOCAL) {
+            Optional<ResumeFileCache.CachedFile> cached = resumeFileCache.find(fileUrl);
+            if (cached.isPresent()) {
+                localDownloads.increment();
+                serve(cached.get(), request, response);
+                return;
+            }
+            resumeFileCache.prefetch(fileUrl);
+        }
+        redirectedDownloads.increment();
+        response.setStatus(HttpStatus.FOUND.value());
+        response.setHeader(HttpHeaders.LOCATION, fileUrl);
+    }
+
+    private void serve(ResumeFileCache.CachedFile file, HttpServletRequest request,
+                       HttpServletResponse response) throws IOException {
+        String contentDisposition = ContentDisposition.inline()
+                .filename(file.fileName(), StandardCharsets.UTF_8)
+                .build()
+                .toString();
+        FileResponseWriter.write(request, response, new FileResponseWriter.ServedFile(file.path(), file.size(),
+                file.contentHash(), file.contentType(), CacheControl.maxAge(properties.getMaxAge()).cachePublic(),
+                contentDisposition));
+    }
+
+    private static Counter downloadCounter(MeterRegistry meterRegistry, String source) {
+        return Counter.builder("resume.downloads")
+                .description("Resume downloads by how they were delivered")
+                .tag("source", source)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,211 @@
+package com.caseyquinn.personal_website.service;
+
+import com.caseyquinn.personal_website.config.ResumeDeliveryProperties;
+import com.caseyquinn.personal_website.dao.ResumeDao;
+import com.caseyquinn.personal_website.entity.Resume;
+import com.caseyquinn.personal_website.util.DiskLruCache;
+import com.caseyquinn.personal_website.util.HashUtils;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.util.FileSystemUtils;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.Objects.nonNull;
+
+/**
+ * Local disk cache of resume files, so the download endpoint can serve them without sending
+ * visitors to Cloudinary.
+ *
+ * <p>Files are keyed by their Cloudinary URL, which changes with every new upload. A file is
+ * fetched in the background when a resume is uploaded, at startup, and on the first download
+ * that misses the cache; it is only cached once its size and SHA-256 match the resume row. The
+ * cache is bounded on disk and drops the least recently served files first.</p>
+ */
+@Service
+@Slf4j
+public class ResumeFileCache {
+
+    private static final String CACHE_FILE_PREFIX = "resume-";
+    private static final int FETCH_QUEUE_CAPACITY = 4;
+    private static final Duration RETIRED_FILE_GRACE = Duration.ofMinutes(1);
+
+    private final ResumeDao resumeDao;
+    private final ResumeDeliveryProperties properties;
+    private final HttpClient httpClient;
+    private final ExecutorService fetchExecutor;
+    private final DiskLruCache<String, CachedFile> files;
+    private final Set<String> fetching = ConcurrentHashMap.newKeySet();
+
+    public ResumeFileCache(ResumeDao resumeDao, ResumeDeliveryProperties properties) {
+        this.resumeDao = resumeDao;
+        this.properties = properties;
+        this.files = new DiskLruCache<>(properties.getMaxCacheSize().toBytes(), RETIRED_FILE_GRACE);
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(properties.getFetchTimeout())
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .build();
+        this.fetchExecutor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(FETCH_QUEUE_CAPACITY),
+                new CustomizableThreadFactory("resume-cache-"),
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * Creates the cache directory and removes files left by a previous run, which are not indexed.
+     */
+    @PostConstruct
+    void init() throws IOException {
+        Path directory = properties.getCacheDirectory();
+        FileSystemUtils.deleteRecursively(directory);
+        Files.createDirectories(directory);
+    }
+
+    /**
+     * Caches the active resume once the application has started.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        try {
+            resumeDao.findActive().ifPresent(resume -> prefetch(resume.getFileUrl()));
+        } catch (DataAccessException e) {
+            log.warn("Failed to warm resume cache; it fills on first download instead: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Looks up a cached file and marks it as recently served.
+     *
+     * @param fileUrl the Cloudinary URL of the resume
+     * @return the cached file, or empty if it is not cached yet
+     */
+    public Optional<CachedFile> find(String fileUrl) {
+        return files.get(fileUrl);
+    }
+
+    /**
+     * Fetches a resume into the cache in the background, unless it is cached or being fetched
+     * already. Only the active resume is fetched, and nothing is fetched in redirect mode.
+     *
+     * @param fileUrl the Cloudinary URL of the resume
+     */
+    public void prefetch(String fileUrl) {
+        if (properties.getMode() != ResumeDeliveryProperties.Mode.LOCAL
+                || find(fileUrl).isPresent() || !fetching.add(fileUrl)) {
+            return;
+        }
+        try {
+            fetchExecutor.execute(() -> {
+                try {
+                    fetch(fileUrl);
+                } catch (RuntimeException e) {
+                    log.warn("Failed to fetch resume into cache from {}", fileUrl, e);
+                } finally {
+                    fetching.remove(fileUrl);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            fetching.remove(fileUrl);
+            log.warn("Resume cache fetch queue is full, skipping {}", fileUrl);
+        }
+    }
+
+    /**
+     * Deletes files dropped from the cache once no download can still be about to open them.
+     */
+    @Scheduled(fixedDelayString = "1m")
+    public void deleteRetiredFiles() {
+        files.deleteRetiredFiles();
+    }
+
+    /**
+     * Stops fetching; cached files are removed at next startup.
+     */
+    @PreDestroy
+    public void shutdown() {
+        fetchExecutor.shutdownNow();
+    }
+
+    private void fetch(String fileUrl) {
+        Optional<Resume> active = resumeDao.findActive().filter(resume -> fileUrl.equals(resume.getFileUrl()));
+        if (active.isEmpty()) {
+            return;
+        }
+        Resume resume = active.get();
+        if (resume.getFileSize() > properties.getMaxCacheSize().toBytes()) {
+            log.warn("Resume {} is larger than the cache, serving it by redirect", resume.getFileName());
+            return;
+        }
+
+        Path download = null;
+        try {
+            download = Files.createTempFile(properties.getCacheDirectory(), CACHE_FILE_PREFIX, null);
+            HttpRequest request = HttpRequest.newBuilder(URI.create(fileUrl))
+                    .timeout(properties.getFetchTimeout())
+                    .GET()
+                    .build();
+            HttpResponse<Path> response = httpClient.send(request, HttpResponse.BodyHandlers.ofFile(download));
+            if (response.statusCode() != HttpStatus.OK.value()) {
+                log.warn("Failed to fetch resume into cache: HTTP {} from {}", response.statusCode(), fileUrl);
+                return;
+            }
+
+            long size = Files.size(download);
+            String contentHash = HashUtils.sha256Hex(download);
+            if (size != resume.getFileSize()
+                    || (nonNull(resume.getContentHash()) && !resume.getContentHash().equals(contentHash))) {
+                log.error("Fetched resume does not match its record (size {} vs {}), not caching {}",
+                        size, resume.getFileSize(), fileUrl);
+                return;
+            }
+
+            files.put(fileUrl, new CachedFile(download, size, contentHash, resume.getFileName(), resume.getContentType()));
+            download = null;
+            log.info("Cached resume {} ({} bytes)", resume.getFileName(), size);
+        } catch (IOException e) {
+            log.warn("Failed to fetch resume into cache from {}: {}", fileUrl, e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            if (nonNull(download)) {
+                DiskLruCache.deleteQuietly(download);
+            }
+        }
+    }
+
+    /**
+     * A verified resume file on local disk.
+     *
+     * @param path the file
+     * @param size the file size in bytes
+     * @param contentHash the SHA-256 hex digest of the file
+     * @param fileName the original file name, for Content-Disposition
+     * @param contentType the content type
+     */
+    public record CachedFile(Path path, long size, String contentHash, String fileName, String contentType)
+            implements DiskLruCache.Entry {
+    }
+}
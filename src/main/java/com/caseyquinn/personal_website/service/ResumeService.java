@@ -14,6 +14,8 @@ import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.web.multipart.MultipartFile;
 
 import static com.caseyquinn.personal_website.constants.FileConstants.*;
@@ -33,12 +35,15 @@ public class ResumeService {
     private final ResumeMapper resumeMapper;
     private final CloudinaryService cloudinaryService;
     private final FileValidationService fileValidationService;
+    private final ResumeFileCache resumeFileCache;
 
     @Value("${app.resume.max-file-size}")
     private long maxFileSize;
 
     /**
      * Uploads a new resume PDF, replacing the current active resume if one exists.
+     * The new file is stored before the old one is released, so re-uploading an unchanged
+     * resume keeps the existing asset instead of deleting and uploading it again.
      *
      * @param file the PDF file to upload
      * @return the uploaded resume metadata
@@ -50,26 +55,35 @@ public class ResumeService {
 
         fileValidationService.validatePdfFile(file, maxFileSize);
 
+        String publicId = buildResumePublicId(file.getOriginalFilename());
+        CloudinaryUploadResult uploadResult = cloudinaryService.uploadRawFile(file, SUBFOLDER_RESUMES, publicId);
+
         resumeDao.findActive().ifPresent(existing -> {
             log.info("Service: Replacing existing resume: {}", existing.getFileName());
             cloudinaryService.deleteRawFile(existing.getCloudinaryPublicId());
             resumeDao.deleteById(existing.getId());
         });
 
-        String publicId = buildResumePublicId(file.getOriginalFilename());
-        CloudinaryUploadResult uploadResult = cloudinaryService.uploadRawFile(file, SUBFOLDER_RESUMES, publicId);
-
         Resume resume = Resume.builder()
                 .fileName(file.getOriginalFilename())
                 .fileUrl(uploadResult.getSecureUrl())
                 .cloudinaryPublicId(uploadResult.getPublicId())
                 .fileSize(uploadResult.getBytes())
+                .contentHash(uploadResult.getContentHash())
                 .contentType(MIME_PDF)
                 .active(true)
                 .build();
 
         Resume saved = resumeDao.save(resume);
         log.info("Service: Resume uploaded successfully with id: {}", saved.getId());
+
+        // The cache only fetches the active resume, so wait until the new row is visible
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                resumeFileCache.prefetch(saved.getFileUrl());
+            }
+        });
         return resumeMapper.toResponse(saved);
     }
 
@@ -0,0 +1,133 @@
+package com.caseyquinn.personal_website.service;
+
+import com.caseyquinn.personal_website.config.ViewAnalyticsProperties;
+import com.caseyquinn.personal_website.dao.ContentViewRollupDao;
+import com.caseyquinn.personal_website.dto.response.BlogPostResponse;
+import com.caseyquinn.personal_website.dto.response.ProjectResponse;
+import com.caseyquinn.personal_website.entity.enums.ViewTargetType;
+import com.caseyquinn.personal_website.exception.NotFoundException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import static com.caseyquinn.personal_website.constants.CacheConstants.CACHE_TRENDING;
+import static org.apache.commons.lang3.BooleanUtils.isTrue;
+
+/**
+ * Ranks projects and blog posts by exponentially decayed recent views.
+ * Rankings are precomputed on a schedule and served from cache; requests never run the scoring query
+ * unless the cache is cold.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TrendingService {
+
+    private static final String KEY_PROJECTS = "projects";
+    private static final String KEY_POSTS = "posts";
+
+    private final ContentViewRollupDao contentViewRollupDao;
+    private final ProjectService projectService;
+    private final BlogPostService blogPostService;
+    private final CacheManager cacheManager;
+    private final ViewAnalyticsProperties properties;
+
+    /**
+     * Retrieves the currently trending published projects, highest score first.
+     *
+     * @param limit maximum number of projects, capped at the configured list size
+     * @return list of trending projects
+     */
+    public List<ProjectResponse> getTrendingProjects(int limit) {
+        log.info("Service: Fetching trending projects, limit: {}", limit);
+        List<ProjectResponse> trending = trendingCache().get(KEY_PROJECTS, this::computeTrendingProjects);
+        return truncate(trending, limit);
+    }
+
+    /**
+     * Retrieves the currently trending published blog posts, highest score first.
+     *
+     * @param limit maximum number of posts, capped at the configured list size
+     * @return list of trending posts
+     */
+    public List<BlogPostResponse> getTrendingPosts(int limit) {
+        log.info("Service: Fetching trending blog posts, limit: {}", limit);
+        List<BlogPostResponse> trending = trendingCache().get(KEY_POSTS, this::computeTrendingPosts);
+        return truncate(trending, limit);
+    }
+
+    /**
+     * Recomputes both trending lists and replaces the cached copies.
+     */
+    @Scheduled(fixedDelayString = "${app.view-analytics.trending-refresh-interval:10m}",
+            initialDelayString = "${app.view-analytics.trending-refresh-interval:10m}")
+    public void refreshTrending() {
+        try {
+            Cache cache = trendingCache();
+            cache.put(KEY_PROJECTS, computeTrendingProjects());
+            cache.put(KEY_POSTS, computeTrendingPosts());
+            log.info("Refreshed trending projects and blog posts");
+        } catch (DataAccessException e) {
+            log.warn("Failed to refresh trending lists; serving previous rankings: {}", e.getMessage());
+        }
+    }
+
+    private List<ProjectResponse> computeTrendingProjects() {
+        return rank(ViewTargetType.PROJECT, projectService::getProjectById,
+                project -> isTrue(project.getPublished()));
+    }
+
+    private List<BlogPostResponse> computeTrendingPosts() {
+        return rank(ViewTargetType.BLOG_POST, blogPostService::getPostById,
+                post -> isTrue(post.getPublished()));
+    }
+
+    /**
+     * Scores recent views, then resolves IDs to responses through the entity caches.
+     * Over-fetches so that unpublished or deleted entries can be skipped without shortening the list.
+     */
+    private <T> List<T> rank(ViewTargetType type, Function<Long, T> loader, Predicate<T> visible) {
+        int maxItems = properties.getTrendingMaxItems();
+        LocalDateTime since = LocalDateTime.now().minus(properties.getTrendingWindow());
+        double halfLifeHours = properties.getTrendingHalfLife().toMinutes() / 60.0;
+
+        List<Object[]> scores = contentViewRollupDao.findTrendingScores(type, since, halfLifeHours, maxItems * 2);
+
+        List<T> ranked = new ArrayList<>(maxItems);
+        for (Object[] row : scores) {
+            if (ranked.size() >= maxItems) {
+                break;
+            }
+            Long id = ((Number) row[0]).longValue();
+            try {
+                T item = loader.apply(id);
+                if (visible.test(item)) {
+                    ranked.add(item);
+                }
+            } catch (NotFoundException e) {
+                log.debug("Skipping deleted {} {} in trending list", type, id);
+            }
+        }
+        return ranked;
+    }
+
+    private Cache trendingCache() {
+        return Objects.requireNonNull(cacheManager.getCache(CACHE_TRENDING));
+    }
+
+    private <T> List<T> truncate(List<T> trending, int limit) {
+        int size = Math.clamp(limit, 1, properties.getTrendingMaxItems());
+        return trending.size() <= size ? trending : trending.subList(0, size);
+    }
+}
@@ -0,0 +1,160 @@
+package com.caseyquinn.personal_website.service;
+
+import com.caseyquinn.personal_website.config.ViewCountProperties;
+import com.caseyquinn.personal_website.dao.BlogPostDao;
+import com.caseyquinn.personal_website.dao.DailyUniqueVisitorsDao;
+import com.caseyquinn.personal_website.dao.ProjectDao;
+import com.caseyquinn.personal_website.entity.enums.ViewTargetType;
+import com.caseyquinn.personal_website.event.ContentViewedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.HyperLogLogOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static java.util.Objects.isNull;
+
+/**
+ * Estimates distinct visitors per project and blog post using Redis HyperLogLog sketches.
+ * Each view adds the hashed visitor ID to a per-day sketch and a lifetime sketch; a scheduled
+ * job reads the estimates for recently touched content and merges them into Postgres.
+ */
+@Component
+@Slf4j
+public class UniqueVisitorTracker {
+
+    private static final String KEY_PREFIX = "views:hll:";
+
+    private final StringRedisTemplate redisTemplate;
+    private final ProjectDao projectDao;
+    private final BlogPostDao blogPostDao;
+    private final DailyUniqueVisitorsDao dailyUniqueVisitorsDao;
+    private final ViewCountProperties properties;
+    private final Set<SketchKey> touched = ConcurrentHashMap.newKeySet();
+    private final Counter redisFailureCounter;
+
+    public UniqueVisitorTracker(StringRedisTemplate redisTemplate,
+                                ProjectDao projectDao,
+                                BlogPostDao blogPostDao,
+                                DailyUniqueVisitorsDao dailyUniqueVisitorsDao,
+                                ViewCountProperties properties,
+                                MeterRegistry meterRegistry) {
+        this.redisTemplate = redisTemplate;
+        this.projectDao = projectDao;
+        this.blogPostDao = blogPostDao;
+        this.dailyUniqueVisitorsDao = dailyUniqueVisitorsDao;
+        this.properties = properties;
+        this.redisFailureCounter = Counter.builder("views.unique.redis.failures")
+                .description("Unique-visitor sketch operations that failed against Redis")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Adds the visitor to the content's daily and lifetime sketches.
+     * Runs asynchronously so Redis latency never reaches the request thread.
+     *
+     * @param event the view event
+     */
+    @Async
+    @EventListener
+    public void onContentViewed(ContentViewedEvent event) {
+        if (isNull(event.visitorId())) {
+            return;
+        }
+        SketchKey key = new SketchKey(event.type(), event.id(), LocalDate.now());
+        try {
+            HyperLogLogOperations<String, String> hll = redisTemplate.opsForHyperLogLog();
+            Long changed = hll.add(dailyKey(key), event.visitorId());
+            if (isNull(changed) || changed > 0) {
+                redisTemplate.expire(dailyKey(key), properties.getDailySketchRetention());
+            }
+            hll.add(lifetimeKey(key.type(), key.id()), event.visitorId());
+            touched.add(key);
+        } catch (DataAccessException e) {
+            redisFailureCounter.increment();
+            log.warn("Failed to record unique visitor for {} {}: {}", key.type(), key.id(), e.getMessage());
+        }
+    }
+
+    /**
+     * Writes daily and lifetime estimates for content viewed since the last sync.
+     * Keys that fail to sync are retried on the next run.
+     */
+    @Scheduled(fixedDelayString = "${app.view-counts.unique-visitor-sync-interval:1m}",
+            initialDelayString = "${app.view-counts.unique-visitor-sync-interval:1m}")
+    public void syncToDatabase() {
+        if (touched.isEmpty()) {
+            return;
+        }
+
+        List<SketchKey> batch = new ArrayList<>();
+        Iterator<SketchKey> iterator = touched.iterator();
+        while (iterator.hasNext()) {
+            batch.add(iterator.next());
+            iterator.remove();
+        }
+
+        try {
+            HyperLogLogOperations<String, String> hll = redisTemplate.opsForHyperLogLog();
+            Map<ViewTargetType, Map<Long, Long>> lifetime = new LinkedHashMap<>();
+            Map<ViewTargetType, Map<LocalDate, Map<Long, Long>>> daily = new LinkedHashMap<>();
+
+            for (SketchKey key : batch) {
+                daily.computeIfAbsent(key.type(), t -> new LinkedHashMap<>())
+                        .computeIfAbsent(key.date(), d -> new LinkedHashMap<>())
+                        .put(key.id(), hll.size(dailyKey(key)));
+                lifetime.computeIfAbsent(key.type(), t -> new LinkedHashMap<>())
+                        .computeIfAbsent(key.id(), id -> hll.size(lifetimeKey(key.type(), id)));
+            }
+
+            daily.forEach((type, byDate) -> byDate.forEach((date, counts) ->
+                    dailyUniqueVisitorsDao.upsertDailyVisitors(type, date, ids(counts), values(counts))));
+            lifetime.forEach((type, counts) -> {
+                switch (type) {
+                    case PROJECT -> projectDao.updateUniqueVisitorCounts(ids(counts), values(counts));
+                    case BLOG_POST -> blogPostDao.updateUniqueVisitorCounts(ids(counts), values(counts));
+                }
+            });
+            log.debug("Synced unique visitor estimates for {} sketch(es)", batch.size());
+        } catch (DataAccessException e) {
+            touched.addAll(batch);
+            log.warn("Failed to sync unique visitor estimates; will retry: {}", e.getMessage());
+        }
+    }
+
+    private static String dailyKey(SketchKey key) {
+        return KEY_PREFIX + key.type().name().toLowerCase() + ":" + key.id() + ":" + key.date();
+    }
+
+    private static String lifetimeKey(ViewTargetType type, Long id) {
+        return KEY_PREFIX + type.name().toLowerCase() + ":" + id;
+    }
+
+    private static Long[] ids(Map<Long, Long> counts) {
+        return counts.keySet().toArray(Long[]::new);
+    }
+
+    private static Long[] values(Map<Long, Long> counts) {
+        return counts.values().toArray(Long[]::new);
+    }
+
+    /**
+     * Identifies one per-day sketch.
+     */
+    private record SketchKey(ViewTargetType type, Long id, LocalDate date) {
+    }
+}
@@ -0,0 +1,255 @@
+package com.caseyquinn.personal_website.service;
+
+import com.caseyquinn.personal_website.config.ViewCountProperties;
+import com.caseyquinn.personal_website.dao.BlogPostDao;
+import com.caseyquinn.personal_website.dao.ProjectDao;
+import com.caseyquinn.personal_website.entity.enums.ViewTargetType;
+import com.caseyquinn.personal_website.event.ContentViewedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static java.util.Objects.isNull;
+
+/**
+ * Write-behind buffer for project and blog post view counts.
+ * Views are accumulated in memory per entity and flushed as one batched UPDATE per target type,
+ * so recording a view never touches the database on the request path.
+ *
+ * <p>Loss is bounded: at most one flush interval of views is lost on a hard crash, views for new
+ * entities are dropped once {@code maxBufferedEntities} is reached, and a view racing with a flush
+ * may be lost when its entity's idle entry is evicted. Failed flushes are re-queued.</p>
+ *
+ * <p>The buffer also keeps the set of existing project IDs, reloaded at startup and after every
+ * flush, so the public view endpoint can reject unknown IDs without a query. A new project is
+ * accepted from the next flush on.</p>
+ */
+@Component
+@Slf4j
+public class ViewCountBuffer {
+
+    private static final String METRIC_PREFIX = "views.buffer";
+    private static final String TAG_TYPE = "type";
+
+    private final ProjectDao projectDao;
+    private final BlogPostDao blogPostDao;
+    private final ViewCountProperties properties;
+
+    private final Map<ViewTargetType, ConcurrentHashMap<Long, LongAdder>> buffers = new EnumMap<>(ViewTargetType.class);
+    private final Map<ViewTargetType, Counter> recordedCounters = new EnumMap<>(ViewTargetType.class);
+    private final Map<ViewTargetType, Counter> flushedCounters = new EnumMap<>(ViewTargetType.class);
+    private final Counter droppedCounter;
+    private final Counter flushFailureCounter;
+    private final Timer flushTimer;
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    private volatile Set<Long> knownProjectIds = Set.of();
+
+    public ViewCountBuffer(ProjectDao projectDao,
+                           BlogPostDao blogPostDao,
+                           ViewCountProperties properties,
+                           MeterRegistry meterRegistry) {
+        this.projectDao = projectDao;
+        this.blogPostDao = blogPostDao;
+        this.properties = properties;
+
+        for (ViewTargetType type : ViewTargetType.values()) {
+            ConcurrentHashMap<Long, LongAdder> buffer = new ConcurrentHashMap<>();
+            buffers.put(type, buffer);
+            String tag = type.name().toLowerCase();
+
+            recordedCounters.put(type, Counter.builder(METRIC_PREFIX + ".recorded")
+                    .description("Views accepted into the write-behind buffer")
+                    .tag(TAG_TYPE, tag)
+                    .register(meterRegistry));
+            flushedCounters.put(type, Counter.builder(METRIC_PREFIX + ".flushed")
+                    .description("Views written to the database by buffer flushes")
+                    .tag(TAG_TYPE, tag)
+                    .register(meterRegistry));
+            Gauge.builder(METRIC_PREFIX + ".pending", buffer, ViewCountBuffer::pendingViews)
+                    .description("Views buffered in memory awaiting flush")
+                    .tag(TAG_TYPE, tag)
+                    .register(meterRegistry);
+            Gauge.builder(METRIC_PREFIX + ".entities", buffer, Map::size)
+                    .description("Distinct entities with buffered views")
+                    .tag(TAG_TYPE, tag)
+                    .register(meterRegistry);
+        }
+
+        this.droppedCounter = Counter.builder(METRIC_PREFIX + ".dropped")
+                .description("Views dropped because the buffer was at capacity")
+                .register(meterRegistry);
+        this.flushFailureCounter = Counter.builder(METRIC_PREFIX + ".flush.failures")
+                .description("Buffer flushes that failed and were re-queued")
+                .register(meterRegistry);
+        this.flushTimer = Timer.builder(METRIC_PREFIX + ".flush")
+                .description("Time spent flushing buffered views to the database")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Records a single view in memory. Never blocks on the database.
+     *
+     * @param type the kind of entity viewed
+     * @param id the entity ID
+     */
+    public void record(ViewTargetType type, Long id) {
+        ConcurrentHashMap<Long, LongAdder> buffer = buffers.get(type);
+        LongAdder adder = buffer.get(id);
+        if (isNull(adder)) {
+            if (buffer.size() >= properties.getMaxBufferedEntities()) {
+                droppedCounter.increment();
+                return;
+            }
+            adder = buffer.computeIfAbsent(id, key -> new LongAdder());
+        }
+        adder.increment();
+        recordedCounters.get(type).increment();
+    }
+
+    /**
+     * Whether a project existed at the last reload of known IDs. Never touches the database.
+     *
+     * @param id the project ID
+     * @return true if the project is known
+     */
+    public boolean isKnownProject(Long id) {
+        return knownProjectIds.contains(id);
+    }
+
+    /**
+     * Loads the known project IDs once the application is ready.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        reloadKnownProjects();
+    }
+
+    /**
+     * Buffers a view published by the read path. Handled on the publishing thread since
+     * recording is a lock-free in-memory increment; the database write happens on flush.
+     *
+     * @param event the view event
+     */
+    @EventListener
+    public void onContentViewed(ContentViewedEvent event) {
+        record(event.type(), event.id());
+    }
+
+    /**
+     * Flushes all buffered deltas to the database. Runs on a fixed delay; overlapping
+     * invocations are skipped rather than queued.
+     */
+    @Scheduled(fixedDelayString = "${app.view-counts.flush-interval:5s}",
+            initialDelayString = "${app.view-counts.flush-interval:5s}")
+    public void flush() {
+        if (!flushLock.tryLock()) {
+            return;
+        }
+        try {
+            flushTimer.record(this::flushAll);
+            reloadKnownProjects();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * Drains the buffer on shutdown, waiting for any in-flight scheduled flush to finish first.
+     */
+    @PreDestroy
+    public void flushOnShutdown() {
+        flushLock.lock();
+        try {
+            log.info("Flushing buffered view counts before shutdown");
+            flushAll();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    private void flushAll() {
+        for (ViewTargetType type : ViewTargetType.values()) {
+            flush(type);
+        }
+    }
+
+    private void flush(ViewTargetType type) {
+        ConcurrentHashMap<Long, LongAdder> buffer = buffers.get(type);
+        if (buffer.isEmpty()) {
+            return;
+        }
+
+        List<Long> ids = new ArrayList<>();
+        List<Long> deltas = new ArrayList<>();
+        long total = 0;
+        for (Map.Entry<Long, LongAdder> entry : buffer.entrySet()) {
+            long delta = entry.getValue().sumThenReset();
+            if (delta == 0) {
+                // Idle since the last flush; evict so the buffer only holds recently viewed entities
+                buffer.remove(entry.getKey(), entry.getValue());
+                continue;
+            }
+            ids.add(entry.getKey());
+            deltas.add(delta);
+            total += delta;
+        }
+        if (ids.isEmpty()) {
+            return;
+        }
+
+        Long[] idArray = ids.toArray(Long[]::new);
+        Long[] deltaArray = deltas.toArray(Long[]::new);
+        try {
+            switch (type) {
+                case PROJECT -> projectDao.incrementViewCounts(idArray, deltaArray);
+                case BLOG_POST -> blogPostDao.incrementViewCounts(idArray, deltaArray);
+            }
+            flushedCounters.get(type).increment(total);
+            log.debug("Flushed {} {} view(s) across {} entities", total, type, ids.size());
+        } catch (DataAccessException e) {
+            flushFailureCounter.increment();
+            log.warn("Failed to flush {} {} view(s); re-queueing: {}", total, type, e.getMessage());
+            for (int i = 0; i < idArray.length; i++) {
+                buffer.computeIfAbsent(idArray[i], key -> new LongAdder()).add(deltaArray[i]);
+            }
+        }
+    }
+
+    /**
+     * Replaces the known project IDs, keeping the previous set if the query fails.
+     */
+    private void reloadKnownProjects() {
+        try {
+            knownProjectIds = Set.copyOf(projectDao.findAllIds());
+        } catch (DataAccessException e) {
+            log.warn("Failed to reload known project ids; keeping {} cached: {}",
+                    knownProjectIds.size(), e.getMessage());
+        }
+    }
+
+    private static double pendingViews(Map<Long, LongAdder> buffer) {
+        long sum = 0;
+        for (LongAdder adder : buffer.values()) {
+            sum += adder.sum();
+        }
+        return sum;
+    }
+}
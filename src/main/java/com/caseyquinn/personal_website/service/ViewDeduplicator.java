@@ -0,0 +1,87 @@
+package com.caseyquinn.personal_website.service;
+
+import com.caseyquinn.personal_website.config.ViewCountProperties;
+import com.caseyquinn.personal_website.entity.enums.ViewTargetType;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static java.util.Objects.isNull;
+
+/**
+ * Short-window, in-memory filter that drops repeat views of the same content by the same visitor
+ * (page refreshes, crawler loops) before they reach any counter.
+ */
+@Component
+@Slf4j
+public class ViewDeduplicator {
+
+    private final ViewCountProperties properties;
+    private final Map<String, Long> lastSeen = new ConcurrentHashMap<>();
+    private final Counter duplicateCounter;
+
+    public ViewDeduplicator(ViewCountProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.duplicateCounter = Counter.builder("views.dedup.dropped")
+                .description("Repeat views dropped by the deduplication window")
+                .register(meterRegistry);
+        Gauge.builder("views.dedup.entries", lastSeen, Map::size)
+                .description("Visitor/content pairs remembered for deduplication")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Returns whether this view should be counted, remembering it for the dedup window.
+     * Views without a visitor ID are always counted.
+     *
+     * @param type the kind of content viewed
+     * @param id the content ID
+     * @param visitorId anonymous visitor fingerprint, may be null
+     * @return true if the view is first within the window
+     */
+    public boolean isFirstView(ViewTargetType type, Long id, String visitorId) {
+        if (isNull(visitorId)) {
+            return true;
+        }
+
+        String key = type.name() + ":" + id + ":" + visitorId;
+        long now = System.currentTimeMillis();
+        long windowMillis = properties.getDedupWindow().toMillis();
+
+        Long previous = lastSeen.get(key);
+        if (isNull(previous) && lastSeen.size() >= properties.getDedupMaxEntries()) {
+            return true;
+        }
+
+        boolean[] first = {false};
+        lastSeen.compute(key, (k, seenAt) -> {
+            if (isNull(seenAt) || now - seenAt >= windowMillis) {
+                first[0] = true;
+                return now;
+            }
+            return seenAt;
+        });
+
+        if (!first[0]) {
+            duplicateCounter.increment();
+        }
+        return first[0];
+    }
+
+    /**
+     * Forgets entries older than the dedup window so memory tracks only recent visitors.
+     */
+    @Scheduled(fixedDelayString = "${app.view-counts.dedup-window:30m}")
+    public void purgeExpired() {
+        long cutoff = System.currentTimeMillis() - properties.getDedupWindow().toMillis();
+        int before = lastSeen.size();
+        lastSeen.values().removeIf(seenAt -> seenAt < cutoff);
+        log.debug("Purged {} expired view dedup entries", before - lastSeen.size());
+    }
+}
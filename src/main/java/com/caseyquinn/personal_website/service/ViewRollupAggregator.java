@@ -0,0 +1,169 @@
+package com.caseyquinn.personal_website.service;
+
+import com.caseyquinn.personal_website.config.ViewAnalyticsProperties;
+import com.caseyquinn.personal_website.dao.ContentViewRollupDao;
+import com.caseyquinn.personal_website.entity.enums.ViewTargetType;
+import com.caseyquinn.personal_website.event.ContentViewedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static java.util.Objects.isNull;
+
+/**
+ * Aggregates view events into in-memory hourly buckets and writes them to the rollup table
+ * in batches. Also compacts aged hourly rows into daily rows, and daily rows into monthly rows.
+ *
+ * <p>The buffer holds at most {@code maxBufferedBuckets} buckets between flushes; views that
+ * would open a new bucket beyond that are dropped and counted.</p>
+ */
+@Component
+@Slf4j
+public class ViewRollupAggregator {
+
+    private static final String METRIC_PREFIX = "views.rollup";
+
+    private final ContentViewRollupDao contentViewRollupDao;
+    private final ViewAnalyticsProperties properties;
+
+    private final Map<BucketKey, LongAdder> buckets = new ConcurrentHashMap<>();
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private final Counter droppedCounter;
+
+    public ViewRollupAggregator(ContentViewRollupDao contentViewRollupDao,
+                                ViewAnalyticsProperties properties,
+                                MeterRegistry meterRegistry) {
+        this.contentViewRollupDao = contentViewRollupDao;
+        this.properties = properties;
+        Gauge.builder(METRIC_PREFIX + ".buckets", buckets, Map::size)
+                .description("Hourly view buckets buffered in memory awaiting flush")
+                .register(meterRegistry);
+        this.droppedCounter = Counter.builder(METRIC_PREFIX + ".dropped")
+                .description("Views dropped because the rollup buffer was at capacity")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Counts a view in the current hour's bucket.
+     *
+     * @param event the view event
+     */
+    @EventListener
+    public void onContentViewed(ContentViewedEvent event) {
+        LocalDateTime hour = LocalDateTime.now().truncatedTo(ChronoUnit.HOURS);
+        BucketKey key = new BucketKey(event.type(), hour, event.id());
+        LongAdder adder = buckets.get(key);
+        if (isNull(adder)) {
+            if (buckets.size() >= properties.getMaxBufferedBuckets()) {
+                droppedCounter.increment();
+                return;
+            }
+            adder = buckets.computeIfAbsent(key, k -> new LongAdder());
+        }
+        adder.increment();
+    }
+
+    /**
+     * Writes buffered hourly buckets to the database, one statement per target type and hour.
+     */
+    @Scheduled(fixedDelayString = "${app.view-analytics.flush-interval:1m}",
+            initialDelayString = "${app.view-analytics.flush-interval:1m}")
+    public void flush() {
+        if (!flushLock.tryLock()) {
+            return;
+        }
+        try {
+            flushBuckets();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * Writes any remaining buckets before shutdown.
+     */
+    @PreDestroy
+    public void flushOnShutdown() {
+        flushLock.lock();
+        try {
+            flushBuckets();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * Compacts aged rollups shortly after each hour so the table stays small.
+     */
+    @Scheduled(cron = "0 5 * * * *")
+    public void compact() {
+        LocalDateTime now = LocalDateTime.now();
+        try {
+            int days = contentViewRollupDao.compactHoursIntoDays(
+                    now.minus(properties.getHourlyRetention()).truncatedTo(ChronoUnit.DAYS));
+            int months = contentViewRollupDao.compactDaysIntoMonths(
+                    now.minus(properties.getDailyRetention()).withDayOfMonth(1).truncatedTo(ChronoUnit.DAYS));
+            log.info("Compacted view rollups: {} daily and {} monthly bucket(s) updated", days, months);
+        } catch (DataAccessException e) {
+            log.warn("Failed to compact view rollups; will retry next run: {}", e.getMessage());
+        }
+    }
+
+    private void flushBuckets() {
+        if (buckets.isEmpty()) {
+            return;
+        }
+
+        // Group drained counts by (type, hour) so each group becomes one batched upsert
+        Map<BucketKey, Map<Long, Long>> groups = new LinkedHashMap<>();
+        for (Map.Entry<BucketKey, LongAdder> entry : buckets.entrySet()) {
+            BucketKey key = entry.getKey();
+            long views = entry.getValue().sumThenReset();
+            if (views == 0) {
+                buckets.remove(key, entry.getValue());
+                continue;
+            }
+            groups.computeIfAbsent(new BucketKey(key.type(), key.hour(), null), k -> new LinkedHashMap<>())
+                    .put(key.id(), views);
+        }
+
+        groups.forEach((group, counts) -> {
+            Long[] ids = counts.keySet().toArray(Long[]::new);
+            Long[] views = counts.values().toArray(Long[]::new);
+            try {
+                contentViewRollupDao.addHourlyViews(group.type(), group.hour(), ids, views);
+            } catch (DataAccessException e) {
+                log.warn("Failed to write {} hourly rollup(s) for {} at {}; re-queueing: {}",
+                        ids.length, group.type(), group.hour(), e.getMessage());
+                requeue(group, ids, views);
+            }
+        });
+    }
+
+    private void requeue(BucketKey group, Long[] ids, Long[] views) {
+        for (int i = 0; i < ids.length; i++) {
+            buckets.computeIfAbsent(new BucketKey(group.type(), group.hour(), ids[i]), key -> new LongAdder())
+                    .add(views[i]);
+        }
+    }
+
+    /**
+     * Identifies one hourly bucket; {@code id} is null when used as a (type, hour) group key.
+     */
+    private record BucketKey(ViewTargetType type, LocalDateTime hour, Long id) {
+    }
+}
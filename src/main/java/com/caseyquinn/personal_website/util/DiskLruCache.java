@@ -0,0 +1,166 @@
+package com.caseyquinn.personal_website.util;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static java.util.Objects.nonNull;
+
+/**
+ * In-memory index of files on local disk, bounded by their total size and evicting the least
+ * recently used first.
+ *
+ * <p>An evicted file is not deleted at once: a response that looked it up may have handed it to
+ * the container for sendfile without having opened it yet. Evicted files are deleted by
+ * {@link #deleteRetiredFiles()} once the grace period has passed, which the owner should call
+ * periodically. Until then they count against neither the index nor the size bound.</p>
+ *
+ * @param <K> the key type
+ * @param <V> the entry type
+ */
+@Slf4j
+public class DiskLruCache<K, V extends DiskLruCache.Entry> {
+
+    private final long maxBytes;
+    private final long retiredGraceNanos;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final LinkedHashMap<K, V> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final List<RetiredFile> retired = new ArrayList<>();
+
+    private long bytes;
+
+    /**
+     * @param maxBytes upper bound on the total size of indexed files
+     * @param retiredGrace how long an evicted file is kept on disk
+     */
+    public DiskLruCache(long maxBytes, Duration retiredGrace) {
+        this.maxBytes = maxBytes;
+        this.retiredGraceNanos = retiredGrace.toNanos();
+    }
+
+    /**
+     * Looks up an entry and marks it as recently used.
+     *
+     * @param key the key
+     * @return the entry, or empty if it is not cached
+     */
+    public Optional<V> get(K key) {
+        lock.lock();
+        try {
+            return Optional.ofNullable(entries.get(key));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Adds an entry, replacing any entry with the same key, and evicts the least recently used
+     * entries until the size bound holds again. The new entry itself is never evicted.
+     *
+     * @param key the key
+     * @param entry the entry, whose file is owned by the cache from now on
+     */
+    public void put(K key, V entry) {
+        lock.lock();
+        try {
+            V previous = entries.put(key, entry);
+            if (nonNull(previous)) {
+                retire(previous);
+            }
+            bytes += entry.size();
+
+            Iterator<Map.Entry<K, V>> eldest = entries.entrySet().iterator();
+            while (bytes > maxBytes && eldest.hasNext()) {
+                V evicted = eldest.next().getValue();
+                if (evicted == entry) {
+                    continue;
+                }
+                eldest.remove();
+                retire(evicted);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Deletes evicted files whose grace period has passed.
+     */
+    public void deleteRetiredFiles() {
+        List<Path> expired = new ArrayList<>();
+        long now = System.nanoTime();
+        lock.lock();
+        try {
+            Iterator<RetiredFile> iterator = retired.iterator();
+            while (iterator.hasNext()) {
+                RetiredFile file = iterator.next();
+                if (now - file.retiredAtNanos() >= retiredGraceNanos) {
+                    expired.add(file.path());
+                    iterator.remove();
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+        expired.forEach(DiskLruCache::deleteQuietly);
+    }
+
+    /**
+     * @return the total size of indexed files in bytes
+     */
+    public long bytes() {
+        lock.lock();
+        try {
+            return bytes;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Deletes a file, logging rather than throwing on failure.
+     *
+     * @param path the file to delete
+     */
+    public static void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("Failed to delete cached file {}: {}", path, e.getMessage());
+        }
+    }
+
+    private void retire(V entry) {
+        bytes -= entry.size();
+        retired.add(new RetiredFile(entry.path(), System.nanoTime()));
+    }
+
+    /**
+     * A cached file.
+     */
+    public interface Entry {
+
+        /**
+         * @return the file on local disk
+         */
+        Path path();
+
+        /**
+         * @return the file size in bytes
+         */
+        long size();
+    }
+
+    private record RetiredFile(Path path, long retiredAtNanos) {
+    }
+}
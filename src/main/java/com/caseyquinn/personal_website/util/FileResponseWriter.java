@@ -0,0 +1,146 @@
+package com.caseyquinn.personal_website.util;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpRange;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.util.List;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+import static org.apache.commons.lang3.StringUtils.isBlank;
+
+/**
+ * Writes a file on local disk as an HTTP response, with a strong ETag, conditional requests and
+ * single byte ranges.
+ *
+ * <p>Under Tomcat the body is handed to sendfile, so the kernel copies the file to the socket
+ * without it passing through the JVM; Tomcat writes it after the handler returns. Other containers
+ * get a {@link FileChannel#transferTo} copy onto the response stream.</p>
+ */
+public final class FileResponseWriter {
+
+    private FileResponseWriter() {
+        throw new UnsupportedOperationException("Utility class cannot be instantiated");
+    }
+
+    // Request attributes through which Tomcat offers and performs sendfile
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private static final String ACCEPT_RANGES_BYTES = "bytes";
+
+    /**
+     * Writes the file, or a 304, 206 or 416 response as the request's headers call for.
+     *
+     * @param request the HTTP request
+     * @param response the HTTP response
+     * @param file the file and its response headers
+     * @throws IOException if writing to the response fails
+     */
+    public static void write(HttpServletRequest request, HttpServletResponse response, ServedFile file)
+            throws IOException {
+        String etag = "\"" + file.contentHash() + "\"";
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, ACCEPT_RANGES_BYTES);
+        response.setHeader(HttpHeaders.CACHE_CONTROL, file.cacheControl().getHeaderValue());
+        if (new ServletWebRequest(request, response).checkNotModified(etag)) {
+            return;
+        }
+
+        long length = file.size();
+        long start = 0;
+        long end = length - 1;
+        HttpRange range = requestedRange(request, etag);
+        if (isNull(range)) {
+            response.setStatus(HttpStatus.OK.value());
+        } else {
+            try {
+                start = range.getRangeStart(length);
+                end = range.getRangeEnd(length);
+            } catch (IllegalArgumentException e) {
+                response.setStatus(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE.value());
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+                return;
+            }
+            response.setStatus(HttpStatus.PARTIAL_CONTENT.value());
+            response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + length);
+        }
+
+        response.setContentType(file.contentType());
+        response.setContentLengthLong(end - start + 1);
+        if (nonNull(file.contentDisposition())) {
+            response.setHeader(HttpHeaders.CONTENT_DISPOSITION, file.contentDisposition());
+        }
+        if (HttpMethod.HEAD.matches(request.getMethod())) {
+            return;
+        }
+
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            // The end offset is exclusive
+            request.setAttribute(SENDFILE_FILENAME, file.path().toAbsolutePath().toString());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, end + 1);
+        } else {
+            transfer(file.path(), start, end + 1, response.getOutputStream());
+        }
+    }
+
+    /**
+     * Returns the single byte range to serve, or null for the whole file. The Range header is
+     * ignored if If-Range names another version, if it is malformed, or if it asks for several
+     * ranges, all of which the HTTP spec allows a server to answer with the full representation.
+     */
+    private static HttpRange requestedRange(HttpServletRequest request, String etag) {
+        String rangeHeader = request.getHeader(HttpHeaders.RANGE);
+        if (isBlank(rangeHeader)) {
+            return null;
+        }
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (!isBlank(ifRange) && !ifRange.equals(etag)) {
+            return null;
+        }
+        try {
+            List<HttpRange> ranges = HttpRange.parseRanges(rangeHeader);
+            return ranges.size() == 1 ? ranges.getFirst() : null;
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static void transfer(Path path, long start, long endExclusive, OutputStream out) throws IOException {
+        try (FileChannel channel = FileChannel.open(path)) {
+            WritableByteChannel target = Channels.newChannel(out);
+            long position = start;
+            while (position < endExclusive) {
+                position += channel.transferTo(position, endExclusive - position, target);
+            }
+        }
+    }
+
+    /**
+     * A file to serve and the headers describing it.
+     *
+     * @param path the file on local disk
+     * @param size the file size in bytes
+     * @param contentHash the SHA-256 hex digest of the file, used as the strong ETag
+     * @param contentType the content type
+     * @param cacheControl the Cache-Control policy
+     * @param contentDisposition the Content-Disposition header value, or null for none
+     */
+    public record ServedFile(Path path, long size, String contentHash, String contentType,
+                             CacheControl cacheControl, String contentDisposition) {
+    }
+}
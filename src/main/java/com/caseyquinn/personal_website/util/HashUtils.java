@@ -0,0 +1,70 @@
+package com.caseyquinn.personal_website.util;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * Utility methods for SHA-256 hashing of secrets that must not be stored in plain form and of file contents.
+ */
+public final class HashUtils {
+
+    private HashUtils() {
+        throw new UnsupportedOperationException("Utility class cannot be instantiated");
+    }
+
+    /**
+     * Creates a new SHA-256 digest.
+     *
+     * @return a SHA-256 MessageDigest
+     */
+    public static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /**
+     * Hashes a string with SHA-256.
+     *
+     * @param value the value to hash
+     * @return 64-character lowercase hex digest
+     */
+    public static String sha256Hex(String value) {
+        return sha256Hex(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Hashes a byte array with SHA-256.
+     *
+     * @param value the bytes to hash
+     * @return 64-character lowercase hex digest
+     */
+    public static String sha256Hex(byte[] value) {
+        return HexFormat.of().formatHex(sha256().digest(value));
+    }
+
+    /**
+     * Hashes a file's contents with SHA-256, streaming it through a fixed-size buffer.
+     *
+     * @param file the file to hash
+     * @return 64-character lowercase hex digest
+     * @throws IOException if the file cannot be read
+     */
+    public static String sha256Hex(Path file) throws IOException {
+        MessageDigest digest = sha256();
+        try (InputStream input = new DigestInputStream(Files.newInputStream(file), digest)) {
+            input.transferTo(OutputStream.nullOutputStream());
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+}
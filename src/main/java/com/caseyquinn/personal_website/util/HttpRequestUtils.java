@@ -2,6 +2,10 @@ package com.caseyquinn.personal_website.util;
 
 import jakarta.servlet.http.HttpServletRequest;
 
+import java.nio.charset.StandardCharsets;
+import java.util.HexFormat;
+
+import static java.util.Objects.requireNonNullElse;
 import static org.apache.commons.lang3.StringUtils.isNotBlank;
 
 /**
@@ -32,4 +36,17 @@ public final class HttpRequestUtils {
         }
         return request.getRemoteAddr();
     }
+
+    /**
+     * Derives a stable, anonymous visitor identifier from the client IP and user agent.
+     * The raw values are hashed so they are never stored or sent to Redis.
+     *
+     * @param request the HTTP servlet request
+     * @return hex-encoded truncated SHA-256 of the IP and user agent
+     */
+    public static String visitorFingerprint(HttpServletRequest request) {
+        String source = extractIpAddress(request) + "|" + requireNonNullElse(request.getHeader(HEADER_USER_AGENT), "");
+        byte[] hash = HashUtils.sha256().digest(source.getBytes(StandardCharsets.UTF_8));
+        return HexFormat.of().formatHex(hash, 0, 16);
+    }
 }
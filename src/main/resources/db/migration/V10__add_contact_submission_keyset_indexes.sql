@@ -0,0 +1,20 @@
+-- Composite indexes backing keyset pagination of contact submissions.
+-- Every admin listing orders by (created_at DESC, id DESC); leading each index with
+-- the equality filter lets Postgres seek straight to the cursor position instead of
+-- sorting the whole filtered set. They supersede the single-column indexes from V1.
+CREATE INDEX idx_contact_submissions_created_at_id
+    ON contact_submissions (created_at DESC, id DESC);
+
+CREATE INDEX idx_contact_submissions_status_created_at_id
+    ON contact_submissions (status, created_at DESC, id DESC);
+
+CREATE INDEX idx_contact_submissions_inquiry_created_at_id
+    ON contact_submissions (inquiry_type, created_at DESC, id DESC);
+
+CREATE INDEX idx_contact_submissions_email_created_at_id
+    ON contact_submissions (email, created_at DESC, id DESC);
+
+DROP INDEX IF EXISTS idx_contact_submissions_status;
+DROP INDEX IF EXISTS idx_contact_submissions_created_at;
+DROP INDEX IF EXISTS idx_contact_submissions_inquiry;
+DROP INDEX IF EXISTS idx_contact_submissions_email;
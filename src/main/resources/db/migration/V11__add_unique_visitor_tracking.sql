@@ -0,0 +1,25 @@
+-- Unique-visitor estimates derived from per-day HyperLogLog sketches.
+-- unique_visitor_count holds the lifetime estimate; daily_unique_visitors keeps
+-- the per-day estimate for each piece of content.
+CREATE TYPE view_target_type AS ENUM (
+    'PROJECT', 'BLOG_POST'
+);
+
+ALTER TABLE projects
+ADD COLUMN unique_visitor_count BIGINT NOT NULL DEFAULT 0;
+
+ALTER TABLE blog_posts
+ADD COLUMN unique_visitor_count BIGINT NOT NULL DEFAULT 0;
+
+CREATE TABLE daily_unique_visitors (
+    id               BIGSERIAL PRIMARY KEY,
+    target_type      view_target_type NOT NULL,
+    target_id        BIGINT           NOT NULL,
+    visit_date       DATE             NOT NULL,
+    unique_visitors  BIGINT           NOT NULL DEFAULT 0,
+    updated_at       TIMESTAMPTZ      NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT uk_daily_unique_visitors UNIQUE (target_type, target_id, visit_date)
+);
+
+COMMENT ON COLUMN projects.unique_visitor_count IS 'Estimated lifetime distinct visitors (HyperLogLog)';
+COMMENT ON COLUMN blog_posts.unique_visitor_count IS 'Estimated lifetime distinct visitors (HyperLogLog)';
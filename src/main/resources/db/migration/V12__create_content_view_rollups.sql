@@ -0,0 +1,20 @@
+-- Time-bucketed view counts for projects and blog posts.
+-- Views are written as HOUR buckets, then compacted into DAY and MONTH buckets
+-- as they age so the table stays small while keeping long-term history.
+CREATE TYPE rollup_granularity AS ENUM (
+    'HOUR', 'DAY', 'MONTH'
+);
+
+CREATE TABLE content_view_rollups (
+    id            BIGSERIAL PRIMARY KEY,
+    target_type   view_target_type   NOT NULL,
+    target_id     BIGINT             NOT NULL,
+    granularity   rollup_granularity NOT NULL,
+    bucket_start  TIMESTAMPTZ        NOT NULL,
+    views         BIGINT             NOT NULL DEFAULT 0,
+    CONSTRAINT uk_content_view_rollups UNIQUE (target_type, granularity, bucket_start, target_id)
+);
+
+-- Trending scans recent HOUR/DAY buckets for one target type
+CREATE INDEX idx_content_view_rollups_type_bucket
+    ON content_view_rollups (target_type, bucket_start, granularity);
@@ -0,0 +1,15 @@
+-- Rotating refresh tokens. Only a SHA-256 hash of each token is stored.
+-- Every rotation adds a row to the same family; presenting an already-consumed
+-- token is treated as theft and revokes the whole family.
+CREATE TABLE refresh_tokens (
+    id           BIGSERIAL PRIMARY KEY,
+    token_hash   CHAR(64)  NOT NULL UNIQUE,
+    family_id    UUID      NOT NULL,
+    user_id      BIGINT    NOT NULL REFERENCES users(id) ON DELETE CASCADE,
+    expires_at   TIMESTAMP NOT NULL,
+    consumed_at  TIMESTAMP,
+    created_at   TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE INDEX idx_refresh_tokens_family ON refresh_tokens(family_id);
+CREATE INDEX idx_refresh_tokens_expires_at ON refresh_tokens(expires_at);
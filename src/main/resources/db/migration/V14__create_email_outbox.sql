@@ -0,0 +1,29 @@
+-- Transactional outbox for contact-form emails. Rows are written in the same
+-- transaction as the submission and delivered by a background dispatcher, which
+-- leases batches with FOR UPDATE SKIP LOCKED so replicas never send the same row twice.
+CREATE TYPE email_type AS ENUM (
+    'CONTACT_CONFIRMATION', 'CONTACT_NOTIFICATION'
+);
+
+CREATE TYPE outbox_status AS ENUM (
+    'PENDING', 'SENT', 'FAILED'
+);
+
+CREATE TABLE email_outbox (
+    id                     BIGSERIAL PRIMARY KEY,
+    email_type             email_type    NOT NULL,
+    contact_submission_id  BIGINT        NOT NULL REFERENCES contact_submissions(id) ON DELETE CASCADE,
+    status                 outbox_status NOT NULL DEFAULT 'PENDING',
+    attempts               INT           NOT NULL DEFAULT 0,
+    next_attempt_at        TIMESTAMP     NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    claim_id               UUID,
+    lease_expires_at       TIMESTAMP,
+    last_error             VARCHAR(500),
+    sent_at                TIMESTAMP,
+    created_at             TIMESTAMP     NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+-- The dispatcher polls pending rows of one type in due order
+CREATE INDEX idx_email_outbox_due ON email_outbox (email_type, next_attempt_at) WHERE status = 'PENDING';
+CREATE INDEX idx_email_outbox_claim ON email_outbox (claim_id);
+CREATE INDEX idx_email_outbox_sent_at ON email_outbox (sent_at) WHERE status = 'SENT';
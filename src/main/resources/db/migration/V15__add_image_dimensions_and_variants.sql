@@ -0,0 +1,15 @@
+-- Store original dimensions and the downscaled variants generated at upload time.
+-- variants holds a JSON array of {name, url, width, height}, narrowest first.
+-- Existing rows keep NULL and are served from their original URL only.
+ALTER TABLE project_images
+ADD COLUMN width INTEGER,
+ADD COLUMN height INTEGER,
+ADD COLUMN variants JSONB;
+
+ALTER TABLE blog_post_images
+ADD COLUMN width INTEGER,
+ADD COLUMN height INTEGER,
+ADD COLUMN variants JSONB;
+
+COMMENT ON COLUMN project_images.variants IS 'Responsive image sizes as [{name, url, width, height}], narrowest first';
+COMMENT ON COLUMN blog_post_images.variants IS 'Responsive image sizes as [{name, url, width, height}], narrowest first';
@@ -0,0 +1,13 @@
+-- Store a tiny inline placeholder and the dominant color computed at upload time,
+-- so galleries can reserve space and paint something before the image loads.
+-- Existing rows keep NULL.
+ALTER TABLE project_images
+ADD COLUMN placeholder TEXT,
+ADD COLUMN dominant_color VARCHAR(7);
+
+ALTER TABLE blog_post_images
+ADD COLUMN placeholder TEXT,
+ADD COLUMN dominant_color VARCHAR(7);
+
+COMMENT ON COLUMN project_images.placeholder IS 'PNG data URI of a tiny copy, app.images.placeholder-size pixels on its longer edge';
+COMMENT ON COLUMN blog_post_images.placeholder IS 'PNG data URI of a tiny copy, app.images.placeholder-size pixels on its longer edge';
@@ -0,0 +1,28 @@
+-- Index of every file uploaded to Cloudinary by its SHA-256 content hash, so an upload
+-- of bytes that are already stored links the existing asset instead of uploading again.
+-- reference_count tracks how many image or resume rows point at the asset; the remote
+-- asset is deleted only when it drops to zero. Assets uploaded before this table existed
+-- are not tracked and are deleted as before.
+CREATE TYPE media_resource_type AS ENUM (
+    'IMAGE', 'RAW'
+);
+
+CREATE TABLE media_assets (
+    id                    BIGSERIAL PRIMARY KEY,
+    content_hash          CHAR(64)            NOT NULL,
+    resource_type         media_resource_type NOT NULL,
+    cloudinary_public_id  VARCHAR(500)        NOT NULL,
+    url                   VARCHAR(1000)       NOT NULL,
+    format                VARCHAR(20),
+    bytes                 BIGINT,
+    width                 INTEGER,
+    height                INTEGER,
+    variants              JSONB,
+    placeholder           TEXT,
+    dominant_color        VARCHAR(7),
+    reference_count       INTEGER             NOT NULL DEFAULT 1 CHECK (reference_count >= 0),
+    created_at            TIMESTAMP           NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at            TIMESTAMP           NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT uq_media_assets_content UNIQUE (content_hash, resource_type),
+    CONSTRAINT uq_media_assets_public_id UNIQUE (cloudinary_public_id)
+);
@@ -0,0 +1,27 @@
+-- Queue of Cloudinary assets to delete. Deletes are written here instead of calling
+-- Cloudinary inline, and a background worker removes them in bulk, retrying failures
+-- with backoff. Rows are deleted once Cloudinary confirms the asset is gone; rows that
+-- exhaust their attempts are kept as FAILED for inspection.
+CREATE TYPE deletion_status AS ENUM (
+    'PENDING', 'FAILED'
+);
+
+CREATE TABLE cloudinary_deletions (
+    id                BIGSERIAL PRIMARY KEY,
+    public_id         VARCHAR(500)        NOT NULL,
+    resource_type     media_resource_type NOT NULL,
+    status            deletion_status     NOT NULL DEFAULT 'PENDING',
+    attempts          INT                 NOT NULL DEFAULT 0,
+    next_attempt_at   TIMESTAMP           NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    claim_id          UUID,
+    lease_expires_at  TIMESTAMP,
+    last_error        VARCHAR(500),
+    created_at        TIMESTAMP           NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+-- An asset is queued at most once, so the orphan sweep can re-queue without duplicates
+CREATE UNIQUE INDEX uq_cloudinary_deletions_pending ON cloudinary_deletions (public_id, resource_type)
+    WHERE status = 'PENDING';
+CREATE INDEX idx_cloudinary_deletions_due ON cloudinary_deletions (resource_type, next_attempt_at)
+    WHERE status = 'PENDING';
+CREATE INDEX idx_cloudinary_deletions_claim ON cloudinary_deletions (claim_id);
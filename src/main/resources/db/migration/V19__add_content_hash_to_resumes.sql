@@ -0,0 +1,10 @@
+-- SHA-256 of the resume file, used to verify the locally cached copy served by the
+-- download endpoint. Resumes uploaded since media assets were tracked already have it
+-- recorded there; older ones stay NULL and are verified by size only.
+ALTER TABLE resumes ADD COLUMN content_hash CHAR(64);
+
+UPDATE resumes r
+SET content_hash = m.content_hash
+FROM media_assets m
+WHERE m.cloudinary_public_id = r.cloudinary_public_id
+  AND m.resource_type = 'RAW';
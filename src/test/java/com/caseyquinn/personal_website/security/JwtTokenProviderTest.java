@@ -0,0 +1,57 @@
+package com.caseyquinn.personal_website.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JwtTokenProviderTest {
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private final JwtTokenProvider provider = new JwtTokenProvider(meterRegistry);
+
+	@BeforeEach
+	void setUp() {
+		ReflectionTestUtils.setField(provider, "jwtSecret", "test-secret-that-is-long-enough-for-hmac-sha-256");
+		ReflectionTestUtils.setField(provider, "jwtExpiration", 60_000L);
+		ReflectionTestUtils.setField(provider, "verifiedCacheSize", 16);
+		provider.init();
+	}
+
+	@Test
+	void servesRepeatVerificationsFromCache() {
+		String token = provider.generateToken("admin", 1L, List.of(new SimpleGrantedAuthority("ROLE_ADMIN")));
+
+		assertThat(provider.verify(token))
+				.hasValueSatisfying(verified -> assertThat(verified.username()).isEqualTo("admin"));
+		assertThat(provider.verify(token)).isPresent();
+		assertThat(verifications("verified")).isEqualTo(1);
+		assertThat(verifications("cache_hit")).isEqualTo(1);
+	}
+
+	@Test
+	void rejectsTamperedClaimsCarryingACachedSignature() {
+		String token = provider.generateToken("viewer", 2L, List.of(new SimpleGrantedAuthority("ROLE_USER")));
+		provider.verify(token);
+		String[] parts = token.split("\\.");
+		String payload = new String(Base64.getUrlDecoder().decode(parts[1]), StandardCharsets.UTF_8)
+				.replace("ROLE_USER", "ROLE_ADMIN");
+		String forged = parts[0] + "." + Base64.getUrlEncoder().withoutPadding()
+				.encodeToString(payload.getBytes(StandardCharsets.UTF_8)) + "." + parts[2];
+
+		assertThat(provider.verify(forged)).isEmpty();
+		assertThat(provider.verify(token)).isPresent();
+		assertThat(verifications("cache_hit")).isEqualTo(1);
+	}
+
+	private double verifications(String result) {
+		return meterRegistry.get("jwt.verifications").tag("result", result).counter().count();
+	}
+}
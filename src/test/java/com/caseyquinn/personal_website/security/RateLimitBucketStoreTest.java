@@ -0,0 +1,55 @@
+package com.caseyquinn.personal_website.security;
+
+import io.github.bucket4j.Bucket;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RateLimitBucketStoreTest {
+
+	private static final int MAX_ENTRIES = 200;
+
+	private final AtomicInteger created = new AtomicInteger();
+	private final RateLimitBucketStore store = new RateLimitBucketStore(key -> {
+		created.incrementAndGet();
+		return Bucket.builder().addLimit(limit -> limit.capacity(10).refillGreedy(10, Duration.ofMinutes(1))).build();
+	}, MAX_ENTRIES, Duration.ofMinutes(1).toNanos());
+
+	@Test
+	void returnsTheSameBucketForAKnownClient() {
+		Bucket first = store.resolve("10.0.0.1");
+
+		assertThat(store.resolve("10.0.0.1")).isSameAs(first);
+		assertThat(created).hasValue(1);
+	}
+
+	@Test
+	void evictsLeastRecentlyUsedBucketsWhenFull() throws InterruptedException {
+		for (int i = 0; i < MAX_ENTRIES; i++) {
+			store.resolve("client-" + i);
+		}
+		Thread.sleep(1);
+		Bucket active = store.resolve("client-0");
+
+		store.resolve("newcomer");
+
+		assertThat(store.size()).isLessThanOrEqualTo(MAX_ENTRIES);
+		assertThat(store.resolve("client-0")).isSameAs(active);
+		int before = created.get();
+		store.resolve("client-1");
+		assertThat(created.get()).as("least recently used bucket was evicted").isEqualTo(before + 1);
+	}
+
+	@Test
+	void evictsIdleBuckets() {
+		RateLimitBucketStore idleStore = new RateLimitBucketStore(key -> Bucket.builder()
+				.addLimit(limit -> limit.capacity(1).refillGreedy(1, Duration.ofMinutes(1))).build(), MAX_ENTRIES, 0);
+		idleStore.resolve("10.0.0.1");
+
+		assertThat(idleStore.evictIdle()).isEqualTo(1);
+		assertThat(idleStore.size()).isZero();
+	}
+}
@@ -0,0 +1,108 @@
+package com.caseyquinn.personal_website.security;
+
+import com.caseyquinn.personal_website.config.RateLimitProperties;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.bind.PropertySourcesPlaceholdersResolver;
+import org.springframework.boot.context.properties.source.ConfigurationPropertySources;
+import org.springframework.boot.env.YamlPropertySourceLoader;
+import org.springframework.core.env.MutablePropertySources;
+import org.springframework.core.env.PropertySource;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Set;
+
+import static com.caseyquinn.personal_website.constants.SecurityConstants.TIER_ADMIN;
+import static com.caseyquinn.personal_website.constants.SecurityConstants.TIER_LOGIN;
+import static com.caseyquinn.personal_website.constants.SecurityConstants.TIER_PUBLIC;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RateLimitRouteTableTest {
+
+	// The filtered copy of src/main/resources/application.yml; the test classpath has its own application.yml
+	private static final String SHIPPED_CONFIG = "target/classes/application.yml";
+
+	@Test
+	void compilesShippedRouteConfig() throws IOException {
+		RateLimitRouteTable table = new RateLimitRouteTable(shippedProperties());
+
+		assertThat(table.limits()).containsKeys(TIER_LOGIN, TIER_ADMIN, TIER_PUBLIC, "contact-submit", "media-proxy");
+		assertThat(table.resolve(request("GET", "/api/v1/contact/export")))
+				.isEqualTo(new RateLimitRouteTable.Rule(TIER_PUBLIC, 10));
+		assertThat(table.resolve(request("POST", "/api/v1/contact")))
+				.isEqualTo(new RateLimitRouteTable.Rule("contact-submit", 1));
+		assertThat(table.resolve(request("POST", "/api/v1/auth/login")))
+				.isEqualTo(new RateLimitRouteTable.Rule(TIER_LOGIN, 1));
+	}
+
+	@Test
+	void allowsCostAboveLoginLimitForRoutesOutsideAuth() {
+		RateLimitProperties properties = properties(route("export", "/api/v1/contact/export", Set.of(), 10));
+
+		RateLimitRouteTable table = new RateLimitRouteTable(properties);
+
+		assertThat(table.resolve(request("GET", "/api/v1/contact/export")))
+				.isEqualTo(new RateLimitRouteTable.Rule(TIER_PUBLIC, 10));
+	}
+
+	@Test
+	void rejectsCostAboveLoginLimitForRoutesUnderAuth() {
+		RateLimitProperties properties = properties(route("refresh", "/api/v1/auth/refresh", Set.of("POST"), 10));
+
+		assertThatThrownBy(() -> new RateLimitRouteTable(properties))
+				.isInstanceOf(IllegalStateException.class)
+				.hasMessageContaining("'refresh'");
+	}
+
+	@Test
+	void rejectsCostAboveLoginLimitForWildcardsThatCanReachAuth() {
+		RateLimitProperties properties = properties(route("everything", "/api/{version}/**", Set.of("GET"), 10));
+
+		assertThatThrownBy(() -> new RateLimitRouteTable(properties))
+				.isInstanceOf(IllegalStateException.class)
+				.hasMessageContaining("'everything'");
+	}
+
+	@Test
+	void checksOnlyTheTiersTheRouteMethodsReach() {
+		RateLimitProperties properties = properties(route("bulk", "/api/v1/projects/**", Set.of("GET"), 45));
+
+		assertThat(new RateLimitRouteTable(properties).resolve(request("GET", "/api/v1/projects/1")))
+				.isEqualTo(new RateLimitRouteTable.Rule(TIER_PUBLIC, 45));
+		properties.getRoutes().getFirst().setMethods(Set.of("DELETE"));
+		assertThatThrownBy(() -> new RateLimitRouteTable(properties)).isInstanceOf(IllegalStateException.class);
+	}
+
+	private static RateLimitProperties shippedProperties() throws IOException {
+		List<PropertySource<?>> documents = new YamlPropertySourceLoader()
+				.load("application", new FileSystemResource(SHIPPED_CONFIG));
+		MutablePropertySources sources = new MutablePropertySources();
+		documents.forEach(sources::addLast);
+		return new Binder(ConfigurationPropertySources.from(sources), new PropertySourcesPlaceholdersResolver(sources))
+				.bind("rate-limiting", RateLimitProperties.class)
+				.get();
+	}
+
+	private static RateLimitProperties properties(RateLimitProperties.Route route) {
+		RateLimitProperties properties = new RateLimitProperties();
+		properties.getRoutes().add(route);
+		return properties;
+	}
+
+	private static RateLimitProperties.Route route(String name, String pattern, Set<String> methods, int cost) {
+		RateLimitProperties.Route route = new RateLimitProperties.Route();
+		route.setName(name);
+		route.setPattern(pattern);
+		route.setMethods(methods);
+		route.setCost(cost);
+		return route;
+	}
+
+	private static MockHttpServletRequest request(String method, String path) {
+		return new MockHttpServletRequest(method, path);
+	}
+}
@@ -0,0 +1,218 @@
+package com.caseyquinn.personal_website.service;
+
+import com.caseyquinn.personal_website.config.MediaProxyProperties;
+import com.caseyquinn.personal_website.exception.NotFoundException;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MediaProxyServiceTest {
+
+	private static final String FOLDER = "test-images";
+	private static final String ASSET = "image/upload/v1/" + FOLDER + "/photo.jpg";
+	private static final byte[] CONTENT = "0123456789abcdefghij".getBytes(StandardCharsets.UTF_8);
+
+	@TempDir
+	Path cacheDirectory;
+
+	private HttpServer origin;
+	private final Map<String, AtomicInteger> originHits = new ConcurrentHashMap<>();
+	private final CountDownLatch releaseSlowFetch = new CountDownLatch(1);
+	private SimpleMeterRegistry meterRegistry;
+	private MediaProxyService service;
+
+	@BeforeEach
+	void setUp() throws IOException {
+		origin = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+		origin.setExecutor(Executors.newCachedThreadPool());
+		origin.createContext("/", this::handleOrigin);
+		origin.start();
+
+		MediaProxyProperties properties = new MediaProxyProperties();
+		properties.setEnabled(true);
+		properties.setOrigin("http://localhost:" + origin.getAddress().getPort());
+		properties.setCacheDirectory(cacheDirectory.resolve("media"));
+		properties.setMaxEntrySize(DataSize.ofBytes(1024));
+		properties.setFetchTimeout(Duration.ofSeconds(5));
+		meterRegistry = new SimpleMeterRegistry();
+		service = new MediaProxyService(properties, FOLDER, meterRegistry);
+		service.init();
+	}
+
+	@AfterEach
+	void tearDown() {
+		releaseSlowFetch.countDown();
+		origin.stop(0);
+	}
+
+	@Test
+	void rejectsPathsOutsideTheAllowList() {
+		List<String> rejected = List.of(
+				"image/upload/v1/" + FOLDER + "/../secret.jpg",
+				"image/upload/v1/" + FOLDER + "//photo.jpg",
+				"image/upload/v1/other-folder/photo.jpg",
+				"video/upload/v1/" + FOLDER + "/clip.mp4");
+
+		for (String path : rejected) {
+			assertThatThrownBy(() -> service.deliver(path, get(path), new MockHttpServletResponse()))
+					.as(path)
+					.isInstanceOf(NotFoundException.class);
+		}
+		assertThat(originHits).isEmpty();
+	}
+
+	@Test
+	void servesFromCacheAfterFirstFetch() throws IOException {
+		MockHttpServletResponse first = deliver(ASSET, get(ASSET));
+		MockHttpServletResponse second = deliver(ASSET, get(ASSET));
+
+		assertThat(first.getStatus()).isEqualTo(200);
+		assertThat(first.getContentAsByteArray()).isEqualTo(CONTENT);
+		assertThat(first.getContentType()).isEqualTo("image/jpeg");
+		assertThat(second.getContentAsByteArray()).isEqualTo(CONTENT);
+		assertThat(originHits.get("/" + ASSET)).hasValue(1);
+		assertThat(requests("hit")).isEqualTo(1);
+	}
+
+	@Test
+	void coalescesConcurrentMisses() throws Exception {
+		String path = "image/upload/v1/" + FOLDER + "/slow.jpg";
+		int callers = 5;
+		ExecutorService executor = Executors.newFixedThreadPool(callers);
+		try {
+			List<Future<MockHttpServletResponse>> responses = new ArrayList<>();
+			for (int i = 0; i < callers; i++) {
+				responses.add(executor.submit(() -> deliver(path, get(path))));
+			}
+
+			long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+			while (requests("coalesced") < callers - 1 && System.nanoTime() < deadline) {
+				Thread.sleep(10);
+			}
+			releaseSlowFetch.countDown();
+
+			for (Future<MockHttpServletResponse> response : responses) {
+				MockHttpServletResponse result = response.get(5, TimeUnit.SECONDS);
+				assertThat(result.getStatus()).isEqualTo(200);
+				assertThat(result.getContentAsByteArray()).isEqualTo(CONTENT);
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+		assertThat(originHits.get("/" + path)).hasValue(1);
+		assertThat(requests("miss")).isEqualTo(1);
+		assertThat(requests("coalesced")).isEqualTo(callers - 1);
+	}
+
+	@Test
+	void originNotFoundIsNotFound() {
+		String path = "image/upload/v1/" + FOLDER + "/missing.jpg";
+
+		assertThatThrownBy(() -> deliver(path, get(path))).isInstanceOf(NotFoundException.class);
+		assertThat(originHits.get("/" + path)).hasValue(1);
+	}
+
+	@Test
+	void redirectsAssetsTooLargeToCache() throws IOException {
+		String path = "raw/upload/v1/" + FOLDER + "/large.pdf";
+
+		MockHttpServletResponse response = deliver(path, get(path));
+
+		assertThat(response.getStatus()).isEqualTo(302);
+		assertThat(response.getHeader(HttpHeaders.LOCATION))
+				.isEqualTo("http://localhost:" + origin.getAddress().getPort() + "/" + path);
+		assertThat(requests("bypass")).isEqualTo(1);
+	}
+
+	@Test
+	void servesSingleByteRange() throws IOException {
+		MockHttpServletRequest request = get(ASSET);
+		request.addHeader(HttpHeaders.RANGE, "bytes=5-9");
+
+		MockHttpServletResponse response = deliver(ASSET, request);
+
+		assertThat(response.getStatus()).isEqualTo(206);
+		assertThat(response.getHeader(HttpHeaders.CONTENT_RANGE)).isEqualTo("bytes 5-9/" + CONTENT.length);
+		assertThat(response.getContentAsString()).isEqualTo("56789");
+	}
+
+	@Test
+	void answersMatchingIfNoneMatchWithNotModified() throws IOException {
+		String etag = deliver(ASSET, get(ASSET)).getHeader(HttpHeaders.ETAG);
+		MockHttpServletRequest request = get(ASSET);
+		request.addHeader(HttpHeaders.IF_NONE_MATCH, etag);
+
+		MockHttpServletResponse response = deliver(ASSET, request);
+
+		assertThat(etag).isNotBlank();
+		assertThat(response.getStatus()).isEqualTo(304);
+		assertThat(response.getContentAsByteArray()).isEmpty();
+	}
+
+	private MockHttpServletResponse deliver(String path, MockHttpServletRequest request) throws IOException {
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		service.deliver(path, request, response);
+		return response;
+	}
+
+	private static MockHttpServletRequest get(String path) {
+		return new MockHttpServletRequest("GET", "/media/" + path);
+	}
+
+	private double requests(String result) {
+		return meterRegistry.get("media.proxy.requests").tag("result", result).counter().count();
+	}
+
+	private void handleOrigin(HttpExchange exchange) throws IOException {
+		String path = exchange.getRequestURI().getPath();
+		originHits.computeIfAbsent(path, key -> new AtomicInteger()).incrementAndGet();
+		try (exchange) {
+			if (path.endsWith("/missing.jpg")) {
+				exchange.sendResponseHeaders(404, -1);
+				return;
+			}
+			if (path.endsWith("/slow.jpg")) {
+				try {
+					releaseSlowFetch.await(5, TimeUnit.SECONDS);
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			}
+			byte[] body = path.endsWith("/large.pdf") ? new byte[4096] : CONTENT;
+			exchange.getResponseHeaders().set(HttpHeaders.CONTENT_TYPE, path.endsWith(".pdf") ? "application/pdf" : "image/jpeg");
+			exchange.sendResponseHeaders(200, body.length);
+			try (OutputStream out = exchange.getResponseBody()) {
+				out.write(body);
+			}
+		}
+	}
+}